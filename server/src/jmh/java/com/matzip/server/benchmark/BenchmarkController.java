@@ -0,0 +1,13 @@
+package com.matzip.server.benchmark;
+
+import com.matzip.server.global.common.logger.Logging;
+
+/**
+ * Named and shaped like a controller so that the {@code LoggerConfig} pointcut matches it.
+ */
+public class BenchmarkController {
+    @Logging(endpoint = "GET /benchmark")
+    public int handle(Long userId, String username, int value) {
+        return value + 1;
+    }
+}
@@ -0,0 +1,89 @@
+package com.matzip.server.benchmark;
+
+import com.matzip.server.domain.comment.model.Comment;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.model.Heart;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.Scrap;
+import com.matzip.server.domain.user.model.Follow;
+import com.matzip.server.domain.user.model.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A seeded in-memory object graph shaped like a feed page: reviews with images, comments, hearts and scraps by a pool
+ * of users who follow each other. Ids and timestamps are assigned as if the entities had been loaded.
+ */
+final class Fixtures {
+    private static final String[] WORDS = {
+            "맛집", "김치찌개", "국밥", "분위기", "가성비", "친절한", "웨이팅", "재방문", "파스타", "디저트", "강남", "홍대"
+    };
+
+    final List<User> users = new ArrayList<>();
+    final List<Review> reviews = new ArrayList<>();
+    final User me;
+
+    Fixtures(int numberOfUsers, int numberOfReviews, int commentsPerReview) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.of(2023, 1, 1, 0, 0);
+        long id = 1;
+
+        for (int i = 0; i < numberOfUsers; i++) {
+            User user = new User(String.format("user-%05d", i), "password");
+            user.setUserImage("https://matzip-bucket.s3.amazonaws.com/user-%05d/profile.jpg".formatted(i));
+            user.setProfileString(sentence(random, 6));
+            loaded(user, id++, now.minusDays(random.nextInt(365)));
+            users.add(user);
+        }
+        me = users.get(0);
+
+        for (User follower : users) {
+            for (int i = 0; i < Math.min(20, numberOfUsers - 1); i++) {
+                User followee = users.get(random.nextInt(numberOfUsers));
+                if (followee != follower && follower.getFollowings().stream().noneMatch(f -> f.getFollowee() == followee))
+                    loaded(new Follow(follower, followee), id++, now);
+            }
+        }
+
+        for (int i = 0; i < numberOfReviews; i++) {
+            User author = users.get(random.nextInt(numberOfUsers));
+            Review review = new Review(author, new ReviewDto.PostRequest(sentence(random, 30), null, random.nextInt(6), sentence(random, 2)));
+            for (int j = 0; j < 3; j++) {
+                review.getReviewImages().add("https://matzip-bucket.s3.amazonaws.com/%s/%d-%d.jpg".formatted(author.getUsername(), i, j));
+            }
+            loaded(review, id++, now.minusHours(numberOfReviews - i));
+
+            for (int j = 0; j < commentsPerReview; j++) {
+                User commenter = users.get(random.nextInt(numberOfUsers));
+                loaded(new Comment(commenter, review, sentence(random, 8)), id++, review.getCreatedAt().plusMinutes(j + 1));
+            }
+            for (int j = 0; j < 10; j++) {
+                User user = users.get(random.nextInt(numberOfUsers));
+                if (user != author && user.getHearts().stream().noneMatch(h -> h.getReview() == review)) {
+                    loaded(new Heart(user, review), id++, now);
+                }
+            }
+            if (author != me && random.nextInt(4) == 0) loaded(new Scrap(me, review, sentence(random, 4)), id++, now);
+            reviews.add(review);
+        }
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sentence.append(' ');
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private static void loaded(Object entity, long id, LocalDateTime createdAt) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", createdAt);
+        ReflectionTestUtils.setField(entity, "modifiedAt", createdAt);
+    }
+}
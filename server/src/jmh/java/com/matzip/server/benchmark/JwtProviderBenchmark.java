@@ -0,0 +1,84 @@
+package com.matzip.server.benchmark;
+
+import com.matzip.server.domain.record.repository.LoginRecordRepository;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.global.auth.model.UserPrincipal;
+import com.matzip.server.global.auth.service.AuthenticationCache;
+import com.matzip.server.global.auth.service.JwtProvider;
+import com.matzip.server.global.auth.service.UserPrincipalDetailsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtProvider#getAuthentication} for a token served from {@link AuthenticationCache} and for one that has to
+ * be parsed and verified. The user and login record lookups are in-memory stubs, so the miss measures token parsing
+ * and signature verification only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtProviderBenchmark {
+    private static final String SECRET = "u7x!A%D*G-KaPdSgVkXp2s5v8y/B?E(H";
+
+    private JwtProvider cachingProvider;
+    private JwtProvider verifyingProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        User user = new Fixtures(1, 0, 0).me;
+        UserPrincipalDetailsService userPrincipalDetailsService = new UserPrincipalDetailsService(null) {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+                return new UserPrincipal(user);
+            }
+        };
+        LoginRecordRepository loginRecordRepository = new LoginRecordRepository(null) {
+            @Override
+            public Optional<String> findToken(Long userId) {
+                return Optional.of(token);
+            }
+        };
+
+        AuthenticationCache cache = new AuthenticationCache(new StringRedisTemplate(), new RedisMessageListenerContainer());
+        ReflectionTestUtils.setField(cache, "ttlMillis", Duration.ofDays(1).toMillis());
+        AuthenticationCache noCache = new AuthenticationCache(new StringRedisTemplate(), new RedisMessageListenerContainer()) {
+            @Override
+            public Optional<UserPrincipal> get(String token) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void put(String token, Long userId, String username, long tokenExpiresAt, long loadedAtGeneration) {}
+        };
+
+        cachingProvider = new JwtProvider(userPrincipalDetailsService, loginRecordRepository, cache);
+        verifyingProvider = new JwtProvider(userPrincipalDetailsService, loginRecordRepository, noCache);
+        ReflectionTestUtils.setField(cachingProvider, "SECRET", SECRET);
+        ReflectionTestUtils.setField(verifyingProvider, "SECRET", SECRET);
+
+        token = cachingProvider.generateToken(user.getUsername());
+        cachingProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication cachedToken() {
+        return cachingProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication verifiedToken() {
+        return verifyingProvider.getAuthentication(token);
+    }
+}
@@ -0,0 +1,48 @@
+package com.matzip.server.benchmark;
+
+import com.matzip.server.global.config.LoggerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of the {@link LoggerConfig} aspect on a controller method that does no work: metrics and the
+ * query counter are recorded on every call, while nothing is sampled or slow enough to be logged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerAspectBenchmark {
+    private BenchmarkController direct;
+    private BenchmarkController advised;
+    private int value;
+
+    @Setup
+    public void setUp() {
+        LoggerConfig aspect = new LoggerConfig(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aspect, "sampleRate", 0.0);
+        ReflectionTestUtils.setField(aspect, "slowMillis", Long.MAX_VALUE);
+
+        direct = new BenchmarkController();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new BenchmarkController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        advised = factory.getProxy();
+    }
+
+    @Benchmark
+    public int direct() {
+        return direct.handle(1L, "user", value++);
+    }
+
+    @Benchmark
+    public int advised() {
+        return advised.handle(1L, "user", value++);
+    }
+}
@@ -0,0 +1,25 @@
+package com.matzip.server.benchmark;
+
+import com.matzip.server.domain.record.service.PointLedgerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Level computation from a point total, which runs for every {@code /me} response and every aggregated user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointLevelBenchmark {
+    @Param({"0", "500", "100000", "10000000"})
+    private int points;
+
+    @Benchmark
+    public int levelOf() {
+        return PointLedgerService.levelOf(points);
+    }
+}
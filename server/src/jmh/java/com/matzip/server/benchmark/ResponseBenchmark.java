@@ -0,0 +1,98 @@
+package com.matzip.server.benchmark;
+
+import com.matzip.server.domain.comment.dto.CommentDto;
+import com.matzip.server.domain.comment.model.Comment;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.Scrap;
+import com.matzip.server.domain.user.dto.UserDto;
+import com.matzip.server.domain.user.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a page of review and user responses the legacy way, walking the entities' collections, and the way
+ * {@code ReviewResponseAssembler} does, from flags and counts that were read up front.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseBenchmark {
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"5", "50"})
+    private int commentsPerReview;
+
+    private User me;
+    private List<Review> page;
+    private List<User> users;
+    private Set<Long> hearted;
+    private Map<Long, Scrap> scraps;
+    private Set<Long> followings;
+    private Set<Long> followers;
+    private Map<Long, Integer> numberOfFollowers;
+    private Map<Long, Integer> numberOfFollowings;
+    private Map<Long, List<Comment>> latestComments;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = new Fixtures(200, pageSize * 5, commentsPerReview);
+        me = fixtures.me;
+        page = fixtures.reviews.subList(0, pageSize);
+        users = fixtures.users.subList(0, pageSize);
+
+        hearted = me.getHearts().stream().map(h -> h.getReview().getId()).collect(Collectors.toSet());
+        scraps = me.getScraps().stream().collect(Collectors.toMap(s -> s.getReview().getId(), s -> s));
+        followings = me.getFollowings().stream().map(f -> f.getFollowee().getId()).collect(Collectors.toSet());
+        followers = me.getFollowers().stream().map(f -> f.getFollower().getId()).collect(Collectors.toSet());
+        numberOfFollowers = fixtures.users.stream().collect(Collectors.toMap(User::getId, u -> u.getFollowers().size()));
+        numberOfFollowings = fixtures.users.stream().collect(Collectors.toMap(User::getId, u -> u.getFollowings().size()));
+        latestComments = page.stream().collect(Collectors.toMap(Review::getId, r -> r.getComments().stream()
+                .sorted(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId).reversed())
+                .limit(ReviewDto.Response.LATEST_COMMENTS)
+                .sorted(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId))
+                .toList()));
+    }
+
+    @Benchmark
+    public List<ReviewDto.Response> reviewResponsesTraversing() {
+        return page.stream().map(r -> new ReviewDto.Response(r, me)).toList();
+    }
+
+    @Benchmark
+    public List<ReviewDto.Response> reviewResponsesPrecomputed() {
+        return page.stream().map(r -> new ReviewDto.Response(
+                r, me,
+                userResponse(r.getUser()),
+                hearted.contains(r.getId()),
+                scraps.get(r.getId()),
+                latestComments.get(r.getId()).stream()
+                        .map(c -> new CommentDto.Response(c, userResponse(c.getUser())))
+                        .collect(Collectors.toList())
+        )).toList();
+    }
+
+    @Benchmark
+    public List<UserDto.Response> userResponsesTraversing() {
+        return users.stream().map(u -> new UserDto.Response(u, me)).toList();
+    }
+
+    @Benchmark
+    public List<UserDto.Response> userResponsesPrecomputed() {
+        return users.stream().map(this::userResponse).toList();
+    }
+
+    private UserDto.Response userResponse(User user) {
+        return new UserDto.Response(
+                user, me,
+                followings.contains(user.getId()), followers.contains(user.getId()),
+                numberOfFollowers.get(user.getId()), numberOfFollowings.get(user.getId()));
+    }
+}
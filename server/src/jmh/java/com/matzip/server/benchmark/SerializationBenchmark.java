@@ -0,0 +1,52 @@
+package com.matzip.server.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a feed page, {@code Slice<ReviewDto.Response>}, with an object mapper configured like the application's:
+ * Spring Boot defaults plus {@code SNAKE_CASE} property names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"20"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Slice<ReviewDto.Response> slice;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+
+        Fixtures fixtures = new Fixtures(200, pageSize, 5);
+        List<ReviewDto.Response> responses = fixtures.reviews.stream()
+                .map(r -> new ReviewDto.Response(r, fixtures.me))
+                .toList();
+        slice = new SliceImpl<>(responses, PageRequest.of(0, pageSize), true);
+    }
+
+    @Benchmark
+    public byte[] writeSlice() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(slice);
+    }
+}
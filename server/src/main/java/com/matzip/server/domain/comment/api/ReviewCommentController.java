@@ -0,0 +1,38 @@
+package com.matzip.server.domain.comment.api;
+
+import com.matzip.server.domain.comment.dto.CommentDto;
+import com.matzip.server.domain.comment.service.CommentService;
+import com.matzip.server.global.auth.model.CurrentUser;
+import com.matzip.server.global.auth.model.CurrentUsername;
+import com.matzip.server.global.common.logger.Logging;
+import com.matzip.server.global.common.validation.NullableNotBlank;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.constraints.Length;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1/reviews/{id}/comments")
+@RequiredArgsConstructor
+public class ReviewCommentController {
+    private final CommentService commentService;
+
+    @GetMapping
+    @Logging(endpoint="GET /api/v1/reviews/{pathVariable}/comments", pathVariable = true)
+    public ResponseEntity<Slice<CommentDto.Response>> fetchComments(
+            @CurrentUser Long myId,
+            @CurrentUsername String user,
+            @PathVariable("id") @NotNull @Positive Long reviewId,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Positive @Max(100) Integer size,
+            @RequestParam(value = "cursor", required = false) @NullableNotBlank @Length(max=200) String cursor
+    ) {
+        return ResponseEntity.ok(commentService.fetchComments(myId, reviewId, size, cursor));
+    }
+}
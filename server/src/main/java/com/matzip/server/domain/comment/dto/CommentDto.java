@@ -38,11 +38,15 @@ public class CommentDto {
         private final String content;
 
         public Response(Comment comment, User user) {
+            this(comment, new UserDto.Response(comment.getUser(), user));
+        }
+
+        public Response(Comment comment, UserDto.Response commenter) {
             this.id = comment.getId();
             this.createdAt = comment.getCreatedAt();
             this.modifiedAt = comment.getModifiedAt();
             this.reviewId = comment.getReview().getId();
-            this.user = new UserDto.Response(comment.getUser(), user);
+            this.user = commenter;
             this.content = comment.getContent();
         }
     }
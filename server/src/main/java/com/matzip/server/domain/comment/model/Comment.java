@@ -10,7 +10,9 @@ import lombok.Setter;
 import javax.persistence.*;
 
 @Entity
-@Table(name="comment")
+@Table(name="comment", indexes={
+        @Index(name="idx_comment_review_created_at", columnList="review_id, createdAt, id")
+})
 @NoArgsConstructor
 @Getter @Setter
 public class Comment extends BaseTimeEntity {
@@ -29,12 +31,12 @@ public class Comment extends BaseTimeEntity {
         this.review = review;
         this.content = content;
         user.getComments().add(this);
-        review.getComments().add(this);
+        review.addComment(this);
     }
 
     @Override
     public void delete() {
         user.getComments().remove(this);
-        review.getComments().remove(this);
+        review.removeComment(this);
     }
 }
\ No newline at end of file
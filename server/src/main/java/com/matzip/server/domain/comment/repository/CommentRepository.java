@@ -1,12 +1,15 @@
 package com.matzip.server.domain.comment.repository;
 
 import com.matzip.server.domain.comment.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user LEFT JOIN FETCH c.review WHERE c.id = :id")
     Optional<Comment> findById(Long id);
 
+    @Query(value = "SELECT ranked.id, ranked.created_at, ranked.modified_at, ranked.content, ranked.review_id, ranked.user_id " +
+                   "FROM (SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.review_id ORDER BY c.created_at DESC, c.id DESC) AS rn " +
+                   "FROM comment c WHERE c.review_id IN :reviewIds) ranked " +
+                   "WHERE ranked.rn <= :limit", nativeQuery = true)
+    List<Comment> findLatestByReviewIds(@Param("reviewIds") Collection<Long> reviewIds, @Param("limit") int limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.review.id = :reviewId AND " +
+           "(c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) ORDER BY c.createdAt, c.id")
+    List<Comment> findAllByReviewIdAfter(
+            @Param("reviewId") Long reviewId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
     @Modifying
     @Query("DELETE FROM Comment c WHERE c.review.id = :reviewId")
     void deleteAllByReviewId(@Param("reviewId")Long reviewId);
@@ -11,32 +11,78 @@ import com.matzip.server.domain.review.dto.ReviewDto.Response;
 import com.matzip.server.domain.review.exception.ReviewNotFoundException;
 import com.matzip.server.domain.review.model.Review;
 import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent.Activity;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.model.Cursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly=true)
 public class CommentService {
+    private static final LocalDateTime NO_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
     private final CommentRepository commentRepository;
     private final RecordService recordService;
+    private final ReviewResponseAssembler reviewResponseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Oldest-first page of a review's comments, keyed on (createdAt, id) so every page is a range scan of the
+     * (review_id, created_at, id) index regardless of how long the thread is.
+     */
+    public CursorSlice<CommentDto.Response> fetchComments(Long myId, Long reviewId, int size, String cursorToken) {
+        User me = userRepository.findMeById(myId);
+        if (!reviewRepository.existsById(reviewId)) throw new ReviewNotFoundException(reviewId);
+
+        Cursor cursor = Cursor.decode(cursorToken, null, true);
+        List<Comment> comments = new ArrayList<>(commentRepository.findAllByReviewIdAfter(
+                reviewId,
+                cursor == null ? NO_CREATED_AT : cursor.createdAt(),
+                cursor == null ? 0L : cursor.id(),
+                PageRequest.of(0, size + 1)));
+
+        boolean hasNext = comments.size() > size;
+        String nextCursor = null;
+        if (hasNext) {
+            comments.remove(size);
+            Comment last = comments.get(size - 1);
+            nextCursor = Cursor.of(null, true, last.getId(), last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorSlice<>(reviewResponseAssembler.toCommentResponses(comments, me),
+                                 PageRequest.of(0, size), hasNext, nextCursor);
+    }
 
     @Transactional
     public Response postComment(Long myId, CommentDto.PostRequest request) {
         User me = userRepository.findMeById(myId);
         Long reviewId = request.getReviewId();
-        Review review = reviewRepository.findByIdFetchJoinComments(reviewId).orElseThrow(() -> new ReviewNotFoundException(reviewId));
+        Review review = reviewRepository.findById(reviewId).orElseThrow(() -> new ReviewNotFoundException(reviewId));
 
         commentRepository.save(new Comment(me, review, request.getContent()));
+        reviewRepository.engage(reviewId, 0, 0, 1);
 
         recordService.postComment(review, me);
+        eventPublisher.publishEvent(ReviewIndexEvent.saved(reviewId));
+        eventPublisher.publishEvent(ReviewActivityEvent.of(reviewId, Activity.COMMENT));
 
-        return new Response(review, me);
+        return reviewResponseAssembler.toResponse(review, me);
     }
 
     @Transactional
@@ -48,8 +94,10 @@ public class CommentService {
 
         comment.setContent(request.content());
         comment.update();
+        comment.getReview().engage();
+        reviewRepository.engage(comment.getReview().getId());
 
-        return new Response(comment.getReview(), me);
+        return reviewResponseAssembler.toResponse(comment.getReview(), me);
     }
 
     @Transactional
@@ -61,8 +109,12 @@ public class CommentService {
 
         comment.delete();
         commentRepository.delete(comment);
+        reviewRepository.engage(comment.getReview().getId(), 0, 0, -1);
         recordService.deleteComment(comment.getReview(), me);
+        eventPublisher.publishEvent(ReviewIndexEvent.saved(comment.getReview().getId()));
+        eventPublisher.publishEvent(ReviewActivityEvent.undo(comment.getReview().getId(), Activity.COMMENT,
+                                                         comment.getCreatedAt()));
 
-        return new Response(comment.getReview(), me);
+        return reviewResponseAssembler.toResponse(comment.getReview(), me);
     }
 }
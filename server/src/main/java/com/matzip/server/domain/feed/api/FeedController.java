@@ -0,0 +1,37 @@
+package com.matzip.server.domain.feed.api;
+
+import com.matzip.server.domain.feed.service.FeedService;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.global.auth.model.CurrentUser;
+import com.matzip.server.global.common.logger.Logging;
+import com.matzip.server.global.common.validation.NullableNotBlank;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.constraints.Length;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1/me/feed")
+@RequiredArgsConstructor
+public class FeedController {
+    private final FeedService feedService;
+
+    @GetMapping
+    @Logging(endpoint="GET /api/v1/me/feed", queryBudget=20)
+    public ResponseEntity<Slice<ReviewDto.Response>> getFeed(
+            @CurrentUser Long myId,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Positive @Max(100) Integer size,
+            @RequestParam(value = "cursor", required = false) @NullableNotBlank @Length(max=200) String cursor
+    ) {
+        return ResponseEntity.ok(feedService.getFeed(myId, size, cursor));
+    }
+}
@@ -0,0 +1,7 @@
+package com.matzip.server.domain.feed.model;
+
+public record FeedEvent(Long reviewId, Long authorId) {
+    public static FeedEvent posted(Long reviewId, Long authorId) {
+        return new FeedEvent(reviewId, authorId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.matzip.server.domain.feed.model;
+
+public record FollowEvent(Long followerId, Long followeeId) {
+    public static FollowEvent changed(Long followerId, Long followeeId) {
+        return new FollowEvent(followerId, followeeId);
+    }
+}
@@ -0,0 +1,256 @@
+package com.matzip.server.domain.feed.service;
+
+import com.matzip.server.domain.feed.model.FeedEvent;
+import com.matzip.server.domain.feed.model.FollowEvent;
+import com.matzip.server.domain.relation.model.RelationIndex;
+import com.matzip.server.domain.relation.model.RelationType;
+import com.matzip.server.domain.relation.service.RelationService;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.domain.user.repository.FollowRepository;
+import com.matzip.server.domain.user.repository.FollowRepository.FollowCount;
+import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.datasource.ReplicaRoutingDataSource;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.model.Cursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Home timeline of reviews by followed users. New reviews are pushed into the followers' Redis sorted sets
+ * ({@code feed:<userId>}, scored by review id and capped), except for authors with more than
+ * {@code matzip.feed.fan-out-limit} followers, whose reviews are pulled from MySQL at read time and merged in.
+ * An author stays on the pull path once switched, so none of their reviews fall between the two paths.
+ * Timelines expire when unused and are rebuilt from MySQL on the next first-page read; pages that run past the
+ * oldest id of a capped timeline are read from MySQL as well. A transaction reading from a replica never rebuilds
+ * a timeline; its first page is read from MySQL directly. A follow or unfollow drops the follower's timeline,
+ * so the next read rebuilds it with the new followings.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class FeedService {
+    private static final String KEY_PREFIX = "feed:";
+    private static final String PULL_AUTHORS_KEY = "feed:pull-authors";
+    private static final String SENTINEL = "0";
+    private static final LocalDateTime NO_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final RedisScript<Long> PUSH = RedisScript.of("""
+            local pushed = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('EXISTS', key) == 1 then
+                    redis.call('ZADD', key, ARGV[1], ARGV[1])
+                    redis.call('ZREMRANGEBYRANK', key, 0, -tonumber(ARGV[2]) - 2)
+                    pushed = pushed + 1
+                end
+            end
+            return pushed
+            """, Long.class);
+
+    private final UserRepository userRepository;
+    private final ReviewRepository reviewRepository;
+    private final FollowRepository followRepository;
+    private final RelationService relationService;
+    private final ReviewResponseAssembler reviewResponseAssembler;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor feedFanOutExecutor;
+
+    @Value("${matzip.feed.capacity:800}")
+    private int capacity = 800;
+
+    @Value("${matzip.feed.fan-out-limit:5000}")
+    private long fanOutLimit = 5000;
+
+    @Value("${matzip.feed.fan-out.batch-size:500}")
+    private int fanOutBatchSize = 500;
+
+    @Value("${matzip.feed.ttl-days:7}")
+    private long ttlDays = 7;
+
+    public FeedService(
+            UserRepository userRepository,
+            ReviewRepository reviewRepository,
+            FollowRepository followRepository,
+            RelationService relationService,
+            ReviewResponseAssembler reviewResponseAssembler,
+            StringRedisTemplate redisTemplate,
+            @Qualifier("feedFanOutExecutor") Executor feedFanOutExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.reviewRepository = reviewRepository;
+        this.followRepository = followRepository;
+        this.relationService = relationService;
+        this.reviewResponseAssembler = reviewResponseAssembler;
+        this.redisTemplate = redisTemplate;
+        this.feedFanOutExecutor = feedFanOutExecutor;
+    }
+
+    private String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    public CursorSlice<ReviewDto.Response> getFeed(Long myId, int size, String cursorToken) {
+        User me = userRepository.findMeById(myId);
+        Cursor cursor = Cursor.decode(cursorToken, null, false);
+        long beforeId = cursor == null ? Long.MAX_VALUE : cursor.id();
+        Pageable pageable = PageRequest.of(0, size);
+
+        RelationIndex followings = relationService.indexOf(me.getId(), RelationType.FOLLOWING);
+        if (followings.size() == 0) return new CursorSlice<>(List.of(), pageable, false, null);
+
+        List<Long> ids;
+        try {
+            ids = timelineIds(me.getId(), followings, beforeId, cursor == null, size + 1);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read timeline of user {}, pulling from database: {}", me.getId(), e.getMessage());
+            ids = reviewRepository.findIdsByUserIdsBefore(followings.toList(), beforeId, PageRequest.of(0, size + 1));
+        }
+
+        boolean hasNext = ids.size() > size;
+        if (hasNext) ids = ids.subList(0, size);
+
+        Map<Long, Review> reviews = reviewRepository.findAllByIdInFetchJoinUser(ids).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        List<Review> page = ids.stream().map(reviews::get)
+                .filter(r -> r != null && followings.contains(r.getUser().getId()))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastId = ids.get(ids.size() - 1);
+            LocalDateTime createdAt = reviews.containsKey(lastId) ? reviews.get(lastId).getCreatedAt() : NO_CREATED_AT;
+            nextCursor = Cursor.of(null, false, lastId, createdAt, lastId).encode();
+        }
+
+        return new CursorSlice<>(reviewResponseAssembler.toResponses(page, me), pageable, hasNext, nextCursor);
+    }
+
+    private List<Long> timelineIds(Long myId, RelationIndex followings, long beforeId, boolean firstPage, int limit) {
+        String key = keyOf(myId);
+        if (firstPage) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                // A lagging replica would be cached for days, so the timeline waits for a read on the primary.
+                if (ReplicaRoutingDataSource.isReadingFromReplica()) {
+                    return reviewRepository.findIdsByUserIdsBefore(followings.toList(), beforeId,
+                                                                   PageRequest.of(0, limit));
+                }
+                rebuild(key, followings);
+            }
+            redisTemplate.expire(key, Duration.ofDays(ttlDays));
+        }
+
+        List<String> range = new ArrayList<>(Optional.ofNullable(redisTemplate.opsForZSet()
+                .reverseRangeByScore(key, 0, beforeId - 1, 0, limit)).orElse(Set.of()));
+        boolean complete = range.remove(SENTINEL);
+        List<Long> pushed = range.stream().map(Long::valueOf).toList();
+        if (!complete && pushed.size() < limit) {
+            long olderThan = pushed.isEmpty() ? beforeId : pushed.get(pushed.size() - 1);
+            pushed = Stream.concat(pushed.stream(), reviewRepository.findIdsByUserIdsBefore(
+                    followings.toList(), olderThan, PageRequest.of(0, limit - pushed.size())).stream()).toList();
+        }
+
+        List<Long> pullAuthorIds = Optional.ofNullable(redisTemplate.opsForSet().members(PULL_AUTHORS_KEY))
+                .orElse(Set.of()).stream()
+                .map(Long::valueOf).filter(followings::contains).toList();
+        List<Long> pulled = pullAuthorIds.isEmpty() ? List.of() :
+                            reviewRepository.findIdsByUserIdsBefore(pullAuthorIds, beforeId, PageRequest.of(0, limit));
+
+        return Stream.concat(pushed.stream(), pulled.stream())
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Loads the newest {@code capacity} ids. The sentinel marks a timeline that reaches back to the first review
+     * of its followings; it is only added when fewer ids exist, and trimming on push removes it first.
+     * <p>
+     * A review fanned out between the load and the ZADD found no key and was skipped, so ids newer than the load
+     * are read again once the key exists; any push after that point lands in the key itself.
+     */
+    private void rebuild(String key, RelationIndex followings) {
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        List<Long> ids = reviewRepository.findIdsByUserIdsBefore(followings.toList(), Long.MAX_VALUE,
+                                                                 PageRequest.of(0, capacity));
+        if (ids.size() < capacity) tuples.add(new DefaultTypedTuple<>(SENTINEL, 0.0));
+        ids.forEach(id -> tuples.add(new DefaultTypedTuple<>(String.valueOf(id), id.doubleValue())));
+        redisTemplate.opsForZSet().add(key, tuples);
+
+        long newestId = ids.isEmpty() ? 0 : ids.get(0);
+        List<Long> missed = reviewRepository.findIdsByUserIdsAfter(followings.toList(), newestId,
+                                                                   PageRequest.of(0, capacity));
+        if (missed.isEmpty()) return;
+        redisTemplate.opsForZSet().add(key, missed.stream()
+                .map(id -> (TypedTuple<String>) new DefaultTypedTuple<>(String.valueOf(id), id.doubleValue()))
+                .collect(Collectors.toSet()));
+        redisTemplate.opsForZSet().removeRange(key, 0, -capacity - 2);
+    }
+
+    /**
+     * Pushes a new review to the followers' timelines after the posting transaction commits. Only timelines that
+     * currently exist are touched; missing ones are rebuilt on read anyway.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void fanOut(FeedEvent event) {
+        feedFanOutExecutor.execute(() -> {
+            try {
+                push(event);
+            } catch (DataAccessException e) {
+                log.warn("Failed to fan out review {}: {}", event.reviewId(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Drops the follower's timeline after a follow or unfollow commits. Otherwise it would keep serving the old
+     * followings, and keep missing the new followee's reviews, until it expired.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void invalidate(FollowEvent event) {
+        try {
+            redisTemplate.delete(keyOf(event.followerId()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to drop timeline of user {}: {}", event.followerId(), e.getMessage());
+        }
+    }
+
+    private void push(FeedEvent event) {
+        long followers = followRepository.countFollowersByUserIds(List.of(event.authorId())).stream()
+                .findFirst().map(FollowCount::getTotal).orElse(0L);
+        if (followers > fanOutLimit) {
+            redisTemplate.opsForSet().add(PULL_AUTHORS_KEY, String.valueOf(event.authorId()));
+            return;
+        }
+
+        List<String> keys = relationService.indexOf(event.authorId(), RelationType.FOLLOWER).toList().stream()
+                .map(this::keyOf).toList();
+        for (int from = 0; from < keys.size(); from += fanOutBatchSize) {
+            redisTemplate.execute(PUSH, keys.subList(from, Math.min(keys.size(), from + fanOutBatchSize)),
+                                  String.valueOf(event.reviewId()), String.valueOf(capacity));
+        }
+    }
+}
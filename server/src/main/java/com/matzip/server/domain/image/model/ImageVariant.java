@@ -0,0 +1,53 @@
+package com.matzip.server.domain.image.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Downscaled JPEG renditions generated for every uploaded image. Variant objects live next to the original under
+ * a derived key, so their URLs can be computed from the original URL alone. Keys of uploads whose variants are
+ * guaranteed to exist carry {@link #MARKER} before the upload timestamp; other images (uploaded before variants existed)
+ * resolve their variant URLs to the original.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL("w320", 320),
+    PREVIEW("w1080", 1080)
+    ;
+
+    public static final String MARKER = "v";
+    private static final Pattern MARKED_KEY = Pattern.compile("-" + MARKER + "-\\d{18}-[0-9a-f]{8}(-|$)");
+
+    private final String suffix;
+    private final int width;
+
+    /**
+     * The marker is placed right before the upload timestamp and random id, which is where it is looked for.
+     */
+    public static String markedKeyOf(String username, String timestampAndId) {
+        return username + "-" + MARKER + "-" + timestampAndId;
+    }
+
+    public static boolean hasVariants(String originalKey) {
+        return MARKED_KEY.matcher(originalKey).find();
+    }
+
+    public String keyOf(String originalKey) {
+        return originalKey + "_" + suffix + ".jpg";
+    }
+
+    public String urlOf(String originalUrl) {
+        int keyStart = originalUrl.lastIndexOf('/') + 1;
+        String originalKey = originalUrl.substring(keyStart);
+        if (!hasVariants(originalKey)) return originalUrl;
+        return originalUrl.substring(0, keyStart) + keyOf(originalKey);
+    }
+
+    public List<String> urlsOf(List<String> originalUrls) {
+        return originalUrls.stream().map(this::urlOf).toList();
+    }
+}
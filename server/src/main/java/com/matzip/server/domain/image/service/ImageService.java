@@ -3,57 +3,95 @@ package com.matzip.server.domain.image.service;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.matzip.server.domain.image.exception.FileDeleteException;
 import com.matzip.server.domain.image.exception.FileUploadException;
 import com.matzip.server.domain.image.exception.UnsupportedFileExtensionException;
-import lombok.RequiredArgsConstructor;
+import com.matzip.server.domain.image.model.ImageVariant;
+import com.matzip.server.global.common.exception.MatzipException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ImageService {
     private final AmazonS3 amazonS3;
+    private final Executor imageUploadExecutor;
+    private final Executor imageProcessingExecutor;
+    private final ImageTranscoder imageTranscoder;
+    private final AtomicLong queuedBytes = new AtomicLong();
 
-    private final SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyyMMddHHmmssSSSS");
+    private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSS");
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    @Value("${matzip.image.processing.max-queued-bytes:67108864}")
+    private long maxQueuedBytes = 67108864;
+
+    public ImageService(
+            AmazonS3 amazonS3,
+            @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+            @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+            ImageTranscoder imageTranscoder
+    ) {
+        this.amazonS3 = amazonS3;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.imageTranscoder = imageTranscoder;
+    }
+
     private String generateFileName(String username, String originalFileName) {
-        return username + "-" + simpleDateFormat.format(new Date()) + (originalFileName != null ? "-" + originalFileName : "") ;
+        return ImageVariant.markedKeyOf(
+                username, dateTimeFormatter.format(LocalDateTime.now()) + "-" + UUID.randomUUID().toString().substring(0, 8)
+                          + (originalFileName != null ? "-" + originalFileName : ""));
     }
 
-    public String uploadImage(String username, MultipartFile image) {
+    private String checkContentType(MultipartFile image) {
         Optional<String> imageContentType = Optional.ofNullable(image.getContentType());
         if (imageContentType.isEmpty() || !imageContentType.get().contains("image")) throw new UnsupportedFileExtensionException();
+        return imageContentType.get();
+    }
+
+    /**
+     * Stores the original with its metadata stripped and copies it to every variant key, so variant URLs derived by
+     * {@link ImageVariant#urlOf} resolve immediately. The background job then overwrites the copies with downscaled
+     * renditions; when it is skipped (GIFs, undecodable images, a full queue) the copies stay.
+     */
+    public String uploadImage(String username, MultipartFile image) {
+        String contentType = checkContentType(image);
 
         String fileName = generateFileName(username, image.getOriginalFilename());
 
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentType(imageContentType.get());
-        objectMetadata.setContentLength(image.getSize());
+        try {
+            byte[] bytes = image.getBytes();
+            Optional<BufferedImage> decoded = imageTranscoder.decode(bytes);
+            if (decoded.isPresent()) bytes = imageTranscoder.stripMetadata(decoded.get(), contentType).orElse(bytes);
 
-        try (InputStream inputStream = image.getInputStream()) {
-            amazonS3.putObject(
-                    new PutObjectRequest(bucketName, fileName, inputStream, objectMetadata).withCannedAcl(
-                            CannedAccessControlList.PublicRead));
+            putObject(fileName, bytes, contentType);
+            for (ImageVariant variant : ImageVariant.values()) copyObject(fileName, variant.keyOf(fileName));
+            if (decoded.isPresent() && !"image/gif".equals(contentType)) generateVariants(fileName, bytes);
         } catch (SdkClientException | IOException e) {
             log.error("File Upload Error", e);
             throw new FileUploadException();
@@ -61,19 +99,74 @@ public class ImageService {
         return amazonS3.getUrl(bucketName, fileName).toString();
     }
 
+    private void putObject(String key, byte[] bytes, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(bytes.length);
+
+        amazonS3.putObject(
+                new PutObjectRequest(bucketName, key, new ByteArrayInputStream(bytes), objectMetadata).withCannedAcl(
+                        CannedAccessControlList.PublicRead));
+    }
+
+    private void copyObject(String sourceKey, String destinationKey) {
+        amazonS3.copyObject(new CopyObjectRequest(bucketName, sourceKey, bucketName, destinationKey)
+                                    .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+    }
+
+    /**
+     * Queues the encoded bytes rather than the decoded image, and only while the queued bytes stay under
+     * {@code matzip.image.processing.max-queued-bytes}; each job decodes its image when it runs.
+     */
+    private void generateVariants(String fileName, byte[] bytes) {
+        if (queuedBytes.addAndGet(bytes.length) > maxQueuedBytes) {
+            queuedBytes.addAndGet(-bytes.length);
+            log.warn("Skipped variant generation of {}: {} bytes already queued", fileName, queuedBytes.get());
+            return;
+        }
+        try {
+            imageProcessingExecutor.execute(() -> {
+                try {
+                    imageTranscoder.decode(bytes).ifPresent(image -> {
+                        for (ImageVariant variant : ImageVariant.values()) {
+                            try {
+                                putObject(variant.keyOf(fileName), imageTranscoder.resizeToJpeg(image, variant.getWidth()), "image/jpeg");
+                            } catch (SdkClientException | IOException e) {
+                                log.warn("Failed to generate {} variant of {}: {}", variant, fileName, e.getMessage());
+                            }
+                        }
+                    });
+                } finally {
+                    queuedBytes.addAndGet(-bytes.length);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedBytes.addAndGet(-bytes.length);
+            log.warn("Skipped variant generation of {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * Uploads all images concurrently on the bounded upload executor. Either every image is stored, or the ones
+     * that did succeed are deleted again and the first failure is rethrown. Callers must not hold a transaction, so
+     * that no database connection is pinned while waiting on S3.
+     */
     public List<String> uploadImages(String username, List<MultipartFile> images) {
-        ArrayList<String> uploadedImages = new ArrayList<>();
+        images.forEach(this::checkContentType);
+
+        List<CompletableFuture<String>> uploads = images.stream()
+                .map(image -> CompletableFuture.supplyAsync(() -> uploadImage(username, image), imageUploadExecutor))
+                .toList();
+
         try {
-            for (MultipartFile image : images) {
-                uploadedImages.add(uploadImage(username, image));
-            }
-        } catch (FileUploadException e) {
-            for (String uploadedImage : uploadedImages) {
-                deleteImage(uploadedImage);
-            }
-            throw e;
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            deleteImages(uploads.stream().filter(u -> !u.isCompletedExceptionally()).map(CompletableFuture::join).toList());
+            if (e.getCause() instanceof MatzipException cause) throw cause;
+            log.error("File Upload Error", e.getCause());
+            throw new FileUploadException();
         }
-        return uploadedImages;
+        return uploads.stream().map(CompletableFuture::join).toList();
     }
 
     public String deleteImage(String url) {
@@ -84,6 +177,13 @@ public class ImageService {
             log.error("File Delete Error", e);
             throw new FileDeleteException();
         }
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                amazonS3.deleteObject(new DeleteObjectRequest(bucketName, variant.keyOf(key)));
+            } catch (SdkClientException e) {
+                log.warn("Failed to delete {} variant of {}: {}", variant, key, e.getMessage());
+            }
+        }
         return url;
     }
 
@@ -0,0 +1,191 @@
+package com.matzip.server.domain.image.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Decodes and re-encodes images with ImageIO. Re-encoding drops EXIF and other metadata blocks, which is how
+ * location data is stripped from uploads; the EXIF orientation is applied to the pixels first so that the
+ * re-encoded image still displays upright.
+ */
+@Component
+public class ImageTranscoder {
+    private static final float ORIGINAL_QUALITY = 0.9f;
+    private static final float VARIANT_QUALITY = 0.8f;
+
+    @Value("${matzip.image.max-pixels:16000000}")
+    private long maxPixels = 16_000_000;
+
+    /**
+     * Reads the dimensions from the header before decoding, and decodes images above
+     * {@code matzip.image.max-pixels} subsampled so that no upload can allocate more than the cap.
+     */
+    public Optional<BufferedImage> decode(byte[] bytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            if (input == null) return Optional.empty();
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return Optional.empty();
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (pixels > maxPixels) {
+                    int step = (int) Math.ceil(Math.sqrt((double) pixels / maxPixels));
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return Optional.of(orient(reader.read(0, param), orientationOf(bytes)));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Re-encodes an original in its own format. Returns empty for formats ImageIO cannot write losslessly enough
+     * (animated GIFs, formats without a writer), in which case the upload is stored as is.
+     */
+    public Optional<byte[]> stripMetadata(BufferedImage image, String contentType) throws IOException {
+        if ("image/jpeg".equals(contentType)) return Optional.of(encodeJpeg(toRgb(image), ORIGINAL_QUALITY));
+        if ("image/png".equals(contentType)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return Optional.of(out.toByteArray());
+        }
+        return Optional.empty();
+    }
+
+    public byte[] resizeToJpeg(BufferedImage image, int width) throws IOException {
+        if (image.getWidth() <= width) return encodeJpeg(toRgb(image), VARIANT_QUALITY);
+
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return encodeJpeg(resized, VARIANT_QUALITY);
+    }
+
+    /**
+     * Returns the EXIF orientation (1-8) of a JPEG, or 1 when the image is not a JPEG or carries no orientation.
+     */
+    static int orientationOf(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if ((buffer.getShort(0) & 0xFFFF) != 0xFFD8) return 1;
+
+            int offset = 2;
+            while (offset + 4 <= bytes.length) {
+                int marker = buffer.getShort(offset) & 0xFFFF;
+                int length = buffer.getShort(offset + 2) & 0xFFFF;
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) return 1;
+                if (marker == 0xFFE1 && isExif(bytes, offset + 4)) return orientationOf(buffer, offset + 10);
+                offset += 2 + length;
+            }
+        } catch (IndexOutOfBoundsException ignored) {}
+        return 1;
+    }
+
+    private static boolean isExif(byte[] bytes, int offset) {
+        return offset + 6 <= bytes.length && bytes[offset] == 'E' && bytes[offset + 1] == 'x' && bytes[offset + 2] == 'i'
+               && bytes[offset + 3] == 'f' && bytes[offset + 4] == 0 && bytes[offset + 5] == 0;
+    }
+
+    private static int orientationOf(ByteBuffer buffer, int tiff) {
+        int byteOrder = buffer.getShort(tiff) & 0xFFFF;
+        if (byteOrder != 0x4949 && byteOrder != 0x4D4D) return 1;
+
+        ByteBuffer ordered = buffer.duplicate().order(byteOrder == 0x4949 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff + ordered.getInt(tiff + 4);
+        int entries = ordered.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if ((ordered.getShort(entry) & 0xFFFF) == 0x0112) {
+                int orientation = ordered.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation == 1) return image;
+
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);
+        };
+        boolean transposed = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(transposed ? h : w, transposed ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) return image;
+
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -13,6 +13,8 @@ import org.hibernate.validator.constraints.Length;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Validated
 public class MeDto {
     public record PasswordChangeRequest(@Password String password) {}
@@ -27,12 +29,21 @@ public class MeDto {
         private final ListResponse<CommentDto.Response> comments;
         private final ListResponse<ReviewDto.Response> scraps;
 
-        public Response(User me) {
-            super(me, me);
+        public Response(
+                User me,
+                List<ReviewDto.Response> reviews, String nextReviewsCursor,
+                List<ReviewDto.Response> scraps, int matzipLevel
+        ) {
+            super(me, me,
+                  me.getFollowers().stream().anyMatch(f -> f.getFollower() == me),
+                  me.getFollowings().stream().anyMatch(f -> f.getFollowee() == me),
+                  me.getFollowers().size(), me.getFollowings().size(),
+                  reviews, nextReviewsCursor);
+            this.matzipLevel = matzipLevel;
             myFollowers = new ListResponse<>(me.getFollowers().stream().map(Follow::getFollower).map(u -> new UserDto.Response(u, me)));
             myFollowings = new ListResponse<>(me.getFollowings().stream().map(Follow::getFollowee).map(u -> new UserDto.Response(u, me)));
             comments = new ListResponse<>(me.getComments().stream().map(c -> new CommentDto.Response(c, me)));
-            scraps = new ListResponse<>(me.getScraps().stream().map(ReviewDto.Response::new));
+            this.scraps = new ListResponse<>(scraps.stream());
         }
     }
 }
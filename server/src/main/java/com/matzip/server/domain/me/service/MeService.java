@@ -1,25 +1,37 @@
 package com.matzip.server.domain.me.service;
 
+import com.matzip.server.domain.comment.model.Comment;
 import com.matzip.server.domain.comment.repository.CommentRepository;
 import com.matzip.server.domain.image.service.ImageService;
 import com.matzip.server.domain.me.dto.MeDto.*;
+import com.matzip.server.domain.record.service.PointLedgerService;
 import com.matzip.server.domain.record.service.RecordService;
+import com.matzip.server.domain.review.model.Heart;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.Scrap;
 import com.matzip.server.domain.review.repository.HeartRepository;
 import com.matzip.server.domain.review.repository.ReviewRepository;
 import com.matzip.server.domain.review.repository.ScrapRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
+import com.matzip.server.domain.search.model.UsernameIndexEvent;
 import com.matzip.server.domain.user.exception.UsernameAlreadyExistsException;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.FollowRepository;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.domain.user.service.UserService;
 import com.matzip.server.global.auth.service.JwtProvider;
+import com.matzip.server.global.common.dto.CursorSlice;
 import com.matzip.server.global.common.model.BaseTimeEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,7 +46,11 @@ public class MeService {
     private final PasswordEncoder passwordEncoder;
     private final ImageService imageService;
     private final RecordService recordService;
+    private final PointLedgerService pointLedgerService;
     private final JwtProvider jwtProvider;
+    private final UserService userService;
+    private final ReviewResponseAssembler reviewResponseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void changePassword(Long myId, PasswordChangeRequest passwordChangeRequest) {
@@ -52,13 +68,17 @@ public class MeService {
         me.setUsername(username);
         String token = jwtProvider.generateToken(username);
         recordService.changeUsername(me, token);
+        jwtProvider.invalidate(myId);
+        eventPublisher.publishEvent(UsernameIndexEvent.saved(myId, username));
+        reviewRepository.findIdsByUserIds(List.of(myId))
+                .forEach(id -> eventPublisher.publishEvent(ReviewIndexEvent.saved(id)));
 
-        return new UsernameResponse(new Response(me), token);
+        return new UsernameResponse(responseOf(me), token);
     }
 
     public Response getMe(Long myId) {
         User me = userRepository.findMeById(myId);
-        return new Response(me);
+        return responseOf(me);
     }
 
     @Transactional
@@ -68,16 +88,25 @@ public class MeService {
         if (me.getUserImage() != null) imageService.deleteImage(me.getUserImage());
 
         List<Long> reviewIds = me.getReviews().stream().map(BaseTimeEntity::getId).toList();
-
+        List<Long> engagedReviewIds = Stream.of(
+                me.getHearts().stream().map(Heart::getReview),
+                me.getScraps().stream().map(Scrap::getReview),
+                me.getComments().stream().map(Comment::getReview)
+        ).flatMap(s -> s).map(BaseTimeEntity::getId).filter(id -> !reviewIds.contains(id)).distinct().toList();
 
         heartRepository.deleteAllByUserIdOrReviewIds(myId, reviewIds);
         scrapRepository.deleteAllByUserIdOrReviewIds(myId, reviewIds);
         commentRepository.deleteAllByUserIdOrReviewIds(myId, reviewIds);
         reviewRepository.deleteAllByUserIdOrReviewIds(myId, reviewIds);
         followRepository.deleteAllByUserId(myId);
+        if (!engagedReviewIds.isEmpty()) reviewRepository.synchronizeCounters(engagedReviewIds);
+        reviewIds.forEach(id -> eventPublisher.publishEvent(ReviewIndexEvent.deleted(id)));
+        engagedReviewIds.forEach(id -> eventPublisher.publishEvent(ReviewIndexEvent.saved(id)));
+        eventPublisher.publishEvent(UsernameIndexEvent.deleted(myId));
 
         me.delete();
         userRepository.delete(me);
+        jwtProvider.invalidate(myId);
         SecurityContextHolder.clearContext();
     }
 
@@ -89,6 +118,15 @@ public class MeService {
         if (request.profile() != null) me.setProfileString(request.profile());
 
         me.update();
-        return new Response(me);
+        return responseOf(me);
+    }
+
+    private Response responseOf(User me) {
+        CursorSlice<Review> reviews = userService.profileReviewsOf(me);
+        List<Review> scrapedReviews = me.getScraps().stream().map(Scrap::getReview).toList();
+        return new Response(me,
+                            reviewResponseAssembler.toResponses(reviews.getContent(), me), reviews.getNextCursor(),
+                            reviewResponseAssembler.toResponses(scrapedReviews, me),
+                            pointLedgerService.levelOf(me));
     }
 }
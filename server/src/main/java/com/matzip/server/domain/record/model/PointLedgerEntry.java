@@ -0,0 +1,32 @@
+package com.matzip.server.domain.record.model;
+
+import com.matzip.server.global.common.model.BaseTimeEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name="point_ledger", indexes={
+        @Index(name="idx_point_ledger_aggregated_at", columnList="aggregatedAt"),
+        @Index(name="idx_point_ledger_user_id_aggregated_at", columnList="userId, aggregatedAt")
+})
+@NoArgsConstructor
+@Getter
+public class PointLedgerEntry extends BaseTimeEntity {
+    private Long userId;
+    private Integer points;
+    private LocalDateTime aggregatedAt;
+
+    public PointLedgerEntry(Long userId, int points) {
+        this.userId = userId;
+        this.points = points;
+    }
+
+    @Override
+    public void delete() {
+    }
+}
@@ -1,7 +1,94 @@
 package com.matzip.server.domain.record.repository;
 
-import com.matzip.server.domain.record.model.LoginRecord;
-import org.springframework.data.repository.CrudRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
 
-public interface LoginRecordRepository extends CrudRepository<LoginRecord, Long> {
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Login records as plain Redis hashes ({@code loginRecord:<userId>} with {@code token} and
+ * {@code lastLoginPointMillis}). Every write is a single Lua script, so it costs one round trip and is atomic
+ * with respect to concurrent logins of the same user.
+ * <p>
+ * The former {@code @RedisHash} mapping also kept every id in a {@code loginRecord} set that never expired;
+ * {@link #deleteLegacyIndex()} drops it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginRecordRepository {
+    private static final String LEGACY_INDEX_KEY = "loginRecord";
+    private static final String KEY_PREFIX = LEGACY_INDEX_KEY + ":";
+    private static final Duration TIME_TO_LIVE = Duration.ofDays(1);
+    private static final Duration LOGIN_POINT_INTERVAL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> SIGN_UP = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'token', ARGV[1], 'lastLoginPointMillis', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> LOGIN = RedisScript.of("""
+            local last = tonumber(redis.call('HGET', KEYS[1], 'lastLoginPointMillis'))
+            local rewarded = 0
+            if not last or last < tonumber(ARGV[2]) - tonumber(ARGV[3]) then
+                redis.call('HSET', KEYS[1], 'lastLoginPointMillis', ARGV[2])
+                rewarded = 1
+            end
+            redis.call('HSET', KEYS[1], 'token', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return rewarded
+            """, Long.class);
+
+    private static final RedisScript<Long> REPLACE_TOKEN = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            if ARGV[1] == '' then
+                redis.call('HDEL', KEYS[1], 'token')
+            else
+                redis.call('HSET', KEYS[1], 'token', ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    public void signUp(Long userId, String token) {
+        redisTemplate.execute(SIGN_UP, List.of(keyOf(userId)),
+                              token, String.valueOf(System.currentTimeMillis()), String.valueOf(TIME_TO_LIVE.toSeconds()));
+    }
+
+    /**
+     * Stores the new token and returns whether the daily login point is due, claiming it in the same step.
+     */
+    public boolean login(Long userId, String token) {
+        Long rewarded = redisTemplate.execute(LOGIN, List.of(keyOf(userId)),
+                                              token, String.valueOf(System.currentTimeMillis()),
+                                              String.valueOf(LOGIN_POINT_INTERVAL.toMillis()),
+                                              String.valueOf(TIME_TO_LIVE.toSeconds()));
+        return Long.valueOf(1).equals(rewarded);
+    }
+
+    public void replaceToken(Long userId, String token) {
+        redisTemplate.execute(REPLACE_TOKEN, List.of(keyOf(userId)), token, String.valueOf(TIME_TO_LIVE.toSeconds()));
+    }
+
+    public void clearToken(Long userId) {
+        replaceToken(userId, "");
+    }
+
+    public Optional<String> findToken(Long userId) {
+        return Optional.ofNullable((String) redisTemplate.opsForHash().get(keyOf(userId), "token"));
+    }
+
+    public boolean deleteLegacyIndex() {
+        return Boolean.TRUE.equals(redisTemplate.unlink(LEGACY_INDEX_KEY));
+    }
 }
@@ -0,0 +1,34 @@
+package com.matzip.server.domain.record.repository;
+
+import com.matzip.server.domain.record.model.PointLedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PointLedgerRepository extends JpaRepository<PointLedgerEntry, Long> {
+    /**
+     * Locks the oldest pending entries with {@code SKIP LOCKED} so that aggregators on several instances fold
+     * disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name="javax.persistence.lock.timeout", value="-2"))
+    @Query("SELECT p FROM PointLedgerEntry p WHERE p.aggregatedAt IS NULL ORDER BY p.id")
+    List<PointLedgerEntry> findPendingForUpdate(Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(p.points), 0) FROM PointLedgerEntry p WHERE p.userId = :userId AND p.aggregatedAt IS NULL")
+    long sumPendingPointsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE PointLedgerEntry p SET p.aggregatedAt = :aggregatedAt WHERE p.id IN :ids")
+    void markAggregated(@Param("ids") Collection<Long> ids, @Param("aggregatedAt") LocalDateTime aggregatedAt);
+}
@@ -1,7 +1,85 @@
 package com.matzip.server.domain.record.repository;
 
-import com.matzip.server.domain.record.model.ReviewRecord;
-import org.springframework.data.repository.CrudRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
 
-public interface ReviewRecordRepository extends CrudRepository<ReviewRecord, String> {
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Per user and review activity records ({@code viewRecord:<userId>:<reviewId>} with {@code commentCount}). Each
+ * operation reads, updates and refreshes the expiry of a record in one atomic round trip.
+ * <p>
+ * The former {@code @RedisHash} mapping also kept every key in a {@code viewRecord} set that never expired;
+ * {@link #deleteLegacyIndex()} drops it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewRecordRepository {
+    private static final String LEGACY_INDEX_KEY = "viewRecord";
+    private static final String KEY_PREFIX = LEGACY_INDEX_KEY + ":";
+    private static final Duration TIME_TO_LIVE = Duration.ofDays(1);
+
+    private static final RedisScript<Long> INCREMENT_COMMENT_COUNT = RedisScript.of("""
+            local count = redis.call('HINCRBY', KEYS[1], 'commentCount', 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return count - 1
+            """, Long.class);
+
+    private static final RedisScript<Long> DECREMENT_COMMENT_COUNT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local count = tonumber(redis.call('HGET', KEYS[1], 'commentCount')) or 0
+            if count > 0 then redis.call('HSET', KEYS[1], 'commentCount', count - 1) end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return count
+            """, Long.class);
+
+    private static final RedisScript<Long> TOUCH = RedisScript.of("""
+            redis.call('HSETNX', KEYS[1], 'commentCount', 0)
+            return redis.call('EXPIRE', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String keyOf(Long userId, Long reviewId) {
+        return KEY_PREFIX + userId + ":" + reviewId;
+    }
+
+    private String timeToLive() {
+        return String.valueOf(TIME_TO_LIVE.toSeconds());
+    }
+
+    /**
+     * Counts a comment and returns the number of comments counted before it.
+     */
+    public long incrementCommentCount(Long userId, Long reviewId) {
+        Long previous = redisTemplate.execute(INCREMENT_COMMENT_COUNT, List.of(keyOf(userId, reviewId)), timeToLive());
+        return previous == null ? 0 : previous;
+    }
+
+    /**
+     * Uncounts a comment and returns the number of comments counted before, or empty if there is no record.
+     */
+    public OptionalLong decrementCommentCount(Long userId, Long reviewId) {
+        Long previous = redisTemplate.execute(DECREMENT_COMMENT_COUNT, List.of(keyOf(userId, reviewId)), timeToLive());
+        return previous == null || previous < 0 ? OptionalLong.empty() : OptionalLong.of(previous);
+    }
+
+    public void touch(Long userId, Long reviewId) {
+        redisTemplate.execute(TOUCH, List.of(keyOf(userId, reviewId)), timeToLive());
+    }
+
+    /**
+     * Refreshes the expiry of an existing record with a single {@code EXPIRE} and returns whether it existed.
+     */
+    public boolean refresh(Long userId, Long reviewId) {
+        return Boolean.TRUE.equals(redisTemplate.expire(keyOf(userId, reviewId), TIME_TO_LIVE));
+    }
+
+    public boolean deleteLegacyIndex() {
+        return Boolean.TRUE.equals(redisTemplate.unlink(LEGACY_INDEX_KEY));
+    }
 }
@@ -0,0 +1,33 @@
+package com.matzip.server.domain.record.service;
+
+import com.matzip.server.domain.record.repository.LoginRecordRepository;
+import com.matzip.server.domain.record.repository.ReviewRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the id sets left behind by the former {@code @RedisHash} activity records on startup. Their records and
+ * phantom keys expire on their own; the sets did not. Deleting an absent key is a no-op, so this is safe to run on
+ * every start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyRecordCleanupRunner implements ApplicationRunner {
+    private final LoginRecordRepository loginRecordRepository;
+    private final ReviewRecordRepository reviewRecordRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (loginRecordRepository.deleteLegacyIndex()) log.info("Deleted legacy login record index");
+            if (reviewRecordRepository.deleteLegacyIndex()) log.info("Deleted legacy review record index");
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete legacy record indexes: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.matzip.server.domain.record.service;
+
+import com.matzip.server.domain.record.model.PointLedgerEntry;
+import com.matzip.server.domain.record.repository.PointLedgerRepository;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Points are appended to an immutable ledger by the request paths and folded into {@code User.matzipPoint} and
+ * {@code matzipLevel} by {@link #aggregate()}. Entries are marked as aggregated in the same transaction that applies
+ * them, so a failed run leaves them pending and is simply replayed. Until then, {@link #levelOf(User)} adds the
+ * user's pending points so that the acting user sees their own changes immediately. When a level changes, the
+ * user's reviews are reindexed since search documents carry the reviewer's level.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+    private final PointLedgerRepository pointLedgerRepository;
+    private final UserRepository userRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${matzip.points.aggregate.batch-size:1000}")
+    private int batchSize = 1000;
+
+    public static int neededPointsForLevelUp(int level) {
+        return switch (level) {
+            case 1 -> 7;
+            case 2 -> 14;
+            case 3 -> 21;
+            case 4 -> 28;
+            case 5 -> 38;
+            case 6 -> 48;
+            case 7 -> 61;
+            case 8 -> 74;
+            case 9 -> 87;
+            default -> (int) Math.pow(level, 2);
+        };
+    }
+
+    public static int levelOf(int points) {
+        int level = 1;
+        while (points >= neededPointsForLevelUp(level)) level++;
+        return level;
+    }
+
+    @Transactional
+    public void append(User user, int points) {
+        if (user.getId() == null || points == 0) return;
+        pointLedgerRepository.save(new PointLedgerEntry(user.getId(), points));
+    }
+
+    public int pointsOf(User user) {
+        if (user.getId() == null) return user.getMatzipPoint();
+        return user.getMatzipPoint() + (int) pointLedgerRepository.sumPendingPointsByUserId(user.getId());
+    }
+
+    public int levelOf(User user) {
+        return user.getId() == null ? user.getMatzipLevel() : levelOf(pointsOf(user));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${matzip.points.aggregate.delay-millis:2000}")
+    public void aggregate() {
+        List<PointLedgerEntry> batch = pointLedgerRepository.findPendingForUpdate(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) return;
+
+        Map<Long, Integer> deltas = batch.stream()
+                .collect(Collectors.groupingBy(PointLedgerEntry::getUserId, Collectors.summingInt(PointLedgerEntry::getPoints)));
+        deltas.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((delta, userIds) -> userRepository.increaseMatzipPoints(userIds, delta));
+
+        List<Long> releveledUserIds = new ArrayList<>();
+        for (User user : userRepository.findAllById(deltas.keySet())) {
+            int level = levelOf(user.getMatzipPoint());
+            if (user.getMatzipLevel() != null && user.getMatzipLevel() == level) continue;
+            user.setMatzipLevel(level);
+            releveledUserIds.add(user.getId());
+        }
+        pointLedgerRepository.markAggregated(batch.stream().map(PointLedgerEntry::getId).toList(), LocalDateTime.now());
+        if (!releveledUserIds.isEmpty()) {
+            reviewRepository.findIdsByUserIds(releveledUserIds)
+                    .forEach(id -> eventPublisher.publishEvent(ReviewIndexEvent.saved(id)));
+        }
+
+        log.debug("Aggregated {} point ledger entries for {} users", batch.size(), deltas.size());
+    }
+}
@@ -0,0 +1,106 @@
+package com.matzip.server.domain.record.service;
+
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.global.auth.model.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind view counting. A view is counted at most once a day per viewer through a single {@code SET NX EX}
+ * on Redis, and counted views are accumulated in memory and flushed periodically: one {@code views = views + n}
+ * update per distinct increment and one points update per author, all in a single short transaction.
+ */
+@Slf4j
+@Service
+public class ViewCountService {
+    private static final String KEY_PREFIX = "view:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReviewRepository reviewRepository;
+    private final RecordService recordService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    @Value("${matzip.view.dedupe-hours:24}")
+    private long dedupeHours = 24;
+
+    public ViewCountService(
+            StringRedisTemplate redisTemplate,
+            ReviewRepository reviewRepository,
+            RecordService recordService,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.reviewRepository = reviewRepository;
+        this.recordService = recordService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void view(Review review, User user) {
+        String viewer = user.getId() != null ? String.valueOf(user.getId()) :
+                        ((UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUserIp();
+
+        Boolean firstView;
+        try {
+            firstView = redisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + viewer + ":" + review.getId(), "1", Duration.ofHours(dedupeHours));
+        } catch (DataAccessException e) {
+            log.warn("Failed to record view of review {}: {}", review.getId(), e.getMessage());
+            return;
+        }
+        if (Boolean.TRUE.equals(firstView)) pending.merge(review.getId(), 1L, Long::sum);
+    }
+
+    public long pendingViews(Long reviewId) {
+        return pending.getOrDefault(reviewId, 0L);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${matzip.view.flush-delay-millis:5000}")
+    public void flush() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long reviewId : new ArrayList<>(pending.keySet())) {
+            Long views = pending.remove(reviewId);
+            if (views != null) drained.put(reviewId, views);
+        }
+        if (drained.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(drained));
+        } catch (DataAccessException e) {
+            drained.forEach((reviewId, views) -> pending.merge(reviewId, views, Long::sum));
+            log.warn("Failed to flush views of {} reviews: {}", drained.size(), e.getMessage());
+        }
+    }
+
+    private void apply(Map<Long, Long> views) {
+        views.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((increment, reviewIds) -> reviewRepository.increaseViews(reviewIds, increment));
+
+        Map<User, Long> authorViews = new HashMap<>();
+        reviewRepository.findAllByIdInFetchJoinUser(views.keySet())
+                .forEach(r -> authorViews.merge(r.getUser(), views.get(r.getId()), Long::sum));
+        authorViews.forEach((author, count) -> recordService.viewReviews(author, count.intValue()));
+        views.forEach((reviewId, count) -> eventPublisher.publishEvent(ReviewActivityEvent.views(reviewId, count)));
+    }
+}
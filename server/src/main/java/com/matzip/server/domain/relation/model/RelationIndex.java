@@ -0,0 +1,74 @@
+package com.matzip.server.domain.relation.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable sorted set of entity ids. Serialized as delta-encoded varints so that a user with thousands of
+ * relations still fits in a few kilobytes of Redis memory.
+ */
+public final class RelationIndex {
+    public static final RelationIndex EMPTY = new RelationIndex(new long[0]);
+
+    private final long[] ids;
+
+    private RelationIndex(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static RelationIndex of(Collection<Long> ids) {
+        return new RelationIndex(ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sorted().distinct().toArray());
+    }
+
+    public boolean contains(Long id) {
+        return id != null && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public List<Long> toList() {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    public String encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.length * 2);
+        long previous = 0;
+        for (long id : ids) {
+            long delta = id - previous;
+            while ((delta & ~0x7FL) != 0) {
+                out.write((int) ((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            out.write((int) delta);
+            previous = id;
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    public static RelationIndex decode(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        long[] ids = new long[buffer.remaining()];
+        int size = 0;
+        long previous = 0;
+        while (buffer.hasRemaining()) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get();
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            ids[size++] = previous;
+        }
+        return new RelationIndex(Arrays.copyOf(ids, size));
+    }
+}
@@ -0,0 +1,18 @@
+package com.matzip.server.domain.relation.model;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum RelationType {
+    HEART("hearts"),
+    SCRAP("scraps"),
+    FOLLOWING("followings"),
+    FOLLOWER("followers")
+    ;
+
+    private final String keyNaming;
+
+    public String keyOf(Long userId) {
+        return "relation:" + keyNaming + ":" + userId;
+    }
+}
@@ -0,0 +1,220 @@
+package com.matzip.server.domain.relation.service;
+
+import com.matzip.server.domain.relation.model.RelationIndex;
+import com.matzip.server.domain.relation.model.RelationType;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.HeartRepository;
+import com.matzip.server.domain.review.repository.ScrapRepository;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.domain.user.repository.FollowRepository;
+import com.matzip.server.global.common.datasource.ReplicaRoutingDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user relation indexes (hearted reviews, scraped reviews, followings, followers) behind a local near cache
+ * and Redis. Mutations must call {@link #invalidate}; the entry is dropped immediately and once more when the
+ * surrounding transaction completes, so an index rebuilt from uncommitted rows never outlives the transaction.
+ * <p>
+ * Every invalidation bumps a per-key generation in Redis, and a rebuilt index is only stored if the generation is
+ * still the one read before loading it, so a reader that raced a writer cannot put back a stale index. An index
+ * loaded from a read replica is not stored in Redis at all, since the replica may not have the latest invalidated
+ * write yet. Near caches of other instances are dropped over pub/sub.
+ */
+@Slf4j
+@Service
+public class RelationService implements MessageListener {
+    public static final String CHANNEL = "relation:invalidate";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ = RedisScript.of("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            local encoded = redis.call('GET', KEYS[1])
+            if encoded then return {generation, encoded} end
+            return {generation}
+            """, List.class);
+
+    private static final RedisScript<Long> WRITE = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE = RedisScript.of("""
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return generation
+            """, Long.class);
+
+    private final HeartRepository heartRepository;
+    private final ScrapRepository scrapRepository;
+    private final FollowRepository followRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final AtomicLong localGeneration = new AtomicLong();
+
+    @Value("${matzip.relation.cache.ttl-seconds:3600}")
+    private long ttlSeconds = 3600;
+
+    @Value("${matzip.relation.near-cache.ttl-millis:5000}")
+    private long nearCacheTtlMillis = 5000;
+
+    @Value("${matzip.relation.near-cache.max-size:10000}")
+    private int nearCacheMaxSize = 10000;
+
+    private final Map<String, NearCacheEntry> nearCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, NearCacheEntry> eldest) {
+                    return size() > nearCacheMaxSize;
+                }
+            });
+
+    private record NearCacheEntry(RelationIndex index, long expiresAt) {
+        boolean isAlive() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+
+    private record Cached(String generation, RelationIndex index) {}
+
+    public RelationService(
+            HeartRepository heartRepository,
+            ScrapRepository scrapRepository,
+            FollowRepository followRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.heartRepository = heartRepository;
+        this.scrapRepository = scrapRepository;
+        this.followRepository = followRepository;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean isHearted(User me, Review review) {
+        return indexOf(me.getId(), RelationType.HEART).contains(review.getId());
+    }
+
+    public boolean isScraped(User me, Review review) {
+        return indexOf(me.getId(), RelationType.SCRAP).contains(review.getId());
+    }
+
+    public boolean isFollowing(User me, User user) {
+        return indexOf(me.getId(), RelationType.FOLLOWING).contains(user.getId());
+    }
+
+    public boolean isFollowedBy(User me, User user) {
+        return indexOf(me.getId(), RelationType.FOLLOWER).contains(user.getId());
+    }
+
+    public RelationIndex indexOf(Long userId, RelationType type) {
+        if (userId == null) return RelationIndex.EMPTY;
+
+        String key = type.keyOf(userId);
+        NearCacheEntry entry = nearCache.get(key);
+        if (entry != null && entry.isAlive()) return entry.index();
+
+        long loadedAtGeneration = localGeneration.get();
+        Cached cached = readFromRedis(key);
+        RelationIndex index = cached.index();
+        if (index == null) {
+            index = RelationIndex.of(loadFromDatabase(userId, type));
+            if (!ReplicaRoutingDataSource.isReadingFromReplica()) writeToRedis(key, cached.generation(), index);
+        }
+        synchronized (nearCache) {
+            if (localGeneration.get() == loadedAtGeneration)
+                nearCache.put(key, new NearCacheEntry(index, System.currentTimeMillis() + nearCacheTtlMillis));
+        }
+        return index;
+    }
+
+    public void invalidate(Long userId, RelationType type) {
+        if (userId == null) return;
+
+        String key = type.keyOf(userId);
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(key);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictNearCache(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private List<Long> loadFromDatabase(Long userId, RelationType type) {
+        return switch (type) {
+            case HEART -> heartRepository.findReviewIdsByUserId(userId);
+            case SCRAP -> scrapRepository.findReviewIdsByUserId(userId);
+            case FOLLOWING -> followRepository.findFolloweeIdsByFollowerId(userId);
+            case FOLLOWER -> followRepository.findFollowerIdsByFolloweeId(userId);
+        };
+    }
+
+    private Cached readFromRedis(String key) {
+        try {
+            List<?> result = redisTemplate.execute(READ, List.of(key, generationKeyOf(key)));
+            if (result == null || result.isEmpty()) return new Cached(null, null);
+            String generation = (String) result.get(0);
+            return new Cached(generation, result.size() > 1 ? RelationIndex.decode((String) result.get(1)) : null);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read relation index {} from redis: {}", key, e.getMessage());
+            return new Cached(null, null);
+        }
+    }
+
+    private void writeToRedis(String key, String generation, RelationIndex index) {
+        if (generation == null) return;
+        try {
+            redisTemplate.execute(WRITE, List.of(key, generationKeyOf(key)),
+                                  generation, index.encode(), String.valueOf(ttlSeconds));
+        } catch (DataAccessException e) {
+            log.warn("Failed to write relation index {} to redis: {}", key, e.getMessage());
+        }
+    }
+
+    private void evict(String key) {
+        evictNearCache(key);
+        try {
+            redisTemplate.execute(INVALIDATE, List.of(key, generationKeyOf(key)), String.valueOf(ttlSeconds));
+            redisTemplate.convertAndSend(CHANNEL, key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict relation index {} from redis: {}", key, e.getMessage());
+        }
+    }
+
+    private void evictNearCache(String key) {
+        synchronized (nearCache) {
+            localGeneration.incrementAndGet();
+            nearCache.remove(key);
+        }
+    }
+
+    private static String generationKeyOf(String key) {
+        return key + ":generation";
+    }
+}
@@ -8,10 +8,13 @@ import com.matzip.server.domain.review.service.ReviewService;
 import com.matzip.server.global.auth.model.CurrentUser;
 import com.matzip.server.global.auth.model.CurrentUsername;
 import com.matzip.server.global.common.logger.Logging;
+import com.matzip.server.global.common.model.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
@@ -35,13 +38,18 @@ public class ReviewController {
     }
 
     @GetMapping("/{id}")
-    @Logging(endpoint="GET /api/v1/reviews/{pathVariable}", pathVariable = true)
+    @Logging(endpoint="GET /api/v1/reviews/{pathVariable}", pathVariable = true, queryBudget = 15)
     public ResponseEntity<Response> fetchReview(
             @CurrentUser Long myId,
             @CurrentUsername String user,
-            @PathVariable("id") @NotNull @Positive Long reviewId
+            @PathVariable("id") @NotNull @Positive Long reviewId,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(reviewService.fetchReview(myId, reviewId));
+        Validator validator = reviewService.fetchReviewValidator(myId, reviewId);
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModifiedMillis())) return null;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(reviewService.fetchReview(myId, reviewId));
     }
 
     @PatchMapping(value="/{id}", consumes={"multipart/form-data"})
@@ -2,6 +2,8 @@ package com.matzip.server.domain.review.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.matzip.server.domain.comment.dto.CommentDto;
+import com.matzip.server.domain.comment.model.Comment;
+import com.matzip.server.domain.image.model.ImageVariant;
 import com.matzip.server.domain.review.model.Review;
 import com.matzip.server.domain.review.model.Scrap;
 import com.matzip.server.domain.user.dto.UserDto;
@@ -19,6 +21,7 @@ import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -65,12 +68,16 @@ public class ReviewDto {
 
     @Getter
     public static class Response {
+        public static final int LATEST_COMMENTS = 3;
+
         private final Long id;
         private final LocalDateTime createdAt;
         private final LocalDateTime modifiedAt;
         private final UserDto.Response user;
         private final String content;
         private final List<String> imageUrls;
+        private final List<String> thumbnailUrls;
+        private final List<String> previewUrls;
         private final Integer rating;
         private final String restaurant;
         private final Long views;
@@ -80,31 +87,46 @@ public class ReviewDto {
         private final String scrapDescription;
         private final Integer numberOfScraps;
         private final Integer numberOfHearts;
+        private final Integer numberOfComments;
         private final List<CommentDto.Response> comments;
 
         public Response(Review review, User user) {
-            Scrap scrap = user.getScraps().stream().filter(s -> s.getReview() == review).findFirst().orElse(null);
+            this(review, user,
+                 new UserDto.Response(review.getUser(), user),
+                 user.getHearts().stream().anyMatch(h -> h.getReview() == review),
+                 user.getScraps().stream().filter(s -> s.getReview() == review).findFirst().orElse(null),
+                 review.getComments().stream()
+                         .sorted(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId).reversed())
+                         .limit(LATEST_COMMENTS)
+                         .sorted(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId))
+                         .map(c -> new CommentDto.Response(c, user)).collect(Collectors.toList()));
+        }
 
+        public Response(
+                Review review, User me,
+                UserDto.Response reviewer,
+                boolean isHearted, Scrap myScrap,
+                List<CommentDto.Response> comments
+        ) {
             this.id = review.getId();
             this.createdAt = review.getCreatedAt();
             this.modifiedAt = review.getModifiedAt();
-            this.user = new UserDto.Response(review.getUser(), user);
+            this.user = reviewer;
             this.content = review.getContent();
             this.imageUrls = review.getReviewImages();
+            this.thumbnailUrls = ImageVariant.THUMBNAIL.urlsOf(imageUrls);
+            this.previewUrls = ImageVariant.PREVIEW.urlsOf(imageUrls);
             this.rating = review.getRating();
             this.restaurant = review.getRestaurant();
             this.views = review.getViews();
-            this.isDeletable = user == review.getUser();
-            this.isHearted = user.getHearts().stream().anyMatch(h -> h.getReview() == review);
-            this.isScraped = scrap != null;
-            this.numberOfScraps = review.getScraps().size();
-            this.numberOfHearts = review.getHearts().size();
-            this.comments = review.getComments().stream().map(c -> new CommentDto.Response(c, user)).collect(Collectors.toList());
-            this.scrapDescription = isScraped ? scrap.getDescription() : null;
-        }
-
-        public Response(Scrap scrap) {
-            this(scrap.getReview(), scrap.getUser());
+            this.isDeletable = me == review.getUser();
+            this.isHearted = isHearted;
+            this.isScraped = myScrap != null;
+            this.numberOfScraps = review.getNumberOfScraps();
+            this.numberOfHearts = review.getNumberOfHearts();
+            this.numberOfComments = review.getNumberOfComments();
+            this.comments = comments;
+            this.scrapDescription = isScraped ? myScrap.getDescription() : null;
         }
     }
 }
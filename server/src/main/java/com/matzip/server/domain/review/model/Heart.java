@@ -24,12 +24,12 @@ public class Heart extends BaseTimeEntity {
         this.user = user;
         this.review = review;
         user.getHearts().add(this);
-        review.getHearts().add(this);
+        review.addHeart(this);
     }
 
     @Override
     public void delete() {
         user.getHearts().remove(this);
-        review.getHearts().remove(this);
+        review.removeHeart(this);
     }
 }
\ No newline at end of file
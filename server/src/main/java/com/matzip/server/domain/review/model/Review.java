@@ -7,15 +7,23 @@ import com.matzip.server.global.common.model.BaseTimeEntity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.LinkedList;
 import java.util.List;
 
 @Entity
-@Table(name="review")
+@Table(name="review", indexes={
+        @Index(name="idx_review_number_of_hearts", columnList="numberOfHearts, createdAt"),
+        @Index(name="idx_review_number_of_scraps", columnList="numberOfScraps, createdAt"),
+        @Index(name="idx_review_number_of_comments", columnList="numberOfComments, createdAt")
+})
 @NoArgsConstructor
 @Getter @Setter
+@DynamicUpdate
 public class Review extends BaseTimeEntity {
     @OneToMany(mappedBy="review", cascade=CascadeType.PERSIST)
     private final List<Comment> comments = new LinkedList<>();
@@ -33,6 +41,16 @@ public class Review extends BaseTimeEntity {
     private Integer rating;
     private String restaurant;
     private Long views = 0L;
+    @Column(updatable = false)
+    private Integer numberOfHearts = 0;
+    @Column(updatable = false)
+    private Integer numberOfScraps = 0;
+    @Column(updatable = false)
+    private Integer numberOfComments = 0;
+    @Column(updatable = false)
+    private Long engagementVersion = 0L;
+    @Column(updatable = false)
+    private LocalDateTime engagedAt;
 
     public Review(User user, ReviewDto.PostRequest postRequest) {
         this.user = user;
@@ -45,4 +63,52 @@ public class Review extends BaseTimeEntity {
     public void delete() {
         user.getReviews().remove(this);
     }
-}
\ No newline at end of file
+
+    public void addHeart(Heart heart) {
+        hearts.add(heart);
+        numberOfHearts = increment(numberOfHearts, 1);
+        engage();
+    }
+
+    public void removeHeart(Heart heart) {
+        hearts.remove(heart);
+        numberOfHearts = increment(numberOfHearts, -1);
+        engage();
+    }
+
+    public void addScrap(Scrap scrap) {
+        scraps.add(scrap);
+        numberOfScraps = increment(numberOfScraps, 1);
+        engage();
+    }
+
+    public void removeScrap(Scrap scrap) {
+        scraps.remove(scrap);
+        numberOfScraps = increment(numberOfScraps, -1);
+        engage();
+    }
+
+    public void addComment(Comment comment) {
+        comments.add(comment);
+        numberOfComments = increment(numberOfComments, 1);
+        engage();
+    }
+
+    public void removeComment(Comment comment) {
+        if (Hibernate.isInitialized(comments)) comments.remove(comment);
+        numberOfComments = increment(numberOfComments, -1);
+        engage();
+    }
+
+    /**
+     * Only updates the in-memory view. The columns are written atomically by {@code ReviewRepository.engage}.
+     */
+    public void engage() {
+        engagementVersion = engagementVersion == null ? 1 : engagementVersion + 1;
+        engagedAt = LocalDateTime.now();
+    }
+
+    private static int increment(Integer counter, int delta) {
+        return (counter == null ? 0 : counter) + delta;
+    }
+}
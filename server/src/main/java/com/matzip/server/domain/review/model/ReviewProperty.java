@@ -9,7 +9,9 @@ public enum ReviewProperty {
     NUMBER_OF_HEARTS("hearts"),
     NUMBER_OF_SCRAPS("scraps"),
     NUMBER_OF_COMMENTS("comments"),
-    RATING("rating")
+    RATING("rating"),
+    TRENDING("trending"),
+    RELEVANCE("relevance")
     ;
 
     private final String webNaming;
@@ -28,12 +28,12 @@ public class Scrap extends BaseTimeEntity {
         this.review = review;
         this.description = description;
         user.getScraps().add(this);
-        review.getScraps().add(this);
+        review.addScrap(this);
     }
 
     @Override
     public void delete() {
         user.getScraps().remove(this);
-        review.getScraps().remove(this);
+        review.removeScrap(this);
     }
 }
\ No newline at end of file
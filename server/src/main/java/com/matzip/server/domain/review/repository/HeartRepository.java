@@ -12,6 +12,9 @@ import java.util.Optional;
 public interface HeartRepository extends JpaRepository<Heart, Long> {
     Optional<Heart> findByUserIdAndReviewId(Long userId, Long reviewId);
 
+    @Query("SELECT h.review.id FROM Heart h WHERE h.user.id = :userId")
+    List<Long> findReviewIdsByUserId(@Param("userId") Long userId);
+
     @Modifying
     @Query("DELETE FROM Heart h WHERE h.review.id = :reviewId")
     void deleteAllByReviewId(@Param("reviewId") Long reviewId);
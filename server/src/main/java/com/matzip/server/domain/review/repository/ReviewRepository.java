@@ -1,12 +1,16 @@
 package com.matzip.server.domain.review.repository;
 
 import com.matzip.server.domain.review.model.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,10 +18,92 @@ import java.util.Optional;
 public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
     Optional<Review> findById(Long id);
 
-    @Query("SELECT r FROM Review r LEFT JOIN FETCH r.comments WHERE r.id = :id")
-    Optional<Review> findByIdFetchJoinComments(@Param("id") Long id);
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.id BETWEEN :fromId AND :toId ORDER BY r.id")
+    List<Review> findAllByIdBetweenFetchJoinUser(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.id IN :ids")
+    List<Review> findAllByIdInFetchJoinUser(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Review r SET r.views = r.views + :increment, r.engagedAt = CURRENT_TIMESTAMP WHERE r.id IN :ids")
+    void increaseViews(@Param("ids") Collection<Long> ids, @Param("increment") Long increment);
+
+    @Modifying
+    @Query("UPDATE Review r SET " +
+           "r.numberOfHearts = COALESCE(r.numberOfHearts, 0) + :hearts, " +
+           "r.numberOfScraps = COALESCE(r.numberOfScraps, 0) + :scraps, " +
+           "r.numberOfComments = COALESCE(r.numberOfComments, 0) + :comments, " +
+           "r.engagementVersion = COALESCE(r.engagementVersion, 0) + 1, r.engagedAt = CURRENT_TIMESTAMP " +
+           "WHERE r.id = :id")
+    void engage(@Param("id") Long id,
+                @Param("hearts") int hearts, @Param("scraps") int scraps, @Param("comments") int comments);
+
+    default void engage(Long id) {
+        engage(id, 0, 0, 0);
+    }
+
+    @Query("SELECT r.id FROM Review r WHERE r.user.id IN :userIds")
+    List<Long> findIdsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT r.id FROM Review r WHERE r.user.id IN :userIds AND r.id < :beforeId ORDER BY r.id DESC")
+    List<Long> findIdsByUserIdsBefore(
+            @Param("userIds") Collection<Long> userIds, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("SELECT r.id FROM Review r WHERE r.user.id IN :userIds AND r.id > :afterId ORDER BY r.id DESC")
+    List<Long> findIdsByUserIdsAfter(
+            @Param("userIds") Collection<Long> userIds, @Param("afterId") Long afterId, Pageable pageable);
 
     @Modifying
     @Query("DELETE FROM Review r WHERE r.user.id = :userId OR r.id in :reviewIds")
     void deleteAllByUserIdOrReviewIds(@Param("userId") Long userId, @Param("reviewIds") List<Long> reviewIds);
-}
\ No newline at end of file
+
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM Review r")
+    Long findMaxId();
+
+    @Modifying
+    @Query("UPDATE Review r SET " +
+           "r.numberOfHearts = (SELECT COUNT(h) FROM Heart h WHERE h.review = r), " +
+           "r.numberOfScraps = (SELECT COUNT(s) FROM Scrap s WHERE s.review = r), " +
+           "r.numberOfComments = (SELECT COUNT(c) FROM Comment c WHERE c.review = r), " +
+           "r.engagementVersion = COALESCE(r.engagementVersion, 0) + 1 " +
+           "WHERE r.id IN :reviewIds")
+    void synchronizeCounters(@Param("reviewIds") List<Long> reviewIds);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Review r SET " +
+           "r.numberOfHearts = (SELECT COUNT(h) FROM Heart h WHERE h.review = r), " +
+           "r.numberOfScraps = (SELECT COUNT(s) FROM Scrap s WHERE s.review = r), " +
+           "r.numberOfComments = (SELECT COUNT(c) FROM Comment c WHERE c.review = r), " +
+           "r.engagementVersion = COALESCE(r.engagementVersion, 0) + 1 " +
+           "WHERE r.id BETWEEN :fromId AND :toId AND (" +
+           "COALESCE(r.numberOfHearts, -1) <> (SELECT COUNT(h) FROM Heart h WHERE h.review = r) OR " +
+           "COALESCE(r.numberOfScraps, -1) <> (SELECT COUNT(s) FROM Scrap s WHERE s.review = r) OR " +
+           "COALESCE(r.numberOfComments, -1) <> (SELECT COUNT(c) FROM Comment c WHERE c.review = r))")
+    int synchronizeDriftedCountersBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT r.id AS id, r.user.id AS userId, r.modifiedAt AS modifiedAt, r.engagedAt AS engagedAt, " +
+           "r.engagementVersion AS engagementVersion, r.views AS views FROM Review r WHERE r.id = :id")
+    Optional<ReviewVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT COUNT(r) AS total, MAX(r.modifiedAt) AS modifiedAt, MAX(r.engagedAt) AS engagedAt, " +
+           "SUM(r.engagementVersion) AS engagementVersion, SUM(r.views) AS views FROM Review r WHERE r.user.id = :userId")
+    ReviewsVersion findVersionByUserId(@Param("userId") Long userId);
+
+    interface ReviewVersion {
+        Long getId();
+        Long getUserId();
+        LocalDateTime getModifiedAt();
+        LocalDateTime getEngagedAt();
+        Long getEngagementVersion();
+        Long getViews();
+    }
+
+    interface ReviewsVersion {
+        Long getTotal();
+        LocalDateTime getModifiedAt();
+        LocalDateTime getEngagedAt();
+        Long getEngagementVersion();
+        Long getViews();
+    }
+}
@@ -3,6 +3,9 @@ package com.matzip.server.domain.review.repository;
 import com.matzip.server.domain.review.model.Review;
 import com.matzip.server.domain.review.model.ReviewProperty;
 import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.model.Cursor;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.*;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -10,17 +13,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static com.matzip.server.domain.comment.model.QComment.comment;
-import static com.matzip.server.domain.review.model.QHeart.heart;
 import static com.matzip.server.domain.review.model.QReview.review;
-import static com.matzip.server.domain.review.model.QScrap.scrap;
 import static com.matzip.server.domain.review.model.ReviewProperty.*;
 import static com.matzip.server.domain.user.model.QFollow.follow;
 import static com.matzip.server.domain.user.model.QUser.user;
@@ -37,6 +36,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 searchRequest.asc() ? Order.ASC : Order.DESC,
                 searchRequest.sort(),
                 PageRequest.of(searchRequest.page(), searchRequest.size()),
+                Cursor.decode(searchRequest.cursor(), searchRequest.sort(), searchRequest.asc()),
                 reviewContentContaining(searchRequest.keyword()));
     }
 
@@ -46,6 +46,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
                 searchRequest.asc() ? Order.ASC : Order.DESC,
                 searchRequest.sort(),
                 PageRequest.of(searchRequest.page(), searchRequest.size()),
+                Cursor.decode(searchRequest.cursor(), searchRequest.sort(), searchRequest.asc()),
                 reviewContentMatchAgainst(searchRequest.keyword()));
     }
 
@@ -62,112 +63,94 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         return keyword == null || keyword.isBlank() ? null : review.content.contains(keyword);
     }
 
+    private ComparableExpressionBase<?> sortKeyOf(ReviewProperty reviewProperty) {
+        if (reviewProperty == REVIEWER_USERNAME) return review.user.username;
+        else if (reviewProperty == REVIEWER_MATZIP_LEVEL) return review.user.matzipLevel;
+        else if (reviewProperty == NUMBER_OF_HEARTS) return review.numberOfHearts;
+        else if (reviewProperty == NUMBER_OF_SCRAPS) return review.numberOfScraps;
+        else if (reviewProperty == NUMBER_OF_COMMENTS) return review.numberOfComments;
+        else if (reviewProperty == RATING) return review.rating;
+        else return review.createdAt;
+    }
+
+    private BooleanExpression after(Order order, Expression<?> expression, Object value) {
+        return Expressions.booleanOperation(order == Order.ASC ? Ops.GT : Ops.LT, expression, Expressions.constant(value));
+    }
+
+    private BooleanExpression keysetCondition(Order order, Expression<?> sortKey, Cursor cursor) {
+        if (cursor == null) return null;
+
+        if (sortKey == review.createdAt) {
+            return after(order, review.createdAt, cursor.createdAt())
+                    .or(review.createdAt.eq(cursor.createdAt()).and(after(order, review.id, cursor.id())));
+        }
+
+        Object key = cursor.key(sortKey.getType());
+        BooleanExpression sameKey = Expressions.booleanOperation(Ops.EQ, sortKey, Expressions.constant(key));
+        return after(order, sortKey, key)
+                .or(sameKey.and(review.createdAt.lt(cursor.createdAt())))
+                .or(sameKey.and(review.createdAt.eq(cursor.createdAt())).and(review.id.lt(cursor.id())));
+    }
+
     private Slice<Review> searchWithConditions(
-            Order order, ReviewProperty reviewProperty, Pageable pageable, BooleanExpression... conditions) {
-        List<Review> reviews;
+            Order order, ReviewProperty reviewProperty, Pageable pageable, Cursor cursor, BooleanExpression... conditions) {
+        List<Tuple> tuples;
         OrderSpecifier<LocalDateTime> defaultOrder = new OrderSpecifier<>(Order.DESC, review.createdAt);
+        OrderSpecifier<Long> idOrder = new OrderSpecifier<>(Order.DESC, review.id);
+        long offset = cursor == null ? pageable.getOffset() : 0;
 
-        if (reviewProperty == REVIEWER_USERNAME) {
-            reviews = jpaQueryFactory
-                    .select(review)
-                    .from(review)
-                    .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, review.user.username), defaultOrder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize() + 1)
-                    .fetch();
-        } else if (reviewProperty == REVIEWER_MATZIP_LEVEL) {
-            reviews = jpaQueryFactory
-                    .select(review)
-                    .from(review)
-                    .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, review.user.matzipLevel), defaultOrder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize() + 1)
-                    .fetch();
-        } else if (reviewProperty == ReviewProperty.REVIEWER_NUMBER_OF_FOLLOWERS) {
+        if (reviewProperty == REVIEWER_NUMBER_OF_FOLLOWERS) {
             NumberPath<Long> followers = numberPath(Long.class, "followers");
 
-            reviews = jpaQueryFactory
+            tuples = jpaQueryFactory
                     .select(review, follow.count().as(followers))
                     .from(review)
                     .leftJoin(review.user, user).fetchJoin()
                     .leftJoin(user.followers, follow)
                     .groupBy(review)
                     .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, followers), defaultOrder)
-                    .offset(pageable.getOffset())
+                    .having(keysetCondition(order, follow.count(), cursor))
+                    .orderBy(new OrderSpecifier<>(order, followers), defaultOrder, idOrder)
+                    .offset(offset)
                     .limit(pageable.getPageSize() + 1)
-                    .fetch()
-                    .stream().map(t -> t.get(review)).collect(Collectors.toList());
-        } else if (reviewProperty == NUMBER_OF_HEARTS) {
-            NumberPath<Long> hearts = numberPath(Long.class, "hearts");
-
-            reviews = jpaQueryFactory
-                    .select(review, heart.count().as(hearts))
-                    .from(review)
-                    .leftJoin(review.hearts, heart)
-                    .groupBy(review)
-                    .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, hearts), defaultOrder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize() + 1)
-                    .fetch()
-                    .stream().map(t -> t.get(review)).collect(Collectors.toList());
-        } else if (reviewProperty == NUMBER_OF_SCRAPS) {
-            NumberPath<Long> scraps = numberPath(Long.class, "scraps");
-
-            reviews = jpaQueryFactory
-                    .select(review, scrap.count().as(scraps))
-                    .from(review)
-                    .leftJoin(review.scraps, scrap)
-                    .groupBy(review)
-                    .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, scraps), defaultOrder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize() + 1)
-                    .fetch()
-                    .stream().map(t -> t.get(review)).collect(Collectors.toList());
-        } else if (reviewProperty == NUMBER_OF_COMMENTS) {
-            NumberPath<Long> comments = numberPath(Long.class, "comments");
-
-            reviews = jpaQueryFactory
-                    .select(review, comment.count().as(comments))
-                    .from(review)
-                    .leftJoin(review.comments, comment)
-                    .groupBy(review)
-                    .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, comments), defaultOrder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize() + 1)
-                    .fetch()
-                    .stream().map(t -> t.get(review)).collect(Collectors.toList());
-        } else if (reviewProperty == RATING) {
-            reviews = jpaQueryFactory
-                    .select(review)
+                    .fetch();
+        } else if (reviewProperty == null) {
+            tuples = jpaQueryFactory
+                    .select(review, review.createdAt)
                     .from(review)
                     .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, review.rating), defaultOrder)
-                    .offset(pageable.getOffset())
+                    .where(keysetCondition(order, review.createdAt, cursor))
+                    .orderBy(new OrderSpecifier<>(order, review.createdAt), new OrderSpecifier<>(order, review.id))
+                    .offset(offset)
                     .limit(pageable.getPageSize() + 1)
                     .fetch();
         } else {
-            reviews = jpaQueryFactory
-                    .select(review)
+            ComparableExpressionBase<?> sortKey = sortKeyOf(reviewProperty);
+
+            tuples = jpaQueryFactory
+                    .select(review, sortKey)
                     .from(review)
                     .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, review.createdAt))
-                    .offset(pageable.getOffset())
+                    .where(keysetCondition(order, sortKey, cursor))
+                    .orderBy(order == Order.ASC ? sortKey.asc() : sortKey.desc(), defaultOrder, idOrder)
+                    .offset(offset)
                     .limit(pageable.getPageSize() + 1)
                     .fetch();
         }
 
         boolean hasNext = false;
-        if (reviews.size() > pageable.getPageSize()) {
-            reviews.remove(pageable.getPageSize());
+        String nextCursor = null;
+        if (tuples.size() > pageable.getPageSize()) {
+            tuples.remove(pageable.getPageSize());
             hasNext = true;
+
+            Tuple last = tuples.get(tuples.size() - 1);
+            Review lastReview = last.get(review);
+            nextCursor = Cursor.of(reviewProperty, order == Order.ASC, last.get(1, Object.class),
+                                   lastReview.getCreatedAt(), lastReview.getId()).encode();
         }
 
-        return new SliceImpl<>(reviews, pageable, hasNext);
+        List<Review> reviews = tuples.stream().map(t -> t.get(review)).collect(Collectors.toList());
+        return new CursorSlice<>(reviews, pageable, hasNext, nextCursor);
     }
 }
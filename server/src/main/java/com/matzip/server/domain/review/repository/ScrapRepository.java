@@ -6,12 +6,19 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ScrapRepository extends JpaRepository<Scrap, Long> {
     Optional<Scrap> findByUserIdAndReviewId(Long userId, Long reviewId);
 
+    @Query("SELECT s.review.id FROM Scrap s WHERE s.user.id = :userId")
+    List<Long> findReviewIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT s FROM Scrap s WHERE s.user.id = :userId AND s.review.id IN :reviewIds")
+    List<Scrap> findAllByUserIdAndReviewIds(@Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
+
     @Modifying
     @Query("DELETE FROM Scrap s WHERE s.review.id = :reviewId")
     void deleteAllByReviewId(@Param("reviewId") Long reviewId);
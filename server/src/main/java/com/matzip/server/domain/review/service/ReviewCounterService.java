@@ -0,0 +1,30 @@
+package com.matzip.server.domain.review.service;
+
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewCounterService {
+    private final ReviewRepository reviewRepository;
+
+    @Value("${matzip.review.counter-repair.chunk-size:1000}")
+    private long chunkSize;
+
+    @Scheduled(cron = "${matzip.review.counter-repair.cron:0 0 4 * * *}")
+    public void repairDriftedCounters() {
+        long maxId = reviewRepository.findMaxId();
+        long repaired = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            repaired += reviewRepository.synchronizeDriftedCountersBetween(fromId, fromId + chunkSize - 1);
+        }
+
+        log.info("Review counter repair finished: {} reviews repaired (max id = {})", repaired, maxId);
+    }
+}
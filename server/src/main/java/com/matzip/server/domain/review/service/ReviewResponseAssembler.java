@@ -0,0 +1,177 @@
+package com.matzip.server.domain.review.service;
+
+import com.matzip.server.domain.comment.dto.CommentDto;
+import com.matzip.server.domain.comment.model.Comment;
+import com.matzip.server.domain.comment.repository.CommentRepository;
+import com.matzip.server.domain.relation.model.RelationType;
+import com.matzip.server.domain.relation.service.RelationService;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.Scrap;
+import com.matzip.server.domain.review.repository.ReviewRepository.ReviewVersion;
+import com.matzip.server.domain.review.repository.ReviewRepository.ReviewsVersion;
+import com.matzip.server.domain.review.repository.ScrapRepository;
+import com.matzip.server.domain.user.dto.UserDto;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.domain.user.repository.FollowRepository;
+import com.matzip.server.domain.user.repository.FollowRepository.FollowCount;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.model.BaseTimeEntity;
+import com.matzip.server.global.common.model.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Builds review and user responses for a whole page at once. Counts and the newest comments of each review are read
+ * with a fixed number of queries over the page's ids and viewer flags come from {@link RelationService}, so no lazy collection of the
+ * rendered entities is initialized. Validators are derived from the same inputs without rendering anything: row
+ * versions, relation index sizes and the viewer's flags.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewResponseAssembler {
+    private final ScrapRepository scrapRepository;
+    private final CommentRepository commentRepository;
+    private final FollowRepository followRepository;
+    private final RelationService relationService;
+
+    public Slice<ReviewDto.Response> toResponses(Slice<Review> reviews, User me) {
+        Map<Long, ReviewDto.Response> responses = toResponses(reviews.getContent(), me).stream()
+                .collect(Collectors.toMap(ReviewDto.Response::getId, r -> r));
+        return reviews.map(r -> responses.get(r.getId()));
+    }
+
+    public List<ReviewDto.Response> toResponses(List<Review> reviews, User me) {
+        if (reviews.isEmpty()) return List.of();
+        return new Context(reviews, List.of(), me).reviewResponses(reviews);
+    }
+
+    public ReviewDto.Response toResponse(Review review, User me) {
+        return toResponses(List.of(review), me).get(0);
+    }
+
+    public List<CommentDto.Response> toCommentResponses(List<Comment> comments, User me) {
+        Context context = new Context(List.of(), comments.stream().map(Comment::getUser).distinct().toList(), me);
+        return comments.stream().map(c -> new CommentDto.Response(c, context.userResponse(c.getUser()))).toList();
+    }
+
+    public Slice<UserDto.Response> toUserResponses(Slice<User> users, User me) {
+        Context context = new Context(List.of(), users.getContent(), me);
+        return users.map(context::userResponse);
+    }
+
+    public UserDto.DetailedResponse toDetailedResponse(User user, CursorSlice<Review> reviews, User me) {
+        Context context = new Context(reviews.getContent(), List.of(user), me);
+        return new UserDto.DetailedResponse(
+                user, me,
+                context.isMyFollowing(user), context.isMyFollower(user),
+                context.numberOfFollowers(user), context.numberOfFollowings(user),
+                context.reviewResponses(reviews.getContent()), reviews.getNextCursor());
+    }
+
+    public Validator toValidator(ReviewVersion review, User author, Long myId) {
+        return Validator.of(
+                Validator.latest(review.getModifiedAt(), review.getEngagedAt(), author.getModifiedAt()),
+                review.getId(), review.getModifiedAt(), review.getEngagementVersion(), review.getViews(),
+                relationService.indexOf(myId, RelationType.HEART).contains(review.getId()),
+                relationService.indexOf(myId, RelationType.SCRAP).contains(review.getId()),
+                userVersionOf(author, myId));
+    }
+
+    /**
+     * The viewer's whole heart and scrap indexes are part of a profile's validator, so any heart or scrap by the
+     * viewer changes it; exact per-review flags would require loading the reviews.
+     */
+    public Validator toValidator(User user, ReviewsVersion reviews, Long myId) {
+        return Validator.of(
+                Validator.latest(user.getModifiedAt(), reviews.getModifiedAt(), reviews.getEngagedAt()),
+                userVersionOf(user, myId),
+                reviews.getTotal(), reviews.getModifiedAt(), reviews.getEngagementVersion(), reviews.getViews(),
+                relationService.indexOf(myId, RelationType.HEART).encode().hashCode(),
+                relationService.indexOf(myId, RelationType.SCRAP).encode().hashCode());
+    }
+
+    private String userVersionOf(User user, Long myId) {
+        return String.join(",",
+                String.valueOf(user.getId()), user.getUsername(), user.getUserImage(), user.getProfileString(),
+                String.valueOf(user.getMatzipLevel()), String.valueOf(user.getModifiedAt()), String.valueOf(myId),
+                String.valueOf(relationService.indexOf(user.getId(), RelationType.FOLLOWER).size()),
+                String.valueOf(relationService.indexOf(user.getId(), RelationType.FOLLOWING).size()),
+                String.valueOf(relationService.indexOf(myId, RelationType.FOLLOWING).contains(user.getId())),
+                String.valueOf(relationService.indexOf(myId, RelationType.FOLLOWER).contains(user.getId())));
+    }
+
+    private class Context {
+        private final User me;
+        private final Map<Long, List<Comment>> comments;
+        private final Map<Long, Scrap> scraps;
+        private final Map<Long, Long> numberOfFollowers;
+        private final Map<Long, Long> numberOfFollowings;
+
+        Context(List<Review> reviews, List<User> users, User me) {
+            this.me = me;
+            List<Long> reviewIds = reviews.stream().map(BaseTimeEntity::getId).toList();
+
+            comments = reviewIds.isEmpty() ? Map.of() :
+                       commentRepository.findLatestByReviewIds(reviewIds, ReviewDto.Response.LATEST_COMMENTS).stream()
+                               .sorted(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId))
+                               .collect(Collectors.groupingBy(c -> c.getReview().getId()));
+
+            Set<Long> userIds = new HashSet<>();
+            users.forEach(u -> userIds.add(u.getId()));
+            reviews.forEach(r -> userIds.add(r.getUser().getId()));
+            comments.values().forEach(cs -> cs.forEach(c -> userIds.add(c.getUser().getId())));
+
+            List<Long> scrapedReviewIds = reviews.stream()
+                    .filter(r -> relationService.isScraped(me, r)).map(BaseTimeEntity::getId).toList();
+            scraps = scrapedReviewIds.isEmpty() ? Map.of() :
+                     scrapRepository.findAllByUserIdAndReviewIds(me.getId(), scrapedReviewIds).stream()
+                             .collect(Collectors.toMap(s -> s.getReview().getId(), s -> s));
+            numberOfFollowers = userIds.isEmpty() ? Map.of() :
+                                followRepository.countFollowersByUserIds(userIds).stream()
+                                        .collect(Collectors.toMap(FollowCount::getUserId, FollowCount::getTotal));
+            numberOfFollowings = userIds.isEmpty() ? Map.of() :
+                                 followRepository.countFollowingsByUserIds(userIds).stream()
+                                         .collect(Collectors.toMap(FollowCount::getUserId, FollowCount::getTotal));
+        }
+
+        boolean isMyFollowing(User user) {
+            return relationService.isFollowing(me, user);
+        }
+
+        boolean isMyFollower(User user) {
+            return relationService.isFollowedBy(me, user);
+        }
+
+        int numberOfFollowers(User user) {
+            return numberOfFollowers.getOrDefault(user.getId(), 0L).intValue();
+        }
+
+        int numberOfFollowings(User user) {
+            return numberOfFollowings.getOrDefault(user.getId(), 0L).intValue();
+        }
+
+        UserDto.Response userResponse(User user) {
+            return new UserDto.Response(
+                    user, me,
+                    isMyFollowing(user), isMyFollower(user),
+                    numberOfFollowers(user), numberOfFollowings(user));
+        }
+
+        List<ReviewDto.Response> reviewResponses(List<Review> reviews) {
+            return reviews.stream().map(r -> new ReviewDto.Response(
+                    r, me,
+                    userResponse(r.getUser()),
+                    relationService.isHearted(me, r),
+                    scraps.get(r.getId()),
+                    comments.getOrDefault(r.getId(), List.of()).stream()
+                            .map(c -> new CommentDto.Response(c, userResponse(c.getUser())))
+                            .collect(Collectors.toList())
+            )).collect(Collectors.toList());
+        }
+    }
+}
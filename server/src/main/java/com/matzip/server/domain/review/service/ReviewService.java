@@ -1,8 +1,12 @@
 package com.matzip.server.domain.review.service;
 
 import com.matzip.server.domain.comment.repository.CommentRepository;
+import com.matzip.server.domain.feed.model.FeedEvent;
 import com.matzip.server.domain.image.service.ImageService;
 import com.matzip.server.domain.record.service.RecordService;
+import com.matzip.server.domain.record.service.ViewCountService;
+import com.matzip.server.domain.relation.model.RelationType;
+import com.matzip.server.domain.relation.service.RelationService;
 import com.matzip.server.domain.review.dto.ReviewDto.PatchRequest;
 import com.matzip.server.domain.review.dto.ReviewDto.PostRequest;
 import com.matzip.server.domain.review.dto.ReviewDto.Response;
@@ -13,13 +17,22 @@ import com.matzip.server.domain.review.model.Review;
 import com.matzip.server.domain.review.model.Scrap;
 import com.matzip.server.domain.review.repository.HeartRepository;
 import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.repository.ReviewRepository.ReviewVersion;
 import com.matzip.server.domain.review.repository.ScrapRepository;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent.Activity;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.model.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -33,34 +46,89 @@ public class ReviewService {
     private final HeartRepository heartRepository;
     private final ImageService imageService;
     private final RecordService recordService;
+    private final ViewCountService viewCountService;
+    private final RelationService relationService;
+    private final ReviewResponseAssembler reviewResponseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Response postReview(Long myId, PostRequest request) {
-        User me = userRepository.findMeById(myId);
-        Review review = reviewRepository.save(new Review(me, request));
+        String username = userRepository.findMeById(myId).getUsername();
+        List<String> imageUrls = imageService.uploadImages(username, request.images());
+
+        try {
+            return transactionTemplate.execute(status -> {
+                User me = userRepository.findMeById(myId);
+                Review review = reviewRepository.save(new Review(me, request));
 
-        review.getReviewImages().addAll(imageService.uploadImages(me.getUsername(), request.images()));
+                review.getReviewImages().addAll(imageUrls);
 
-        recordService.postReview(me);
+                recordService.postReview(me);
+                eventPublisher.publishEvent(ReviewIndexEvent.saved(review.getId()));
+                eventPublisher.publishEvent(FeedEvent.posted(review.getId(), me.getId()));
 
-        return new Response(review, me);
+                return reviewResponseAssembler.toResponse(review, me);
+            });
+        } catch (RuntimeException e) {
+            imageService.deleteImages(imageUrls);
+            throw e;
+        }
+    }
+
+    public Validator fetchReviewValidator(Long myId, Long reviewId) {
+        ReviewVersion review = reviewRepository.findVersionById(reviewId)
+                .orElseThrow(() -> new ReviewNotFoundException(reviewId));
+        return reviewResponseAssembler.toValidator(review, userRepository.getReferenceById(review.getUserId()), myId);
     }
 
-    @Transactional
     public Response fetchReview(Long myId, Long reviewId) {
         User me = userRepository.findMeById(myId);
         Review review = reviewRepository.findById(reviewId).orElseThrow(() -> new ReviewNotFoundException(reviewId));
 
-        recordService.view(review, me);
+        viewCountService.view(review, me);
 
-        return new Response(review, me);
+        return reviewResponseAssembler.toResponse(review, me);
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Response patchReview(Long myId, Long reviewId, PatchRequest request) {
-        User me = userRepository.findMeById(myId);
-        Review review = reviewRepository.findById(reviewId).orElseThrow(() -> new ReviewNotFoundException(reviewId));
+        String username = transactionTemplate.execute(status -> {
+            User me = userRepository.findMeById(myId);
+            validatePatch(me, reviewRepository.findById(reviewId).orElseThrow(() -> new ReviewNotFoundException(reviewId)), request);
+            return me.getUsername();
+        });
+        List<String> imageUrls = request.images() == null ? List.of() : imageService.uploadImages(username, request.images());
+
+        Response response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                User me = userRepository.findMeById(myId);
+                Review review = reviewRepository.findById(reviewId).orElseThrow(() -> new ReviewNotFoundException(reviewId));
+                validatePatch(me, review, request);
+
+                review.getReviewImages().addAll(imageUrls);
+                if (request.oldUrls() != null) review.getReviewImages().removeAll(request.oldUrls());
+                if (request.content() != null) review.setContent(request.content());
+                if (request.rating() != null) review.setRating(request.rating());
+
+                if (request.images() != null || request.oldUrls() != null || request.content() != null || request.rating() != null) {
+                    review.update();
+                    eventPublisher.publishEvent(ReviewIndexEvent.saved(reviewId));
+                }
 
+                return reviewResponseAssembler.toResponse(review, me);
+            });
+        } catch (RuntimeException e) {
+            imageService.deleteImages(imageUrls);
+            throw e;
+        }
+
+        if (request.oldUrls() != null) imageService.deleteImages(request.oldUrls());
+        return response;
+    }
+
+    private void validatePatch(User me, Review review, PatchRequest request) {
         if (review.getUser() != me) throw new ReviewAccessDeniedException();
 
         if (request.oldUrls() != null) {
@@ -72,18 +140,6 @@ public class ReviewService {
         imageCount += request.images() == null ? 0 : request.images().size();
         imageCount -= request.oldUrls() == null ? 0 : request.oldUrls().size();
         if (imageCount < 1) throw new DeleteLastImageException();
-
-        if (request.images() != null)
-            review.getReviewImages().addAll(imageService.uploadImages(me.getUsername(), request.images()));
-        if (request.oldUrls() != null)
-            review.getReviewImages().removeAll(imageService.deleteImages(request.oldUrls()));
-        if (request.content() != null) review.setContent(request.content());
-        if (request.rating() != null) review.setRating(request.rating());
-
-        if (request.images() != null || request.oldUrls() != null || request.content() != null || request.rating() != null)
-            review.update();
-
-        return new Response(review, me);
     }
 
     @Transactional
@@ -102,6 +158,7 @@ public class ReviewService {
         review.delete();
         reviewRepository.delete(review);
         recordService.deleteReview(me);
+        eventPublisher.publishEvent(ReviewIndexEvent.deleted(reviewId));
     }
 
     @Transactional
@@ -113,10 +170,14 @@ public class ReviewService {
         if (review.getHearts().stream().anyMatch(h -> h.getUser().equals(me))) throw new DuplicateHeartException();
 
         heartRepository.save(new Heart(me, review));
+        reviewRepository.engage(reviewId, 1, 0, 0);
+        relationService.invalidate(myId, RelationType.HEART);
+        eventPublisher.publishEvent(ReviewIndexEvent.saved(reviewId));
+        eventPublisher.publishEvent(ReviewActivityEvent.of(reviewId, Activity.HEART));
 
         recordService.likeReview(review, me);
 
-        return new Response(review, me);
+        return reviewResponseAssembler.toResponse(review, me);
     }
 
     @Transactional
@@ -128,11 +189,15 @@ public class ReviewService {
                 h -> {
                     h.delete();
                     heartRepository.delete(h);
+                    reviewRepository.engage(reviewId, -1, 0, 0);
+                    relationService.invalidate(myId, RelationType.HEART);
+                    eventPublisher.publishEvent(ReviewIndexEvent.saved(reviewId));
+                    eventPublisher.publishEvent(ReviewActivityEvent.undo(reviewId, Activity.HEART, h.getCreatedAt()));
                     recordService.deleteLike(review, me);
                 }
         );
 
-        return new Response(review, me);
+        return reviewResponseAssembler.toResponse(review, me);
     }
 
     @Transactional
@@ -148,12 +213,18 @@ public class ReviewService {
             Scrap scrap = scrapOptional.get();
             scrap.setDescription(request.description());
             scrap.update();
-            return new Response(scrapRepository.save(scrap));
+            review.engage();
+            scrapRepository.save(scrap);
+            reviewRepository.engage(reviewId);
         } else {
-            Scrap scrap = scrapRepository.save(new Scrap(me, review, request.description()));
+            scrapRepository.save(new Scrap(me, review, request.description()));
+            reviewRepository.engage(reviewId, 0, 1, 0);
+            relationService.invalidate(myId, RelationType.SCRAP);
+            eventPublisher.publishEvent(ReviewIndexEvent.saved(reviewId));
+            eventPublisher.publishEvent(ReviewActivityEvent.of(reviewId, Activity.SCRAP));
             recordService.scrapReview(review, me);
-            return new Response(scrap);
         }
+        return reviewResponseAssembler.toResponse(review, me);
     }
 
     @Transactional
@@ -165,10 +236,14 @@ public class ReviewService {
                 s -> {
                     s.delete();
                     scrapRepository.delete(s);
+                    reviewRepository.engage(reviewId, 0, -1, 0);
+                    relationService.invalidate(myId, RelationType.SCRAP);
+                    eventPublisher.publishEvent(ReviewIndexEvent.saved(reviewId));
+                    eventPublisher.publishEvent(ReviewActivityEvent.undo(reviewId, Activity.SCRAP, s.getCreatedAt()));
                     recordService.deleteScrap(review, me);
                 }
         );
 
-        return new Response(review, me);
+        return reviewResponseAssembler.toResponse(review, me);
     }
 }
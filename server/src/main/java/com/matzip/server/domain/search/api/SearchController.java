@@ -25,6 +25,7 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
 
 @Validated
 @RestController
@@ -42,9 +43,10 @@ public class SearchController {
             @RequestParam(value = "page", required = false, defaultValue = "0") @PositiveOrZero Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "20") @Positive @Max(100) Integer size,
             @RequestParam(value = "sort", required = false) ReviewProperty reviewProperty,
-            @RequestParam(value = "asc", required = false, defaultValue = "false") Boolean asc
+            @RequestParam(value = "asc", required = false, defaultValue = "false") Boolean asc,
+            @RequestParam(value = "cursor", required = false) @NullableNotBlank @Length(max=200) String cursor
     ) {
-        return ResponseEntity.ok(searchService.searchReviews(myId, new ReviewSearch(keyword, page, size, reviewProperty, asc)));
+        return ResponseEntity.ok(searchService.searchReviews(myId, new ReviewSearch(keyword, page, size, reviewProperty, asc, cursor)));
     }
 
     @GetMapping("/users")
@@ -56,8 +58,19 @@ public class SearchController {
             @RequestParam(value = "page", required = false, defaultValue ="0") @PositiveOrZero Integer page,
             @RequestParam(value = "size", required = false, defaultValue = "20") @Positive @Max(100) Integer size,
             @RequestParam(value = "sort", required = false) UserProperty userProperty,
-            @RequestParam(value = "asc", required = false, defaultValue = "false") Boolean asc
+            @RequestParam(value = "asc", required = false, defaultValue = "false") Boolean asc,
+            @RequestParam(value = "cursor", required = false) @NullableNotBlank @Length(max=200) String cursor
     ) {
-        return ResponseEntity.ok(searchService.searchUsers(myId, new UserSearch(username, page, size, userProperty, asc)));
+        return ResponseEntity.ok(searchService.searchUsers(myId, new UserSearch(username, page, size, userProperty, asc, cursor)));
+    }
+
+    @GetMapping("/users/autocomplete")
+    @Logging(endpoint="GET /api/v1/search/users/autocomplete")
+    public ResponseEntity<List<String>> autocompleteUsernames(
+            @CurrentUsername String user,
+            @RequestParam(value = "prefix") @NotBlank @Length(max = 30) String prefix,
+            @RequestParam(value = "size", required = false, defaultValue = "10") @Positive @Max(20) Integer size
+    ) {
+        return ResponseEntity.ok(searchService.autocompleteUsernames(prefix, size));
     }
 }
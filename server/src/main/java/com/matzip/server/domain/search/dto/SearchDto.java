@@ -4,6 +4,15 @@ import com.matzip.server.domain.review.model.ReviewProperty;
 import com.matzip.server.domain.user.model.UserProperty;
 
 public class SearchDto {
-    public record ReviewSearch(String keyword, Integer page, Integer size, ReviewProperty sort, Boolean asc) {}
-    public record UserSearch(String username, Integer page, Integer size, UserProperty sort, Boolean asc) {}
+    public record ReviewSearch(String keyword, Integer page, Integer size, ReviewProperty sort, Boolean asc, String cursor) {
+        public ReviewSearch(String keyword, Integer page, Integer size, ReviewProperty sort, Boolean asc) {
+            this(keyword, page, size, sort, asc, null);
+        }
+    }
+
+    public record UserSearch(String username, Integer page, Integer size, UserProperty sort, Boolean asc, String cursor) {
+        public UserSearch(String username, Integer page, Integer size, UserProperty sort, Boolean asc) {
+            this(username, page, size, sort, asc, null);
+        }
+    }
 }
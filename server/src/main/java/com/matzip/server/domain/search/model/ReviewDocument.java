@@ -1,15 +1,15 @@
 package com.matzip.server.domain.search.model;
 
 import com.matzip.server.domain.review.model.Review;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
 
-import javax.persistence.Id;
 import java.time.LocalDateTime;
 
 import static org.springframework.data.elasticsearch.annotations.DateFormat.date_hour_minute_second_millis;
 import static org.springframework.data.elasticsearch.annotations.DateFormat.epoch_millis;
 
-@Document(indexName = "review")
+@Document(indexName = "review", createIndex = false)
 @Mapping(mappingPath = "elastic/review-mapping.json")
 @Setting(settingPath = "elastic/review-setting.json")
 public class ReviewDocument {
@@ -19,6 +19,12 @@ public class ReviewDocument {
     private Integer rating;
     private String restaurant;
     private Long views;
+    private String username;
+    private Integer matzipLevel;
+    private Integer numberOfFollowers;
+    private Integer numberOfHearts;
+    private Integer numberOfScraps;
+    private Integer numberOfComments;
     @Field(type = FieldType.Date, format = {date_hour_minute_second_millis, epoch_millis})
     private LocalDateTime createdAt;
     @Field(type = FieldType.Date, format = {date_hour_minute_second_millis, epoch_millis})
@@ -27,12 +33,18 @@ public class ReviewDocument {
     public ReviewDocument() {
     }
 
-    public ReviewDocument(Review review) {
+    public ReviewDocument(Review review, int numberOfFollowers) {
         this.id = review.getId();
         this.content = review.getContent();
         this.rating = review.getRating();
         this.restaurant = review.getRestaurant();
         this.views = review.getViews();
+        this.username = review.getUser().getUsername();
+        this.matzipLevel = review.getUser().getMatzipLevel();
+        this.numberOfFollowers = numberOfFollowers;
+        this.numberOfHearts = review.getNumberOfHearts();
+        this.numberOfScraps = review.getNumberOfScraps();
+        this.numberOfComments = review.getNumberOfComments();
         this.createdAt = review.getCreatedAt();
         this.modifiedAt = review.getModifiedAt();
     }
@@ -57,6 +69,30 @@ public class ReviewDocument {
         return views;
     }
 
+    public String getUsername() {
+        return username;
+    }
+
+    public Integer getMatzipLevel() {
+        return matzipLevel;
+    }
+
+    public Integer getNumberOfFollowers() {
+        return numberOfFollowers;
+    }
+
+    public Integer getNumberOfHearts() {
+        return numberOfHearts;
+    }
+
+    public Integer getNumberOfScraps() {
+        return numberOfScraps;
+    }
+
+    public Integer getNumberOfComments() {
+        return numberOfComments;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
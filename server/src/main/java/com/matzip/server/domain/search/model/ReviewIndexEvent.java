@@ -0,0 +1,11 @@
+package com.matzip.server.domain.search.model;
+
+public record ReviewIndexEvent(Long reviewId, boolean deleted) {
+    public static ReviewIndexEvent saved(Long reviewId) {
+        return new ReviewIndexEvent(reviewId, false);
+    }
+
+    public static ReviewIndexEvent deleted(Long reviewId) {
+        return new ReviewIndexEvent(reviewId, true);
+    }
+}
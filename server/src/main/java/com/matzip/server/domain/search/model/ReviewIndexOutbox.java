@@ -0,0 +1,37 @@
+package com.matzip.server.domain.search.model;
+
+import com.matzip.server.global.common.model.BaseTimeEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name="review_index_outbox", indexes={
+        @Index(name="idx_review_index_outbox_next_attempt_at", columnList="nextAttemptAt")
+})
+@NoArgsConstructor
+@Getter
+public class ReviewIndexOutbox extends BaseTimeEntity {
+    private Long reviewId;
+    private Integer attempts = 0;
+    private LocalDateTime nextAttemptAt;
+
+    public ReviewIndexOutbox(Long reviewId) {
+        this.reviewId = reviewId;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void retryAfter(Duration backoff) {
+        this.attempts++;
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+    }
+
+    @Override
+    public void delete() {
+    }
+}
@@ -0,0 +1,15 @@
+package com.matzip.server.domain.search.model;
+
+public record UsernameIndexEvent(Long userId, String username) {
+    public static UsernameIndexEvent saved(Long userId, String username) {
+        return new UsernameIndexEvent(userId, username);
+    }
+
+    public static UsernameIndexEvent deleted(Long userId) {
+        return new UsernameIndexEvent(userId, null);
+    }
+
+    public boolean deleted() {
+        return username == null;
+    }
+}
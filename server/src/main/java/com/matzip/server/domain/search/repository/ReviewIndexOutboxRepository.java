@@ -0,0 +1,27 @@
+package com.matzip.server.domain.search.repository;
+
+import com.matzip.server.domain.search.model.ReviewIndexOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReviewIndexOutboxRepository extends JpaRepository<ReviewIndexOutbox, Long> {
+    /**
+     * Locks the oldest ready rows with {@code SKIP LOCKED} so that relays on several instances drain disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name="javax.persistence.lock.timeout", value="-2"))
+    @Query("SELECT o FROM ReviewIndexOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.id")
+    List<ReviewIndexOutbox> findReadyForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT MIN(o.createdAt) FROM ReviewIndexOutbox o")
+    LocalDateTime findOldestCreatedAt();
+}
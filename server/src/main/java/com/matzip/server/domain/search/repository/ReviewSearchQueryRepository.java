@@ -0,0 +1,111 @@
+package com.matzip.server.domain.search.repository;
+
+import com.matzip.server.domain.review.model.ReviewProperty;
+import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
+import com.matzip.server.domain.search.model.ReviewDocument;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.model.Cursor;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.matzip.server.domain.review.model.ReviewProperty.*;
+
+@Repository
+public class ReviewSearchQueryRepository {
+    private final ElasticsearchOperations operations;
+
+    public ReviewSearchQueryRepository(ElasticsearchOperations operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Returns matching review ids in the same order as the MySQL search: (sort key, createdAt DESC, id DESC), or
+     * (createdAt, id) in the requested direction when no sort is given. Cursors are resolved with search_after.
+     */
+    public CursorSlice<Long> searchReviewIds(ReviewSearch request) {
+        ReviewProperty sort = request.sort();
+        boolean asc = request.asc();
+        int size = request.size();
+        Cursor cursor = Cursor.decode(request.cursor(), sort, asc);
+        Pageable pageable = PageRequest.of(request.page(), size);
+        SortOrder order = asc ? SortOrder.ASC : SortOrder.DESC;
+
+        NativeSearchQueryBuilder builder = new NativeSearchQueryBuilder()
+                .withQuery(keywordQuery(request.keyword()))
+                .withPageable(PageRequest.of(cursor == null ? request.page() : 0, size + 1));
+        if (sort == null) {
+            builder.withSort(SortBuilders.fieldSort("createdAt").order(order))
+                    .withSort(SortBuilders.fieldSort("id").order(order));
+        } else {
+            builder.withSort(SortBuilders.fieldSort(sortFieldOf(sort)).order(order))
+                    .withSort(SortBuilders.fieldSort("createdAt").order(SortOrder.DESC))
+                    .withSort(SortBuilders.fieldSort("id").order(SortOrder.DESC));
+        }
+
+        NativeSearchQuery query = builder.build();
+        if (cursor != null) query.setSearchAfter(searchAfterOf(sort, cursor));
+
+        List<ReviewDocument> documents = new ArrayList<>(
+                operations.search(query, ReviewDocument.class).stream().map(SearchHit::getContent).toList());
+
+        boolean hasNext = false;
+        String nextCursor = null;
+        if (documents.size() > size) {
+            documents.remove(size);
+            hasNext = true;
+
+            ReviewDocument last = documents.get(documents.size() - 1);
+            nextCursor = Cursor.of(sort, asc, sortValueOf(sort, last), last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorSlice<>(documents.stream().map(ReviewDocument::getId).toList(), pageable, hasNext, nextCursor);
+    }
+
+    private QueryBuilder keywordQuery(String keyword) {
+        return keyword == null || keyword.isBlank()
+               ? QueryBuilders.matchAllQuery()
+               : QueryBuilders.matchQuery("content", keyword);
+    }
+
+    private String sortFieldOf(ReviewProperty reviewProperty) {
+        if (reviewProperty == REVIEWER_USERNAME) return "username";
+        else if (reviewProperty == REVIEWER_MATZIP_LEVEL) return "matzipLevel";
+        else if (reviewProperty == REVIEWER_NUMBER_OF_FOLLOWERS) return "numberOfFollowers";
+        else if (reviewProperty == NUMBER_OF_HEARTS) return "numberOfHearts";
+        else if (reviewProperty == NUMBER_OF_SCRAPS) return "numberOfScraps";
+        else if (reviewProperty == NUMBER_OF_COMMENTS) return "numberOfComments";
+        else return "rating";
+    }
+
+    private Object sortValueOf(ReviewProperty reviewProperty, ReviewDocument document) {
+        if (reviewProperty == null) return document.getCreatedAt();
+        else if (reviewProperty == REVIEWER_USERNAME) return document.getUsername();
+        else if (reviewProperty == REVIEWER_MATZIP_LEVEL) return document.getMatzipLevel();
+        else if (reviewProperty == REVIEWER_NUMBER_OF_FOLLOWERS) return document.getNumberOfFollowers();
+        else if (reviewProperty == NUMBER_OF_HEARTS) return document.getNumberOfHearts();
+        else if (reviewProperty == NUMBER_OF_SCRAPS) return document.getNumberOfScraps();
+        else if (reviewProperty == NUMBER_OF_COMMENTS) return document.getNumberOfComments();
+        else return document.getRating();
+    }
+
+    private List<Object> searchAfterOf(ReviewProperty reviewProperty, Cursor cursor) {
+        long createdAt = cursor.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        if (reviewProperty == null) return List.of(createdAt, cursor.id());
+
+        Object key = cursor.key(reviewProperty == REVIEWER_USERNAME ? String.class : Long.class);
+        return List.of(key, createdAt, cursor.id());
+    }
+}
@@ -0,0 +1,369 @@
+package com.matzip.server.domain.search.service;
+
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.ReviewProperty;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
+import com.matzip.server.domain.search.model.ReviewDocument;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.model.Cursor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.matzip.server.domain.review.model.ReviewProperty.*;
+
+/**
+ * Embedded review search index for deployments without an Elasticsearch cluster, used with
+ * {@code matzip.search.engine=LUCENE}. Review content is analyzed with the Nori Korean analyzer into a memory-mapped
+ * index under {@code matzip.search.lucene.path}, and every sort field is kept as doc values.
+ * <p>
+ * {@link ReviewIndexEvent}s queue the review after commit and are broadcast so every instance does the same; the
+ * queue is drained from MySQL and the near-real-time reader reopened every {@code matzip.search.lucene.refresh-millis}.
+ * The queue only lives in memory and changes are committed every {@code matzip.search.lucene.commit-millis}, so a
+ * crash, a restart or a missed broadcast can leave the index behind MySQL. {@link #rebuild()} therefore reconciles
+ * the whole index with MySQL at startup, every {@code matzip.search.lucene.rebuild-delay-millis} and with
+ * {@code --reindex-reviews}.
+ */
+@Slf4j
+@Component
+public class LuceneReviewIndex implements MessageListener {
+    public static final String CHANNEL = "search:reviews";
+    private static final String ID = "id";
+    private static final String CONTENT = "content";
+    private static final String CREATED_AT = "createdAt";
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewDocumentAssembler reviewDocumentAssembler;
+    private final StringRedisTemplate redisTemplate;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final Lock writeLock = new ReentrantLock();
+
+    @Value("${matzip.search.engine:FULLTEXT}")
+    private ReviewSearchEngine.Engine engine = ReviewSearchEngine.Engine.FULLTEXT;
+
+    @Value("${matzip.search.lucene.path:data/lucene/reviews}")
+    private String path = "data/lucene/reviews";
+
+    @Value("${matzip.search.reindex.chunk-size:1000}")
+    private long chunkSize = 1000;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public LuceneReviewIndex(
+            ReviewRepository reviewRepository,
+            ReviewDocumentAssembler reviewDocumentAssembler,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.reviewDocumentAssembler = reviewDocumentAssembler;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean isEnabled() {
+        return engine == ReviewSearchEngine.Engine.LUCENE;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!isEnabled()) return;
+        directory = new MMapDirectory(Path.of(path));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (writer == null) return;
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${matzip.search.lucene.rebuild-delay-millis:3600000}",
+               fixedDelayString = "${matzip.search.lucene.rebuild-delay-millis:3600000}")
+    public void reconcile() {
+        if (writer == null) return;
+        try {
+            rebuild();
+        } catch (UncheckedIOException | DataAccessException e) {
+            log.warn("Failed to reconcile review Lucene index: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(ReviewIndexEvent event) {
+        if (!isEnabled()) return;
+        pending.add(event.reviewId());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(event.reviewId()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast index change of review {}: {}", event.reviewId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!isEnabled()) return;
+        try {
+            pending.add(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignored malformed review index message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies queued changes and reopens the reader. Skipped while a rebuild holds the writer; the queue is kept and
+     * drained on the next run.
+     */
+    @Scheduled(fixedDelayString = "${matzip.search.lucene.refresh-millis:1000}")
+    public void refresh() {
+        if (writer == null || !writeLock.tryLock()) return;
+        List<Long> reviewIds = new ArrayList<>(pending);
+        try {
+            pending.removeAll(reviewIds);
+            if (!reviewIds.isEmpty()) apply(reviewIds);
+            searcherManager.maybeRefresh();
+        } catch (IOException | DataAccessException e) {
+            pending.addAll(reviewIds);
+            log.warn("Failed to refresh review index with {} changes: {}", reviewIds.size(), e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${matzip.search.lucene.commit-millis:60000}")
+    public void commit() {
+        if (writer == null || !writeLock.tryLock()) return;
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            log.warn("Failed to commit review index: {}", e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Rewrites the whole index from MySQL one id range at a time: every review of the range is replaced and every
+     * other id of it deleted, so a run that fails halfway leaves older documents behind but never drops a live
+     * review. Searches keep reading the previous snapshot until the run commits.
+     */
+    public long rebuild() {
+        if (writer == null) return 0;
+        writeLock.lock();
+        try {
+            long maxId = reviewRepository.findMaxId();
+            long indexed = 0;
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                long toId = Math.min(maxId, fromId + chunkSize - 1);
+                List<Review> reviews = reviewRepository.findAllByIdBetweenFetchJoinUser(fromId, toId);
+                write(LongStream.rangeClosed(fromId, toId).boxed().toList(), reviews);
+                indexed += reviews.size();
+            }
+            writer.deleteDocuments(NumericDocValuesField.newSlowRangeQuery(ID, maxId + 1, Long.MAX_VALUE));
+            writer.commit();
+            searcherManager.maybeRefresh();
+
+            log.info("Review Lucene rebuild finished: {} reviews indexed (max id = {})", indexed, maxId);
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns matching review ids ordered like {@link ReviewSearchQueryRepository#searchReviewIds}, or by score
+     * (then createdAt DESC, id DESC) for {@link ReviewProperty#RELEVANCE}. Cursors are resolved with searchAfter.
+     */
+    public CursorSlice<Long> searchReviewIds(ReviewSearch request) {
+        if (searcherManager == null) throw new DataAccessResourceFailureException("Review Lucene index is not open");
+        ReviewProperty sort = request.sort();
+        boolean asc = request.asc();
+        int size = request.size();
+        Cursor cursor = Cursor.decode(request.cursor(), sort, asc);
+        Pageable pageable = PageRequest.of(request.page(), size);
+
+        Query query = keywordQuery(request.keyword());
+        if (query == null) return new CursorSlice<>(List.of(), pageable, false, null);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int offset = cursor == null ? request.page() * size : 0;
+                TopFieldDocs top = cursor == null
+                                   ? searcher.search(query, offset + size + 1, sortOf(sort, asc))
+                                   : searcher.searchAfter(afterOf(sort, asc, cursor), query, size + 1, sortOf(sort, asc));
+
+                List<FieldDoc> hits = Arrays.stream(top.scoreDocs).skip(offset).map(FieldDoc.class::cast)
+                        .collect(Collectors.toList());
+                boolean hasNext = false;
+                String nextCursor = null;
+                if (hits.size() > size) {
+                    hits.remove(size);
+                    hasNext = true;
+
+                    FieldDoc last = hits.get(hits.size() - 1);
+                    nextCursor = Cursor.of(sort, asc, sortValueOf(sort, last), createdAtOf(last), idOf(last)).encode();
+                }
+
+                return new CursorSlice<>(hits.stream().map(this::idOf).toList(), pageable, hasNext, nextCursor);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Failed to search review Lucene index", e);
+        }
+    }
+
+    private Query keywordQuery(String keyword) {
+        return keyword == null || keyword.isBlank()
+               ? new MatchAllDocsQuery()
+               : new QueryBuilder(analyzer).createBooleanQuery(CONTENT, keyword);
+    }
+
+    private Sort sortOf(ReviewProperty reviewProperty, boolean asc) {
+        if (reviewProperty == null) {
+            return new Sort(new SortField(CREATED_AT, SortField.Type.LONG, !asc),
+                            new SortField(ID, SortField.Type.LONG, !asc));
+        }
+        SortField key = reviewProperty == RELEVANCE
+                        ? new SortField(null, SortField.Type.SCORE, asc)
+                        : new SortField(sortFieldOf(reviewProperty),
+                                        reviewProperty == REVIEWER_USERNAME ? SortField.Type.STRING : SortField.Type.LONG,
+                                        !asc);
+        return new Sort(key, new SortField(CREATED_AT, SortField.Type.LONG, true),
+                        new SortField(ID, SortField.Type.LONG, true));
+    }
+
+    private String sortFieldOf(ReviewProperty reviewProperty) {
+        if (reviewProperty == REVIEWER_USERNAME) return "username";
+        else if (reviewProperty == REVIEWER_MATZIP_LEVEL) return "matzipLevel";
+        else if (reviewProperty == REVIEWER_NUMBER_OF_FOLLOWERS) return "numberOfFollowers";
+        else if (reviewProperty == NUMBER_OF_HEARTS) return "numberOfHearts";
+        else if (reviewProperty == NUMBER_OF_SCRAPS) return "numberOfScraps";
+        else if (reviewProperty == NUMBER_OF_COMMENTS) return "numberOfComments";
+        else return "rating";
+    }
+
+    /**
+     * searchAfter breaks ties on Lucene's internal doc id, which the cursor does not carry. The cursor id is instead
+     * moved one step past the last hit, so that hit sorts strictly before the position and every later one after.
+     */
+    private FieldDoc afterOf(ReviewProperty reviewProperty, boolean asc, Cursor cursor) {
+        long createdAt = cursor.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        boolean idAscending = reviewProperty == null && asc;
+        long afterId = idAscending ? cursor.id() + 1 : cursor.id() - 1;
+        if (reviewProperty == null) return new FieldDoc(-1, Float.NaN, new Object[]{createdAt, afterId});
+
+        Object key;
+        if (reviewProperty == RELEVANCE) key = cursor.key(Float.class);
+        else if (reviewProperty == REVIEWER_USERNAME) key = new BytesRef((String) cursor.key(String.class));
+        else key = cursor.key(Long.class);
+        return new FieldDoc(-1, Float.NaN, new Object[]{key, createdAt, afterId});
+    }
+
+    private Object sortValueOf(ReviewProperty reviewProperty, FieldDoc hit) {
+        if (reviewProperty == null) return createdAtOf(hit);
+        else if (reviewProperty == REVIEWER_USERNAME) return ((BytesRef) hit.fields[0]).utf8ToString();
+        else return hit.fields[0];
+    }
+
+    private LocalDateTime createdAtOf(FieldDoc hit) {
+        long millis = (Long) hit.fields[hit.fields.length - 2];
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    private Long idOf(FieldDoc hit) {
+        return (Long) hit.fields[hit.fields.length - 1];
+    }
+
+    private void apply(Collection<Long> reviewIds) throws IOException {
+        write(reviewIds, reviewRepository.findAllByIdInFetchJoinUser(reviewIds));
+    }
+
+    /**
+     * Replaces the documents of the given reviews and deletes those of every other id in {@code reviewIds}.
+     */
+    private void write(Collection<Long> reviewIds, List<Review> reviews) throws IOException {
+        Set<Long> deletedIds = new HashSet<>(reviewIds);
+        for (ReviewDocument document : reviewDocumentAssembler.toDocuments(reviews)) {
+            deletedIds.remove(document.getId());
+            writer.updateDocument(new Term(ID, String.valueOf(document.getId())), toDocument(document));
+        }
+        for (Long id : deletedIds) writer.deleteDocuments(new Term(ID, String.valueOf(id)));
+    }
+
+    private Document toDocument(ReviewDocument review) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(review.getId()), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID, review.getId()));
+        document.add(new TextField(CONTENT, review.getContent(), Field.Store.NO));
+        document.add(new NumericDocValuesField(
+                CREATED_AT, review.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()));
+        document.add(new SortedDocValuesField("username", new BytesRef(review.getUsername())));
+        document.add(new NumericDocValuesField("matzipLevel", review.getMatzipLevel()));
+        document.add(new NumericDocValuesField("numberOfFollowers", review.getNumberOfFollowers()));
+        document.add(new NumericDocValuesField("numberOfHearts", review.getNumberOfHearts()));
+        document.add(new NumericDocValuesField("numberOfScraps", review.getNumberOfScraps()));
+        document.add(new NumericDocValuesField("numberOfComments", review.getNumberOfComments()));
+        document.add(new NumericDocValuesField("rating", review.getRating()));
+        return document;
+    }
+}
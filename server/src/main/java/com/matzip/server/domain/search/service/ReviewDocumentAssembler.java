@@ -0,0 +1,34 @@
+package com.matzip.server.domain.search.service;
+
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.search.model.ReviewDocument;
+import com.matzip.server.domain.user.repository.FollowRepository;
+import com.matzip.server.domain.user.repository.FollowRepository.FollowCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds search documents for a chunk of reviews, reading the reviewers' follower counts with one query. Shared by
+ * the Elasticsearch relay and the embedded Lucene index, so both engines index the same values.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewDocumentAssembler {
+    private final FollowRepository followRepository;
+
+    public List<ReviewDocument> toDocuments(List<Review> reviews) {
+        if (reviews.isEmpty()) return List.of();
+        Set<Long> userIds = reviews.stream().map(r -> r.getUser().getId()).collect(Collectors.toSet());
+        Map<Long, Long> followers = followRepository.countFollowersByUserIds(userIds).stream()
+                .collect(Collectors.toMap(FollowCount::getUserId, FollowCount::getTotal));
+
+        return reviews.stream()
+                .map(r -> new ReviewDocument(r, followers.getOrDefault(r.getUser().getId(), 0L).intValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,189 @@
+package com.matzip.server.domain.search.service;
+
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.search.model.ReviewDocument;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
+import com.matzip.server.domain.search.model.ReviewIndexOutbox;
+import com.matzip.server.domain.search.repository.ReviewIndexOutboxRepository;
+import com.matzip.server.domain.search.repository.ReviewSearchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the review index eventually consistent through a transactional outbox. {@link ReviewIndexEvent}s are
+ * written as outbox rows in the publishing transaction, and {@link #relay()} drains them in id order, indexing
+ * the current state of each review (or deleting it when it no longer exists), so replays are idempotent.
+ * <p>
+ * Searches and relayed writes go through the {@value #INDEX_ALIAS} alias. {@link #reindexAll()} builds a new
+ * versioned index beside the live one and switches the alias over atomically, so search keeps answering while it
+ * runs; the relay pauses meanwhile and its pending rows land in the new index once it is live.
+ */
+@Slf4j
+@Service
+public class ReviewIndexService {
+    static final String INDEX_ALIAS = "review";
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewDocumentAssembler reviewDocumentAssembler;
+    private final ReviewSearchRepository reviewSearchRepository;
+    private final ReviewIndexOutboxRepository reviewIndexOutboxRepository;
+    private final ElasticsearchOperations operations;
+    private final ReviewSearchEngine reviewSearchEngine;
+    private final Counter indexedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+
+    @Value("${matzip.search.reindex.chunk-size:1000}")
+    private long chunkSize;
+
+    @Value("${matzip.search.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${matzip.search.outbox.max-backoff-seconds:300}")
+    private long maxBackoffSeconds;
+
+    public ReviewIndexService(
+            ReviewRepository reviewRepository,
+            ReviewDocumentAssembler reviewDocumentAssembler,
+            ReviewSearchRepository reviewSearchRepository,
+            ReviewIndexOutboxRepository reviewIndexOutboxRepository,
+            ElasticsearchOperations operations,
+            ReviewSearchEngine reviewSearchEngine,
+            MeterRegistry meterRegistry
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.reviewDocumentAssembler = reviewDocumentAssembler;
+        this.reviewSearchRepository = reviewSearchRepository;
+        this.reviewIndexOutboxRepository = reviewIndexOutboxRepository;
+        this.operations = operations;
+        this.reviewSearchEngine = reviewSearchEngine;
+        this.indexedCounter = meterRegistry.counter("matzip.search.outbox.relayed");
+        this.failedCounter = meterRegistry.counter("matzip.search.outbox.failed");
+        Gauge.builder("matzip.search.outbox.lag", lagMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void enqueue(ReviewIndexEvent event) {
+        if (isDisabled()) return;
+        reviewIndexOutboxRepository.save(new ReviewIndexOutbox(event.reviewId()));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${matzip.search.outbox.relay-delay-millis:1000}")
+    public void relay() {
+        if (isDisabled() || reindexing.get()) return;
+
+        List<ReviewIndexOutbox> batch = reviewIndexOutboxRepository.findReadyForUpdate(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+
+        Set<Long> reviewIds = batch.stream().map(ReviewIndexOutbox::getReviewId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Review> reviews = reviewRepository.findAllByIdInFetchJoinUser(reviewIds);
+        Set<Long> deletedIds = new HashSet<>(reviewIds);
+        reviews.forEach(r -> deletedIds.remove(r.getId()));
+
+        try {
+            if (!reviews.isEmpty()) reviewSearchRepository.saveAll(reviewDocumentAssembler.toDocuments(reviews));
+            if (!deletedIds.isEmpty()) reviewSearchRepository.deleteAllById(deletedIds);
+            reviewIndexOutboxRepository.deleteAllInBatch(batch);
+            indexedCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            batch.forEach(o -> o.retryAfter(backoffOf(o.getAttempts())));
+            failedCounter.increment(batch.size());
+            log.warn("Failed to relay {} review index changes: {}", batch.size(), e.getMessage());
+        }
+
+        LocalDateTime oldest = reviewIndexOutboxRepository.findOldestCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+
+    public long reindexAll() {
+        if (!reindexing.compareAndSet(false, true)) throw new IllegalStateException("Review reindex is already running");
+
+        IndexCoordinates index = IndexCoordinates.of(INDEX_ALIAS + "-" + System.currentTimeMillis());
+        IndexOperations indexOperations = operations.indexOps(index);
+        try {
+            indexOperations.create(indexOperations.createSettings(ReviewDocument.class),
+                                   indexOperations.createMapping(ReviewDocument.class));
+
+            long maxId = reviewRepository.findMaxId();
+            long indexed = 0;
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                List<Review> reviews = reviewRepository.findAllByIdBetweenFetchJoinUser(fromId, fromId + chunkSize - 1);
+                if (reviews.isEmpty()) continue;
+
+                operations.save(reviewDocumentAssembler.toDocuments(reviews), index);
+                indexed += reviews.size();
+            }
+
+            switchAliasTo(index.getIndexName());
+            log.info("Review reindex finished: {} reviews indexed into {} (max id = {})", indexed, index.getIndexName(), maxId);
+            return indexed;
+        } catch (RuntimeException e) {
+            indexOperations.delete();
+            throw e;
+        } finally {
+            reindexing.set(false);
+        }
+    }
+
+    /**
+     * Points the alias at the new index and drops the indexes it pointed to before, in one atomic request. A concrete
+     * index left under the alias name by an earlier version is dropped the same way.
+     */
+    private void switchAliasTo(String indexName) {
+        IndexOperations aliasOperations = operations.indexOps(IndexCoordinates.of(INDEX_ALIAS));
+        Set<String> previous;
+        try {
+            previous = new HashSet<>(aliasOperations.getAliases(INDEX_ALIAS).keySet());
+        } catch (DataAccessException e) {
+            previous = new HashSet<>();
+        }
+        if (previous.isEmpty() && aliasOperations.exists()) previous.add(INDEX_ALIAS);
+
+        AliasActions actions = new AliasActions(new AliasAction.Add(
+                AliasActionParameters.builder().withIndices(indexName).withAliases(INDEX_ALIAS).build()));
+        previous.forEach(old -> actions.add(new AliasAction.RemoveIndex(
+                AliasActionParameters.builder().withIndices(old).build())));
+        aliasOperations.alias(actions);
+    }
+
+    private boolean isDisabled() {
+        return reviewSearchEngine.getEngine() != ReviewSearchEngine.Engine.ELASTICSEARCH;
+    }
+
+    private Duration backoffOf(int attempts) {
+        return Duration.ofSeconds(Math.min(maxBackoffSeconds, 1L << Math.min(attempts, 16)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.matzip.server.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the review search index of the configured engine on startup when the application is launched with
+ * {@code --reindex-reviews}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewReindexRunner implements ApplicationRunner {
+    private final ReviewIndexService reviewIndexService;
+    private final LuceneReviewIndex luceneReviewIndex;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("reindex-reviews")) return;
+        if (luceneReviewIndex.isEnabled()) luceneReviewIndex.rebuild();
+        else reviewIndexService.reindexAll();
+    }
+}
@@ -0,0 +1,83 @@
+package com.matzip.server.domain.search.service;
+
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.ReviewProperty;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
+import com.matzip.server.domain.search.repository.ReviewSearchQueryRepository;
+import com.matzip.server.domain.trending.service.TrendingService;
+import com.matzip.server.global.common.dto.CursorSlice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Chooses where review keyword searches run. With {@code matzip.search.engine=ELASTICSEARCH} the cluster, and with
+ * {@code LUCENE} the embedded {@link LuceneReviewIndex}, returns ordered ids which are hydrated from MySQL; if the
+ * engine fails, searches fall back to the MySQL full-text index for {@code matzip.search.fallback-millis} before the
+ * engine is tried again. The {@code trending} sort is always served from the {@link TrendingService} ranking, and
+ * the {@code relevance} sort is only ranked by Lucene; the other engines serve it in their default order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSearchEngine {
+    public enum Engine {
+        FULLTEXT, ELASTICSEARCH, LUCENE
+    }
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewSearchQueryRepository reviewSearchQueryRepository;
+    private final TrendingService trendingService;
+    private final LuceneReviewIndex luceneReviewIndex;
+
+    @Value("${matzip.search.engine:FULLTEXT}")
+    private Engine engine = Engine.FULLTEXT;
+
+    @Value("${matzip.search.fallback-millis:30000}")
+    private long fallbackMillis = 30000;
+
+    private volatile long unavailableUntil = 0;
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public Slice<Review> search(ReviewSearch request) {
+        if (request.sort() == ReviewProperty.TRENDING) return trendingService.search(request);
+        ReviewSearch unranked = request.sort() == ReviewProperty.RELEVANCE ? withoutSort(request) : request;
+        if (engine != Engine.FULLTEXT && System.currentTimeMillis() >= unavailableUntil) {
+            try {
+                return hydrate(engine == Engine.LUCENE
+                               ? luceneReviewIndex.searchReviewIds(request)
+                               : reviewSearchQueryRepository.searchReviewIds(unranked));
+            } catch (DataAccessException e) {
+                unavailableUntil = System.currentTimeMillis() + fallbackMillis;
+                log.warn("{} unavailable, falling back to full-text search for {}ms: {}",
+                         engine, fallbackMillis, e.getMessage());
+            }
+        }
+        return reviewRepository.searchReviewsByKeywordUsingFullText(unranked);
+    }
+
+    private ReviewSearch withoutSort(ReviewSearch request) {
+        return new ReviewSearch(request.keyword(), request.page(), request.size(), null, request.asc(), request.cursor());
+    }
+
+    private Slice<Review> hydrate(CursorSlice<Long> ids) {
+        Map<Long, Review> reviews = reviewRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+
+        List<Review> ordered = ids.getContent().stream().map(reviews::get).filter(Objects::nonNull).toList();
+        return new CursorSlice<>(ordered, ids.getPageable(), ids.hasNext(), ids.getNextCursor());
+    }
+}
@@ -2,34 +2,50 @@ package com.matzip.server.domain.search.service;
 
 import com.matzip.server.domain.review.dto.ReviewDto;
 import com.matzip.server.domain.review.model.Review;
-import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
 import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
 import com.matzip.server.domain.search.dto.SearchDto.UserSearch;
 import com.matzip.server.domain.user.dto.UserDto;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.dto.CursorSlice;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class SearchService {
     private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
+    private final ReviewSearchEngine reviewSearchEngine;
+    private final ReviewResponseAssembler reviewResponseAssembler;
+    private final UsernameIndex usernameIndex;
 
     public Slice<ReviewDto.Response> searchReviews(Long myId, ReviewSearch request) {
         User me = userRepository.findMeById(myId);
-        Slice<Review> reviews = reviewRepository.searchReviewsByKeywordUsingFullText(request);
-        return reviews.map(r -> new ReviewDto.Response(r, me));
+        Slice<Review> reviews = reviewSearchEngine.search(request);
+        return reviewResponseAssembler.toResponses(reviews, me);
     }
 
     public Slice<UserDto.Response> searchUsers(Long myId, UserSearch request) {
         User me = userRepository.findMeById(myId);
-        Slice<User> users = userRepository.searchUsersByUsername(request);
+        Optional<List<Long>> ids = usernameIndex.idsContaining(request.username());
+        Slice<User> users;
+        if (ids.isEmpty()) users = userRepository.searchUsersByUsername(request);
+        else if (ids.get().isEmpty())
+            users = new CursorSlice<>(List.of(), PageRequest.of(request.page(), request.size()), false, null);
+        else users = userRepository.searchUsersByIds(request, ids.get());
+
+        return reviewResponseAssembler.toUserResponses(users, me);
+    }
 
-        return users.map(user -> new UserDto.Response(user, me));
+    public List<String> autocompleteUsernames(String prefix, int size) {
+        return usernameIndex.autocomplete(prefix, size);
     }
 }
@@ -0,0 +1,348 @@
+package com.matzip.server.domain.search.service;
+
+import com.matzip.server.domain.search.model.UsernameIndexEvent;
+import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.domain.user.repository.UserRepository.UsernameEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process username index. Every username is stored in a slot, an inverted index maps each 1-, 2- and 3-gram to
+ * the ascending slots containing it, and a prefix trie maps usernames to slots for autocomplete. Grams, trie keys
+ * and verification use the lowercased username, while results keep the username as the user wrote it. Substring
+ * queries scan the postings of their rarest gram and verify each candidate, so they never touch MySQL.
+ * <p>
+ * Changes are applied after commit and broadcast over Redis pub/sub to the other instances. The index is rebuilt
+ * from a streaming scan at startup and every {@code matzip.search.username.rebuild-delay-millis} to repair any
+ * missed broadcast; until the first build completes, callers fall back to MySQL.
+ */
+@Slf4j
+@Component
+public class UsernameIndex implements MessageListener {
+    public static final String CHANNEL = "search:usernames";
+    private static final int MAX_GRAM = 3;
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${matzip.search.username.max-matches:10000}")
+    private int maxMatches = 10000;
+
+    private Index index;
+    private List<UsernameIndexEvent> replay;
+
+    public UsernameIndex(
+            UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            TransactionTemplate transactionTemplate,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * Ids of users whose username contains the query, ignoring case. Empty when the index is not built yet or
+     * more than {@code matzip.search.username.max-matches} users match, in which case MySQL should answer.
+     */
+    public Optional<List<Long>> idsContaining(String query) {
+        if (query == null || query.isBlank()) return Optional.empty();
+        lock.readLock().lock();
+        try {
+            return index == null ? Optional.empty() : Optional.ofNullable(index.containing(normalize(query), maxMatches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> autocomplete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return index == null ? List.of() : index.startingWith(normalize(prefix), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(UsernameIndexEvent event) {
+        apply(event);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event.deleted() ?
+                                                  String.valueOf(event.userId()) :
+                                                  event.userId() + ":" + event.username());
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast username change of user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(':');
+        try {
+            apply(delimiter < 0 ?
+                  UsernameIndexEvent.deleted(Long.valueOf(body)) :
+                  UsernameIndexEvent.saved(Long.valueOf(body.substring(0, delimiter)), body.substring(delimiter + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignored malformed username index message: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${matzip.search.username.rebuild-delay-millis:3600000}",
+               fixedDelayString = "${matzip.search.username.rebuild-delay-millis:3600000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Skipped username index rebuild: another rebuild is in progress");
+            return;
+        }
+        try {
+            scanAndSwap();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Only one scan runs at a time, so {@code replay} is never reset under a scan that is still collecting into it.
+     */
+    private void scanAndSwap() {
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index built = new Index();
+        boolean scanned = true;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<UsernameEntry> entries = userRepository.streamAllUsernames()) {
+                    entries.forEach(e -> built.put(e.getId(), e.getUsername()));
+                }
+            });
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Failed to rebuild username index: {}", e.getMessage());
+            scanned = false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (scanned) {
+                replay.forEach(built::apply);
+                index = built;
+            }
+            replay = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (scanned) log.info("Username index rebuilt: {} users", built.live);
+    }
+
+    private void apply(UsernameIndexEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (replay != null) replay.add(event);
+            if (index == null) return;
+            index.apply(event);
+            if (index.size > 1024 && index.size > index.live * 2) index = index.compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static long gramOf(String s, int from, int length) {
+        long key = length;
+        for (int i = from; i < from + length; i++) key = (key << 16) | s.charAt(i);
+        return key;
+    }
+
+    /**
+     * Not thread-safe; guarded by the enclosing lock. Removed usernames leave a dead slot behind until the next
+     * compaction or rebuild, so postings only ever grow at their tail and stay sorted.
+     */
+    private static final class Index {
+        private long[] ids = new long[1024];
+        private String[] usernames = new String[1024];
+        private String[] normalized = new String[1024];
+        private int size;
+        private int live;
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private final Map<Long, Postings> grams = new HashMap<>();
+        private final TrieNode trie = new TrieNode();
+
+        void apply(UsernameIndexEvent event) {
+            if (event.deleted()) remove(event.userId());
+            else put(event.userId(), event.username());
+        }
+
+        void put(long userId, String username) {
+            Integer existing = slots.get(userId);
+            if (existing != null && username.equals(usernames[existing])) return;
+            remove(userId);
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                usernames = Arrays.copyOf(usernames, size * 2);
+                normalized = Arrays.copyOf(normalized, size * 2);
+            }
+            String key = normalize(username);
+            int slot = size++;
+            ids[slot] = userId;
+            usernames[slot] = username;
+            normalized[slot] = key;
+            slots.put(userId, slot);
+            live++;
+
+            Set<Long> seen = new HashSet<>();
+            for (int length = 1; length <= MAX_GRAM; length++) {
+                for (int from = 0; from + length <= key.length(); from++) {
+                    long gram = gramOf(key, from, length);
+                    if (seen.add(gram)) grams.computeIfAbsent(gram, g -> new Postings()).add(slot);
+                }
+            }
+            trie.put(key, 0, slot);
+        }
+
+        void remove(long userId) {
+            Integer slot = slots.remove(userId);
+            if (slot == null) return;
+            trie.put(normalized[slot], 0, -1);
+            usernames[slot] = null;
+            normalized[slot] = null;
+            live--;
+        }
+
+        List<Long> containing(String query, int maxMatches) {
+            Postings rarest = null;
+            int length = Math.min(MAX_GRAM, query.length());
+            for (int from = 0; from + length <= query.length(); from++) {
+                Postings postings = grams.get(gramOf(query, from, length));
+                if (postings == null) return List.of();
+                if (rarest == null || postings.size < rarest.size) rarest = postings;
+            }
+
+            List<Long> matches = new ArrayList<>();
+            for (int i = 0; i < rarest.size; i++) {
+                String username = normalized[rarest.slots[i]];
+                if (username == null || length < query.length() && !username.contains(query)) continue;
+                if (matches.size() == maxMatches) return null;
+                matches.add(ids[rarest.slots[i]]);
+            }
+            return matches;
+        }
+
+        List<String> startingWith(String prefix, int limit) {
+            TrieNode node = trie.find(prefix, 0);
+            List<String> usernames = new ArrayList<>();
+            if (node != null) node.collect(this.usernames, usernames, limit);
+            return usernames;
+        }
+
+        Index compact() {
+            Index compacted = new Index();
+            for (int slot = 0; slot < size; slot++) {
+                if (usernames[slot] != null) compacted.put(ids[slot], usernames[slot]);
+            }
+            return compacted;
+        }
+    }
+
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+            slots[size++] = slot;
+        }
+    }
+
+    /**
+     * Children are kept in parallel arrays sorted by character, so collection visits usernames in order.
+     */
+    private static final class TrieNode {
+        private char[] keys = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        private int slot = -1;
+
+        void put(String username, int depth, int slot) {
+            if (depth == username.length()) {
+                this.slot = slot;
+                return;
+            }
+            char c = username.charAt(depth);
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                if (slot < 0) return;
+                i = -i - 1;
+                keys = insert(keys, i, c);
+                TrieNode[] grown = new TrieNode[children.length + 1];
+                System.arraycopy(children, 0, grown, 0, i);
+                System.arraycopy(children, i, grown, i + 1, children.length - i);
+                grown[i] = new TrieNode();
+                children = grown;
+            }
+            children[i].put(username, depth + 1, slot);
+        }
+
+        TrieNode find(String prefix, int depth) {
+            if (depth == prefix.length()) return this;
+            int i = Arrays.binarySearch(keys, prefix.charAt(depth));
+            return i < 0 ? null : children[i].find(prefix, depth + 1);
+        }
+
+        void collect(String[] usernames, List<String> out, int limit) {
+            if (out.size() >= limit) return;
+            if (slot >= 0) out.add(usernames[slot]);
+            for (TrieNode child : children) {
+                if (out.size() >= limit) return;
+                child.collect(usernames, out, limit);
+            }
+        }
+
+        private static char[] insert(char[] keys, int at, char c) {
+            char[] grown = new char[keys.length + 1];
+            System.arraycopy(keys, 0, grown, 0, at);
+            grown[at] = c;
+            System.arraycopy(keys, at, grown, at + 1, keys.length - at);
+            return grown;
+        }
+    }
+}
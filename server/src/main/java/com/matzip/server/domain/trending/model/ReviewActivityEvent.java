@@ -0,0 +1,39 @@
+package com.matzip.server.domain.trending.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * An activity on a review, or the undoing of one. {@code occurredAt} is when the activity happened in epoch
+ * millis; an undo carries the time of the activity it cancels so that exactly the weight it added is taken back.
+ */
+public record ReviewActivityEvent(Long reviewId, Activity activity, long count, long occurredAt) {
+    @Getter
+    @RequiredArgsConstructor
+    public enum Activity {
+        VIEW(1),
+        HEART(3),
+        COMMENT(4),
+        SCRAP(5)
+        ;
+
+        private final int weight;
+    }
+
+    public static ReviewActivityEvent of(Long reviewId, Activity activity) {
+        return new ReviewActivityEvent(reviewId, activity, 1, System.currentTimeMillis());
+    }
+
+    public static ReviewActivityEvent undo(Long reviewId, Activity activity, LocalDateTime occurredAt) {
+        long millis = occurredAt == null ? System.currentTimeMillis() :
+                      occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new ReviewActivityEvent(reviewId, activity, -1, millis);
+    }
+
+    public static ReviewActivityEvent views(Long reviewId, long views) {
+        return new ReviewActivityEvent(reviewId, Activity.VIEW, views, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,240 @@
+package com.matzip.server.domain.trending.service;
+
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.ReviewProperty;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.exception.InvalidCursorException;
+import com.matzip.server.global.common.model.Cursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Time-decayed review ranking kept in the {@code trending:reviews} sorted set. Each activity adds
+ * {@code weight * 2^((now - epoch) / halfLife)} to the review's score, which orders reviews exactly as if every
+ * past contribution had been halved once per half-life, without ever rewriting old scores. {@link #rebase()}
+ * periodically moves the epoch forward (scaling all scores down) so the growth factor stays small, and trims the
+ * set to {@code matzip.trending.capacity} entries. An undo is weighted at the time of the activity it cancels, so it
+ * takes back exactly what that activity added.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+    private static final String KEY = "trending:reviews";
+    private static final String EPOCH_KEY = "trending:reviews:epoch";
+    private static final String KEY_DELIMITER = ":";
+    private static final int SCAN_WINDOWS = 8;
+
+    private static final RedisScript<Long> INCREMENT = RedisScript.of("""
+            local epoch = redis.call('GET', KEYS[2])
+            if not epoch then
+                epoch = ARGV[3]
+                redis.call('SET', KEYS[2], epoch)
+            end
+            local delta = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[5]) - tonumber(epoch)) / tonumber(ARGV[4]))
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], delta, ARGV[1]))
+            if score <= math.abs(delta) * 1e-3 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> REBASE = RedisScript.of("""
+            local epoch = redis.call('GET', KEYS[2])
+            if not epoch then
+                return 0
+            end
+            local halfLives = math.floor((tonumber(ARGV[1]) - tonumber(epoch)) / tonumber(ARGV[2]))
+            if halfLives > 0 then
+                redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', math.pow(2, -halfLives))
+                redis.call('SET', KEYS[2], tonumber(epoch) + halfLives * tonumber(ARGV[2]))
+            end
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1)
+            return halfLives
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RANGE = RedisScript.of("""
+            local entries
+            if ARGV[3] == '1' then
+                entries = redis.call('ZRANGE', KEYS[1], ARGV[1], ARGV[2], 'WITHSCORES')
+            else
+                entries = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2], 'WITHSCORES')
+            end
+            table.insert(entries, 1, redis.call('GET', KEYS[2]) or '0')
+            return entries
+            """, List.class);
+
+    private static final RedisScript<Long> RESUME = RedisScript.of("""
+            local epoch = tonumber(redis.call('GET', KEYS[2]) or ARGV[2])
+            local threshold = tonumber(ARGV[3]) * math.pow(2, (tonumber(ARGV[2]) - epoch) / tonumber(ARGV[4]))
+            local bound = string.format('%.17g', threshold)
+            local score = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1]))
+            if ARGV[5] == '1' then
+                if score == threshold then
+                    return redis.call('ZRANK', KEYS[1], ARGV[1]) + 1
+                end
+                return redis.call('ZCOUNT', KEYS[1], '-inf', bound)
+            end
+            if score == threshold then
+                return redis.call('ZREVRANK', KEYS[1], ARGV[1]) + 1
+            end
+            return redis.call('ZCOUNT', KEYS[1], bound, '+inf')
+            """, Long.class);
+
+    private final ReviewRepository reviewRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${matzip.trending.half-life-hours:24}")
+    private long halfLifeHours = 24;
+
+    @Value("${matzip.trending.capacity:10000}")
+    private int capacity = 10000;
+
+    public TrendingService(ReviewRepository reviewRepository, StringRedisTemplate redisTemplate) {
+        this.reviewRepository = reviewRepository;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void record(ReviewActivityEvent event) {
+        try {
+            redisTemplate.execute(INCREMENT, List.of(KEY, EPOCH_KEY),
+                                  String.valueOf(event.reviewId()),
+                                  String.valueOf(event.activity().getWeight() * event.count()),
+                                  String.valueOf(System.currentTimeMillis()),
+                                  String.valueOf(halfLifeMillis()),
+                                  String.valueOf(event.occurredAt()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to record {} on review {}: {}", event.activity(), event.reviewId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, condition = "#event.deleted()")
+    public void remove(ReviewIndexEvent event) {
+        try {
+            redisTemplate.opsForZSet().remove(KEY, String.valueOf(event.reviewId()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to remove review {} from trending: {}", event.reviewId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${matzip.trending.rebase-delay-millis:3600000}")
+    public void rebase() {
+        try {
+            redisTemplate.execute(REBASE, List.of(KEY, EPOCH_KEY),
+                                  String.valueOf(System.currentTimeMillis()),
+                                  String.valueOf(halfLifeMillis()),
+                                  String.valueOf(capacity));
+        } catch (DataAccessException e) {
+            log.warn("Failed to rebase trending reviews: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads reviews in rank order. The cursor key is the epoch and score of the last review of the previous page:
+     * the next page resumes right after that review's current rank while its score is unchanged, and after its old
+     * score otherwise, so activity on other reviews between pages does not shift the page boundary. With a
+     * keyword, ranks are scanned a window at a time and filtered on content, up to {@value SCAN_WINDOWS} windows
+     * per page.
+     */
+    public CursorSlice<Review> search(ReviewSearch request) {
+        boolean asc = request.asc();
+        int size = request.size();
+        Cursor cursor = Cursor.decode(request.cursor(), ReviewProperty.TRENDING, asc);
+        Pageable pageable = PageRequest.of(request.page(), size);
+        String keyword = request.keyword() == null || request.keyword().isBlank() ? null : request.keyword().strip();
+
+        List<Review> page = new ArrayList<>();
+        Map<Long, String> scores = new HashMap<>();
+        String epoch = null;
+        boolean exhausted = false;
+        try {
+            long offset = cursor == null ? (long) request.page() * size : resumeOffset(cursor, asc);
+            for (int window = 0; window < SCAN_WINDOWS && page.size() <= size && !exhausted; window++) {
+                int limit = keyword == null ? size + 1 - page.size() : (size + 1) * 4;
+                Ranked ranked = ranked(offset, limit, asc);
+                if (ranked.epoch() != null) epoch = ranked.epoch();
+                scores.putAll(ranked.scores());
+                exhausted = ranked.scores().size() < limit;
+
+                Map<Long, Review> reviews = reviewRepository.findAllById(ranked.scores().keySet()).stream()
+                        .collect(Collectors.toMap(Review::getId, Function.identity()));
+                for (Long id : ranked.scores().keySet()) {
+                    offset++;
+                    Review review = reviews.get(id);
+                    if (review == null || keyword != null && !review.getContent().contains(keyword)) continue;
+                    page.add(review);
+                    if (page.size() > size) break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read trending reviews: {}", e.getMessage());
+            return new CursorSlice<>(List.of(), pageable, false, null);
+        }
+
+        if (page.size() > size) {
+            page.remove(size);
+            exhausted = false;
+        }
+
+        String nextCursor = null;
+        if (!exhausted && !page.isEmpty()) {
+            Review last = page.get(page.size() - 1);
+            String key = epoch + KEY_DELIMITER + scores.get(last.getId());
+            nextCursor = Cursor.of(ReviewProperty.TRENDING, asc, key, last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorSlice<>(page, pageable, nextCursor != null, nextCursor);
+    }
+
+    private long resumeOffset(Cursor cursor, boolean asc) {
+        String[] key = ((String) cursor.key(String.class)).split(KEY_DELIMITER, 2);
+        if (key.length < 2) throw new InvalidCursorException();
+        try {
+            Double.parseDouble(key[0]);
+            Double.parseDouble(key[1]);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+        Long offset = redisTemplate.execute(RESUME, List.of(KEY, EPOCH_KEY),
+                                            String.valueOf(cursor.id()), key[0], key[1],
+                                            String.valueOf(halfLifeMillis()), asc ? "1" : "0");
+        return offset == null ? 0 : offset;
+    }
+
+    private record Ranked(String epoch, Map<Long, String> scores) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private Ranked ranked(long offset, int limit, boolean asc) {
+        List<String> entries = redisTemplate.execute(RANGE, List.of(KEY, EPOCH_KEY),
+                                                     String.valueOf(offset), String.valueOf(offset + limit - 1),
+                                                     asc ? "1" : "0");
+        if (entries == null || entries.isEmpty()) return new Ranked(null, Map.of());
+
+        Map<Long, String> scores = new LinkedHashMap<>();
+        for (int i = 1; i + 1 < entries.size(); i += 2) scores.put(Long.valueOf(entries.get(i)), entries.get(i + 1));
+        return new Ranked(entries.get(0), scores);
+    }
+
+    private long halfLifeMillis() {
+        return Duration.ofHours(halfLifeHours).toMillis();
+    }
+}
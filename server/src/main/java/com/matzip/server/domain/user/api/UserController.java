@@ -1,16 +1,25 @@
 package com.matzip.server.domain.user.api;
 
+import com.matzip.server.domain.review.dto.ReviewDto;
 import com.matzip.server.domain.user.dto.UserDto.DetailedResponse;
 import com.matzip.server.domain.user.service.UserService;
 import com.matzip.server.global.auth.model.CurrentUser;
 import com.matzip.server.global.auth.model.CurrentUsername;
 import com.matzip.server.global.common.logger.Logging;
+import com.matzip.server.global.common.model.Validator;
+import com.matzip.server.global.common.validation.NullableNotBlank;
 import com.matzip.server.global.common.validation.Username;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.validator.constraints.Length;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
 import java.util.Map;
 
 @Validated
@@ -27,13 +36,30 @@ public class UserController {
     }
 
     @GetMapping("/{username}")
-    @Logging(endpoint="GET /api/v1/users/{pathVariable}", pathVariable=true)
+    @Logging(endpoint="GET /api/v1/users/{pathVariable}", pathVariable=true, queryBudget=20)
     public ResponseEntity<DetailedResponse> fetchUserByUsername(
             @CurrentUser Long myId,
             @CurrentUsername String user,
-            @PathVariable("username") @Username String username
+            @PathVariable("username") @Username String username,
+            WebRequest webRequest
+    ) {
+        Validator validator = userService.fetchUserValidator(myId, username);
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModifiedMillis())) return null;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(userService.fetchUser(myId, username));
+    }
+
+    @GetMapping("/{username}/reviews")
+    @Logging(endpoint="GET /api/v1/users/{pathVariable}/reviews", pathVariable=true)
+    public ResponseEntity<Slice<ReviewDto.Response>> fetchUserReviews(
+            @CurrentUser Long myId,
+            @CurrentUsername String user,
+            @PathVariable("username") @Username String username,
+            @RequestParam(value = "size", required = false, defaultValue = "20") @Positive @Max(100) Integer size,
+            @RequestParam(value = "cursor", required = false) @NullableNotBlank @Length(max=200) String cursor
     ) {
-        return ResponseEntity.ok(userService.fetchUser(myId, username));
+        return ResponseEntity.ok(userService.fetchUserReviews(myId, username, size, cursor));
     }
 
     @PutMapping("/{username}/follow")
@@ -6,6 +6,7 @@ import com.matzip.server.global.common.dto.ListResponse;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class UserDto {
     @Getter
@@ -13,7 +14,7 @@ public class UserDto {
         protected final String username;
         protected final String profileImageUrl;
         protected final String profileString;
-        protected final Integer matzipLevel;
+        protected Integer matzipLevel;
         protected final LocalDateTime createdAt;
         private final Boolean isMyFollowing;
         private final Boolean isMyFollower;
@@ -22,26 +23,45 @@ public class UserDto {
         private final Integer numberOfFollowings;
 
         public Response(User user, User me) {
+            this(user, me,
+                 user.getFollowers().stream().anyMatch(f -> f.getFollower() == me),
+                 user.getFollowings().stream().anyMatch(f -> f.getFollowee() == me),
+                 user.getFollowers().size(),
+                 user.getFollowings().size());
+        }
+
+        public Response(
+                User user, User me,
+                boolean isMyFollowing, boolean isMyFollower,
+                int numberOfFollowers, int numberOfFollowings
+        ) {
             this.username = user.getUsername();
             this.profileImageUrl = user.getUserImage();
             this.profileString = user.getProfileString();
             this.matzipLevel = user.getMatzipLevel();
             this.createdAt = user.getCreatedAt();
-            this.isMyFollowing = user.getFollowers().stream().anyMatch(f -> f.getFollower() == me);
-            this.isMyFollower = user.getFollowings().stream().anyMatch(f -> f.getFollowee() == me);
+            this.isMyFollowing = isMyFollowing;
+            this.isMyFollower = isMyFollower;
             this.isMe = user == me;
-            this.numberOfFollowers = user.getFollowers().size();
-            this.numberOfFollowings = user.getFollowings().size();
+            this.numberOfFollowers = numberOfFollowers;
+            this.numberOfFollowings = numberOfFollowings;
         }
     }
 
     @Getter
     public static class DetailedResponse extends Response {
         private final ListResponse<ReviewDto.Response> reviews;
+        private final String nextReviewsCursor;
 
-        public DetailedResponse(User user, User me) {
-            super(user, me);
-            this.reviews = new ListResponse<>(user.getReviews().stream().map(r -> new ReviewDto.Response(r, me)));
+        public DetailedResponse(
+                User user, User me,
+                boolean isMyFollowing, boolean isMyFollower,
+                int numberOfFollowers, int numberOfFollowings,
+                List<ReviewDto.Response> reviews, String nextReviewsCursor
+        ) {
+            super(user, me, isMyFollowing, isMyFollower, numberOfFollowers, numberOfFollowings);
+            this.reviews = new ListResponse<>(reviews.stream());
+            this.nextReviewsCursor = nextReviewsCursor;
         }
     }
 }
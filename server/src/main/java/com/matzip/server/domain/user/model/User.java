@@ -8,6 +8,7 @@ import com.matzip.server.global.common.model.BaseTimeEntity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import java.util.LinkedList;
@@ -17,6 +18,7 @@ import java.util.List;
 @Table(name="user")
 @NoArgsConstructor
 @Getter @Setter
+@DynamicUpdate
 public class User extends BaseTimeEntity {
     @OneToMany(mappedBy="followee", cascade=CascadeType.PERSIST)
     private final List<Follow> followers = new LinkedList<>();
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +18,23 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Modifying
     @Query("DELETE FROM Follow f WHERE f.followee.id = :userId OR f.follower.id = :userId")
     void deleteAllByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    @Query("SELECT f.followee.id FROM Follow f WHERE f.follower.id = :followerId")
+    List<Long> findFolloweeIdsByFollowerId(@Param("followerId") Long followerId);
+
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.followee.id = :followeeId")
+    List<Long> findFollowerIdsByFolloweeId(@Param("followeeId") Long followeeId);
+
+    @Query("SELECT f.followee.id AS userId, COUNT(f) AS total FROM Follow f " +
+           "WHERE f.followee.id IN :userIds GROUP BY f.followee.id")
+    List<FollowCount> countFollowersByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT f.follower.id AS userId, COUNT(f) AS total FROM Follow f " +
+           "WHERE f.follower.id IN :userIds GROUP BY f.follower.id")
+    List<FollowCount> countFollowingsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    interface FollowCount {
+        Long getUserId();
+        Long getTotal();
+    }
+}
@@ -2,13 +2,37 @@ package com.matzip.server.domain.user.repository;
 
 import com.matzip.server.domain.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findById(Long id);
     Optional<User> findByUsername(String username);
     Boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.matzipPoint = u.matzipPoint + :delta WHERE u.id IN :ids")
+    void increaseMatzipPoints(@Param("ids") Collection<Long> ids, @Param("delta") Integer delta);
+
+    /**
+     * Streams rows from MySQL instead of buffering the whole result set; the stream must be consumed and closed
+     * inside a transaction.
+     */
+    @QueryHints(@QueryHint(name="org.hibernate.fetchSize", value="" + Integer.MIN_VALUE))
+    @Query("SELECT u.id AS id, u.username AS username FROM User u")
+    Stream<UsernameEntry> streamAllUsernames();
+
+    interface UsernameEntry {
+        Long getId();
+        String getUsername();
+    }
+}
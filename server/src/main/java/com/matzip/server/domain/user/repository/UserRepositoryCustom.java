@@ -4,7 +4,10 @@ import com.matzip.server.domain.search.dto.SearchDto.UserSearch;
 import com.matzip.server.domain.user.model.User;
 import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+
 public interface UserRepositoryCustom {
     User findMeById(Long id);
     Slice<User> searchUsersByUsername(UserSearch searchRequest);
+    Slice<User> searchUsersByIds(UserSearch searchRequest, Collection<Long> ids);
 }
@@ -3,9 +3,15 @@ package com.matzip.server.domain.user.repository;
 import com.matzip.server.domain.search.dto.SearchDto.UserSearch;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.model.UserProperty;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.model.Cursor;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -13,12 +19,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.matzip.server.domain.user.model.QFollow.follow;
 import static com.matzip.server.domain.user.model.QUser.user;
@@ -27,6 +34,8 @@ import static com.matzip.server.domain.user.model.UserProperty.*;
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepositoryCustom {
+    private static final int ID_CHUNK_SIZE = 1000;
+
     private final JPAQueryFactory jpaQueryFactory;
     private static final User anonymous = new User("anonymousUser", "");
 
@@ -46,67 +55,221 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
                 searchRequest.asc() ? Order.ASC : Order.DESC,
                 searchRequest.sort(),
                 PageRequest.of(searchRequest.page(), searchRequest.size()),
+                Cursor.decode(searchRequest.cursor(), searchRequest.sort(), searchRequest.asc()),
                 usernameContaining(searchRequest.username()));
     }
 
+    /**
+     * Orders the given ids in memory by the same keys {@link #searchWithConditions} uses, so only the page itself
+     * is loaded as entities. The sort keys are read in chunks of {@value #ID_CHUNK_SIZE} to keep IN lists short.
+     */
+    @Override
+    public Slice<User> searchUsersByIds(UserSearch searchRequest, Collection<Long> ids) {
+        UserProperty userProperty = searchRequest.sort();
+        Pageable pageable = PageRequest.of(searchRequest.page(), searchRequest.size());
+        Cursor cursor = Cursor.decode(searchRequest.cursor(), userProperty, searchRequest.asc());
+        Comparator<SortRow> comparator = SortRow.comparator(userProperty, searchRequest.asc());
+
+        Stream<SortRow> rows = sortRowsOf(userProperty, ids).stream();
+        if (cursor != null) {
+            SortRow last = new SortRow(cursor.id(), cursorKeyOf(userProperty, cursor), cursor.createdAt());
+            rows = rows.filter(row -> comparator.compare(row, last) > 0);
+        }
+        List<SortRow> page = rows
+                .sorted(comparator)
+                .skip(cursor == null ? pageable.getOffset() : 0)
+                .limit(pageable.getPageSize() + 1)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        boolean hasNext = false;
+        String nextCursor = null;
+        if (page.size() > pageable.getPageSize()) {
+            page.remove(pageable.getPageSize());
+            hasNext = true;
+
+            SortRow last = page.get(page.size() - 1);
+            nextCursor = Cursor.of(userProperty, searchRequest.asc(), last.key(), last.createdAt(), last.id()).encode();
+        }
+
+        Map<Long, User> users = page.isEmpty() ? Map.of() : jpaQueryFactory
+                .selectFrom(user)
+                .where(user.id.in(page.stream().map(SortRow::id).toList()))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<User> content = page.stream().map(row -> users.get(row.id())).filter(Objects::nonNull).toList();
+        return new CursorSlice<>(content, pageable, hasNext, nextCursor);
+    }
+
+    private List<SortRow> sortRowsOf(UserProperty userProperty, Collection<Long> ids) {
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        List<SortRow> rows = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + ID_CHUNK_SIZE, distinct.size()));
+            if (userProperty == NUMBER_OF_FOLLOWERS) {
+                Map<Long, Long> followers = jpaQueryFactory
+                        .select(follow.followee.id, follow.count())
+                        .from(follow)
+                        .where(follow.followee.id.in(chunk))
+                        .groupBy(follow.followee.id)
+                        .fetch()
+                        .stream()
+                        .collect(Collectors.toMap(t -> t.get(follow.followee.id), t -> t.get(follow.count())));
+                jpaQueryFactory
+                        .select(user.id, user.createdAt)
+                        .from(user)
+                        .where(user.id.in(chunk))
+                        .fetch()
+                        .forEach(t -> rows.add(new SortRow(
+                                t.get(user.id), followers.getOrDefault(t.get(user.id), 0L), t.get(user.createdAt))));
+            } else {
+                ComparableExpressionBase<?> sortKey = sortKeyOf(userProperty);
+                jpaQueryFactory
+                        .select(user.id, sortKey, user.createdAt)
+                        .from(user)
+                        .where(user.id.in(chunk))
+                        .fetch()
+                        .forEach(t -> rows.add(new SortRow(
+                                t.get(user.id), (Comparable<?>) t.get(sortKey), t.get(user.createdAt))));
+            }
+        }
+        return rows;
+    }
+
+    private Comparable<?> cursorKeyOf(UserProperty userProperty, Cursor cursor) {
+        if (userProperty == NUMBER_OF_FOLLOWERS) return (Comparable<?>) cursor.key(Long.class);
+        else if (userProperty == null) return cursor.createdAt();
+        else return (Comparable<?>) cursor.key(sortKeyOf(userProperty).getType());
+    }
+
+    /**
+     * Orders usernames the way MySQL's unicode_ci collations order the characters a username may hold, so in-memory
+     * pages line up with the cursors of {@link #searchUsersByUsername}: case is ignored and punctuation sorts before
+     * digits, which sort before letters ({@code _ < - < . < 0-9 < a-z}).
+     */
+    private static final Comparator<String> USERNAME_ORDER = (a, b) -> {
+        for (int i = 0; i < Math.min(a.length(), b.length()); i++) {
+            int diff = Integer.compare(collationWeightOf(a.charAt(i)), collationWeightOf(b.charAt(i)));
+            if (diff != 0) return diff;
+        }
+        return Integer.compare(a.length(), b.length());
+    };
+
+    private static int collationWeightOf(char c) {
+        if (c == '_') return 0;
+        if (c == '-') return 1;
+        if (c == '.') return 2;
+        if (c >= '0' && c <= '9') return 3 + c - '0';
+        return 13 + Character.toLowerCase(c);
+    }
+
+    /**
+     * One candidate of {@link #searchUsersByIds}: ordered by key in the requested direction, ties broken by newest
+     * first. Without a sort property the key is createdAt itself and the id follows the requested direction too.
+     */
+    private record SortRow(Long id, Comparable<?> key, LocalDateTime createdAt) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static Comparator<SortRow> comparator(UserProperty userProperty, boolean asc) {
+            if (userProperty == null) {
+                Comparator<SortRow> byCreatedAt = Comparator.comparing(SortRow::createdAt).thenComparing(SortRow::id);
+                return asc ? byCreatedAt : byCreatedAt.reversed();
+            }
+            Comparator<SortRow> byKey = userProperty == USERNAME ?
+                                        Comparator.comparing(row -> (String) row.key(), USERNAME_ORDER) :
+                                        Comparator.comparing(row -> (Comparable) row.key());
+            return (asc ? byKey : byKey.reversed())
+                    .thenComparing(SortRow::createdAt, Comparator.reverseOrder())
+                    .thenComparing(SortRow::id, Comparator.reverseOrder());
+        }
+    }
+
     private BooleanExpression usernameContaining(String username) {
         return username == null ? null : user.username.contains(username);
     }
 
+    private ComparableExpressionBase<?> sortKeyOf(UserProperty userProperty) {
+        if (userProperty == USERNAME) return user.username;
+        else if (userProperty == MATZIP_LEVEL) return user.matzipLevel;
+        else return user.createdAt;
+    }
+
+    private BooleanExpression after(Order order, Expression<?> expression, Object value) {
+        return Expressions.booleanOperation(order == Order.ASC ? Ops.GT : Ops.LT, expression, Expressions.constant(value));
+    }
+
+    private BooleanExpression keysetCondition(Order order, Expression<?> sortKey, Cursor cursor) {
+        if (cursor == null) return null;
+
+        if (sortKey == user.createdAt) {
+            return after(order, user.createdAt, cursor.createdAt())
+                    .or(user.createdAt.eq(cursor.createdAt()).and(after(order, user.id, cursor.id())));
+        }
+
+        Object key = cursor.key(sortKey.getType());
+        BooleanExpression sameKey = Expressions.booleanOperation(Ops.EQ, sortKey, Expressions.constant(key));
+        return after(order, sortKey, key)
+                .or(sameKey.and(user.createdAt.lt(cursor.createdAt())))
+                .or(sameKey.and(user.createdAt.eq(cursor.createdAt())).and(user.id.lt(cursor.id())));
+    }
+
     private Slice<User> searchWithConditions(
-            Order order, UserProperty userProperty, Pageable pageable, BooleanExpression... conditions) {
-        List<User> users;
+            Order order, UserProperty userProperty, Pageable pageable, Cursor cursor, BooleanExpression... conditions) {
+        List<Tuple> tuples;
         OrderSpecifier<LocalDateTime> defaultOrder = new OrderSpecifier<>(Order.DESC, user.createdAt);
+        OrderSpecifier<Long> idOrder = new OrderSpecifier<>(Order.DESC, user.id);
+        long offset = cursor == null ? pageable.getOffset() : 0;
 
-        if (userProperty == USERNAME) {
-            users = jpaQueryFactory
-                    .select(user)
-                    .from(user)
-                    .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, user.username), defaultOrder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize() + 1)
-                    .fetch();
-        } else if (userProperty == MATZIP_LEVEL) {
-            users = jpaQueryFactory
-                    .select(user)
-                    .from(user)
-                    .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, user.matzipLevel), defaultOrder)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize() + 1)
-                    .fetch();
-        } else if (userProperty == NUMBER_OF_FOLLOWERS) {
+        if (userProperty == NUMBER_OF_FOLLOWERS) {
             NumberPath<Long> followers = Expressions.numberPath(Long.class, "followers");
 
-            users = jpaQueryFactory
+            tuples = jpaQueryFactory
                     .select(user, follow.count().as(followers))
                     .from(user)
                     .leftJoin(user.followers, follow)
                     .groupBy(user)
                     .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, followers), defaultOrder)
-                    .offset(pageable.getOffset())
+                    .having(keysetCondition(order, follow.count(), cursor))
+                    .orderBy(new OrderSpecifier<>(order, followers), defaultOrder, idOrder)
+                    .offset(offset)
+                    .limit(pageable.getPageSize() + 1)
+                    .fetch();
+        } else if (userProperty == null) {
+            tuples = jpaQueryFactory
+                    .select(user, user.createdAt)
+                    .from(user)
+                    .where(conditions)
+                    .where(keysetCondition(order, user.createdAt, cursor))
+                    .orderBy(new OrderSpecifier<>(order, user.createdAt), new OrderSpecifier<>(order, user.id))
+                    .offset(offset)
                     .limit(pageable.getPageSize() + 1)
-                    .fetch()
-                    .stream().map(t -> t.get(user)).collect(Collectors.toList());
+                    .fetch();
         } else {
-            users = jpaQueryFactory
-                    .select(user)
+            ComparableExpressionBase<?> sortKey = sortKeyOf(userProperty);
+
+            tuples = jpaQueryFactory
+                    .select(user, sortKey)
                     .from(user)
                     .where(conditions)
-                    .orderBy(new OrderSpecifier<>(order, user.createdAt))
-                    .offset(pageable.getOffset())
+                    .where(keysetCondition(order, sortKey, cursor))
+                    .orderBy(order == Order.ASC ? sortKey.asc() : sortKey.desc(), defaultOrder, idOrder)
+                    .offset(offset)
                     .limit(pageable.getPageSize() + 1)
                     .fetch();
         }
 
         boolean hasNext = false;
-        if (users.size() > pageable.getPageSize()) {
-            users.remove(pageable.getPageSize());
+        String nextCursor = null;
+        if (tuples.size() > pageable.getPageSize()) {
+            tuples.remove(pageable.getPageSize());
             hasNext = true;
+
+            Tuple last = tuples.get(tuples.size() - 1);
+            User lastUser = last.get(user);
+            nextCursor = Cursor.of(userProperty, order == Order.ASC, last.get(1, Object.class),
+                                   lastUser.getCreatedAt(), lastUser.getId()).encode();
         }
 
-        return new SliceImpl<>(users, pageable, hasNext);
+        List<User> users = tuples.stream().map(t -> t.get(user)).collect(Collectors.toList());
+        return new CursorSlice<>(users, pageable, hasNext, nextCursor);
     }
 }
@@ -1,6 +1,13 @@
 package com.matzip.server.domain.user.service;
 
+import com.matzip.server.domain.feed.model.FollowEvent;
 import com.matzip.server.domain.record.service.RecordService;
+import com.matzip.server.domain.relation.model.RelationType;
+import com.matzip.server.domain.relation.service.RelationService;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
 import com.matzip.server.domain.user.dto.UserDto.DetailedResponse;
 import com.matzip.server.domain.user.exception.FollowMeException;
 import com.matzip.server.domain.user.exception.UserNotFoundException;
@@ -8,27 +15,53 @@ import com.matzip.server.domain.user.model.Follow;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.FollowRepository;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.model.Cursor;
+import com.matzip.server.global.common.model.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly=true)
 public class UserService {
+    private static final LocalDateTime NO_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
     private final RecordService recordService;
+    private final ReviewRepository reviewRepository;
+    private final ReviewResponseAssembler reviewResponseAssembler;
+    private final RelationService relationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${matzip.user.profile.review-page-size:20}")
+    private int profileReviewSize = 20;
 
     public boolean isUsernameTakenBySomeone(String username) {
         return userRepository.existsByUsername(username);
     }
 
+    public Validator fetchUserValidator(Long myId, String username) {
+        User user = userRepository.findByUsername(username).orElseThrow(() -> new UserNotFoundException(username));
+        return reviewResponseAssembler.toValidator(user, reviewRepository.findVersionByUserId(user.getId()), myId);
+    }
+
     public DetailedResponse fetchUser(Long myId, String username) {
         User me = userRepository.findMeById(myId);
         User user = userRepository.findByUsername(username).orElseThrow(() -> new UserNotFoundException(username));
 
-        return new DetailedResponse(user, me);
+        return fetchDetailedResponse(user, me);
     }
 
     @Transactional
@@ -38,12 +71,13 @@ public class UserService {
 
         if (me == followee) throw new FollowMeException();
 
-        if (followee.getFollowers().stream().noneMatch(f -> f.getFollower() == me)) {
+        if (followRepository.findByFollowerIdAndFolloweeId(myId, followee.getId()).isEmpty()) {
             followRepository.save(new Follow(me, followee));
+            invalidateFollowRelations(me, followee);
             recordService.followUser(me, followee);
         }
 
-        return new DetailedResponse(followee, me);
+        return fetchDetailedResponse(followee, me);
     }
 
     @Transactional
@@ -55,10 +89,65 @@ public class UserService {
                 f -> {
                     f.delete();
                     followRepository.delete(f);
+                    invalidateFollowRelations(me, followee);
                     recordService.unfollowUser(me, followee);
                 }
         );
 
-        return new DetailedResponse(followee, me);
+        return fetchDetailedResponse(followee, me);
+    }
+
+    public Slice<ReviewDto.Response> fetchUserReviews(Long myId, String username, int size, String cursor) {
+        User me = userRepository.findMeById(myId);
+        User user = userRepository.findByUsername(username).orElseThrow(() -> new UserNotFoundException(username));
+
+        CursorSlice<Review> reviews = reviewsOf(user, size, cursor);
+        return new CursorSlice<>(reviewResponseAssembler.toResponses(reviews.getContent(), me),
+                                 reviews.getPageable(), reviews.hasNext(), reviews.getNextCursor());
+    }
+
+    private DetailedResponse fetchDetailedResponse(User user, User me) {
+        return reviewResponseAssembler.toDetailedResponse(user, profileReviewsOf(user), me);
+    }
+
+    /**
+     * First page of a user's reviews as shown on a profile; later pages are read through
+     * {@code /api/v1/users/{username}/reviews} with its cursor.
+     */
+    public CursorSlice<Review> profileReviewsOf(User user) {
+        return reviewsOf(user, profileReviewSize, null);
+    }
+
+    /**
+     * Newest-first page of a user's reviews. Ids are read first from the (user_id, id) index, and only the page
+     * itself is loaded.
+     */
+    private CursorSlice<Review> reviewsOf(User user, int size, String cursorToken) {
+        Cursor cursor = Cursor.decode(cursorToken, null, false);
+        long beforeId = cursor == null ? Long.MAX_VALUE : cursor.id();
+        Pageable pageable = PageRequest.of(0, size);
+
+        List<Long> ids = reviewRepository.findIdsByUserIdsBefore(List.of(user.getId()), beforeId, PageRequest.of(0, size + 1));
+        boolean hasNext = ids.size() > size;
+        if (hasNext) ids = ids.subList(0, size);
+
+        List<Review> reviews = ids.isEmpty() ? List.of() : reviewRepository.findAllByIdInFetchJoinUser(ids).stream()
+                .sorted(Comparator.comparing(Review::getId).reversed())
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastId = ids.get(ids.size() - 1);
+            LocalDateTime createdAt = reviews.stream().filter(r -> r.getId().equals(lastId)).findFirst()
+                    .map(Review::getCreatedAt).orElse(NO_CREATED_AT);
+            nextCursor = Cursor.of(null, false, lastId, createdAt, lastId).encode();
+        }
+        return new CursorSlice<>(reviews, pageable, hasNext, nextCursor);
+    }
+
+    private void invalidateFollowRelations(User follower, User followee) {
+        relationService.invalidate(follower.getId(), RelationType.FOLLOWING);
+        relationService.invalidate(followee.getId(), RelationType.FOLLOWER);
+        eventPublisher.publishEvent(FollowEvent.changed(follower.getId(), followee.getId()));
     }
 }
@@ -0,0 +1,11 @@
+package com.matzip.server.global.auth.exception;
+
+import com.matzip.server.global.common.exception.ErrorType;
+import com.matzip.server.global.common.exception.MatzipException;
+
+public class TooManyRequestsException extends MatzipException.TooManyRequestsException {
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(ErrorType.TooManyRequests.TOO_MANY_REQUESTS_DEFAULT,
+              "Too many requests. Retry after " + retryAfterSeconds + " seconds.");
+    }
+}
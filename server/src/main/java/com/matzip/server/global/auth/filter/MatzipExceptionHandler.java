@@ -31,10 +31,7 @@ public class MatzipExceptionHandler implements AccessDeniedHandler, Authenticati
     private void prepareResponse(
             HttpServletRequest request, HttpServletResponse response, int status
     ) throws IOException {
-        String clientIP = request.getHeader("X-Forwarded-For");
-        if (clientIP == null) {
-            clientIP = request.getRemoteAddr();
-        }
+        String clientIP = MatzipFilter.clientIpOf(request);
         String token = request.getHeader("Authorization");
         if (token != null) {
             if (token.length() > 20)
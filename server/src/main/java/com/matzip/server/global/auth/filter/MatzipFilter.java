@@ -1,9 +1,17 @@
 package com.matzip.server.global.auth.filter;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.matzip.server.domain.user.model.User;
+import com.matzip.server.global.auth.exception.TooManyRequestsException;
 import com.matzip.server.global.auth.model.MatzipAuthenticationToken;
+import com.matzip.server.global.auth.model.RateLimitPolicy;
 import com.matzip.server.global.auth.model.UserPrincipal;
 import com.matzip.server.global.auth.service.JwtProvider;
+import com.matzip.server.global.auth.service.RateLimiter;
+import com.matzip.server.global.common.dto.ErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,13 +23,18 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
+import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+
 public class MatzipFilter extends BasicAuthenticationFilter {
     private final JwtProvider jwtProvider;
+    private final RateLimiter rateLimiter;
     private final static User anonymousUser = new User("anonymousUser", "");
+    private final Gson gson = new GsonBuilder().setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES).create();
 
-    public MatzipFilter(AuthenticationManager authenticationManager, JwtProvider jwtProvider) {
+    public MatzipFilter(AuthenticationManager authenticationManager, JwtProvider jwtProvider, RateLimiter rateLimiter) {
         super(authenticationManager);
         this.jwtProvider = jwtProvider;
+        this.rateLimiter = rateLimiter;
     }
 
     @Override
@@ -30,10 +43,7 @@ public class MatzipFilter extends BasicAuthenticationFilter {
             HttpServletResponse response,
             FilterChain chain) throws IOException, ServletException {
 
-        String clientIP = request.getHeader("X-Forwarded-For");
-        if (clientIP == null) {
-            clientIP = request.getRemoteAddr();
-        }
+        String clientIP = clientIpOf(request);
 
         Authentication authentication;
         try {
@@ -42,9 +52,38 @@ public class MatzipFilter extends BasicAuthenticationFilter {
             authentication = new MatzipAuthenticationToken(new UserPrincipal(anonymousUser));
         }
 
-        ((UserPrincipal) authentication.getPrincipal()).setUserIp(clientIP);
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        principal.setUserIp(clientIP);
+
+        RateLimitPolicy policy = RateLimitPolicy.of(request);
+        if (policy != null) {
+            String client = principal.getUserId() == null ? "ip:" + clientIP : "user:" + principal.getUserId();
+            long retryAfterMillis = rateLimiter.acquire(policy, client);
+            if (retryAfterMillis > 0) {
+                reject(response, (retryAfterMillis + 999) / 1000);
+                return;
+            }
+        }
+
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         chain.doFilter(request, response);
     }
+
+    /**
+     * The right-most X-Forwarded-For hop that is not a trusted proxy, as resolved by Tomcat's RemoteIpValve
+     * ({@code server.forward-headers-strategy=native}). The raw header is client-supplied and never read directly,
+     * since a client could otherwise pick a fresh rate-limit bucket per request.
+     */
+    public static String clientIpOf(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.setCharacterEncoding("utf-8");
+        response.getWriter().write(gson.toJson(new ErrorResponse(new TooManyRequestsException(retryAfterSeconds))));
+    }
 }
@@ -0,0 +1,49 @@
+package com.matzip.server.global.auth.model;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+
+/**
+ * Token buckets per endpoint group, matched in declaration order. Each client gets {@code capacity} requests of
+ * burst, refilled at {@code refillPerSecond}. Username autocomplete is called per keystroke and only reads the
+ * in-process index, so it gets a bucket of its own instead of sharing the search one.
+ */
+public enum RateLimitPolicy {
+    AUTOCOMPLETE(HttpMethod.GET, "/api/v1/search/users/autocomplete", 60, 10),
+    SEARCH(HttpMethod.GET, "/api/v1/search/**", 30, 1),
+    AUTH(HttpMethod.POST, "/api/v1/auth/**", 10, 0.2),
+    DEFAULT(null, "/api/v1/**", 120, 20),
+    ;
+
+    private static final AntPathMatcher matcher = new AntPathMatcher();
+
+    private final HttpMethod method;
+    private final String pattern;
+    private final int capacity;
+    private final double refillPerSecond;
+
+    RateLimitPolicy(HttpMethod method, String pattern, int capacity, double refillPerSecond) {
+        this.method = method;
+        this.pattern = pattern;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    public static RateLimitPolicy of(HttpServletRequest request) {
+        return Arrays.stream(values())
+                .filter(p -> p.method == null || p.method.matches(request.getMethod()))
+                .filter(p -> matcher.match(p.pattern, request.getRequestURI()))
+                .findFirst().orElse(null);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public double getRefillPerSecond() {
+        return refillPerSecond;
+    }
+}
@@ -8,14 +8,24 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * Holds only the user's id and username, copied at authentication time, so a principal never exposes a detached
+ * entity that other requests (or the {@code AuthenticationCache}) might share.
+ */
 public class UserPrincipal implements UserDetails {
-    private final User user;
+    private final Long userId;
+    private final String username;
     private final List<GrantedAuthority> grantedAuthorities;
     private String userIp;
 
     public UserPrincipal(User user) {
-        this.user = user;
-        this.grantedAuthorities = user.getId() == null ?
+        this(user.getId(), user.getUsername());
+    }
+
+    public UserPrincipal(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+        this.grantedAuthorities = userId == null ?
                                   List.of(new SimpleGrantedAuthority("ANONYMOUS")) :
                                   List.of(new SimpleGrantedAuthority("USER"));
     }
@@ -32,7 +42,7 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     @Override
@@ -56,7 +66,7 @@ public class UserPrincipal implements UserDetails {
     }
 
     public Long getUserId() {
-        return user.getId();
+        return userId;
     }
 
     public String getUserIp() {
@@ -1,6 +1,7 @@
 package com.matzip.server.global.auth.service;
 
 import com.matzip.server.domain.record.service.RecordService;
+import com.matzip.server.domain.search.model.UsernameIndexEvent;
 import com.matzip.server.domain.user.exception.UsernameAlreadyExistsException;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.UserRepository;
@@ -9,6 +10,7 @@ import com.matzip.server.global.auth.dto.AuthDto.Response;
 import com.matzip.server.global.auth.dto.AuthDto.SignupRequest;
 import com.matzip.server.global.auth.exception.LoginException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final RecordService recordService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Response signup(SignupRequest request) {
@@ -34,6 +37,7 @@ public class AuthService {
         String token = jwtProvider.generateToken(user.getUsername());
 
         recordService.signUp(user, token);
+        eventPublisher.publishEvent(UsernameIndexEvent.saved(user.getId(), user.getUsername()));
 
         return new Response(token);
     }
@@ -49,6 +53,7 @@ public class AuthService {
         String token = jwtProvider.generateToken(user.getUsername());
 
         recordService.login(user, token);
+        jwtProvider.invalidate(user.getId());
 
         return new Response(token);
     }
@@ -58,11 +63,13 @@ public class AuthService {
         User me = userRepository.findMeById(myId);
         String token = jwtProvider.generateToken(username);
         recordService.login(me, token);
+        jwtProvider.invalidate(myId);
         return new Response(token);
     }
 
     @Transactional
     public void logout(Long userId) {
         recordService.logout(userId);
+        jwtProvider.invalidate(userId);
     }
 }
@@ -0,0 +1,141 @@
+package com.matzip.server.global.auth.service;
+
+import com.matzip.server.global.auth.model.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of verified tokens to an immutable snapshot of their user's id and username; every hit builds a
+ * fresh {@link UserPrincipal}. Invalidations are broadcast over Redis pub/sub so every instance drops a user's
+ * token on logout, re-login and username change, and tokens are indexed by user id so that dropping them does not
+ * scan the cache. Each entry is tagged with the invalidation generation observed before it was loaded and is only
+ * stored if no invalidation happened in the meantime, so a token revoked during its own verification is never
+ * cached.
+ */
+@Slf4j
+@Component
+public class AuthenticationCache implements MessageListener {
+    public static final String CHANNEL = "auth:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${matzip.auth.cache.ttl-millis:60000}")
+    private long ttlMillis = 60000;
+
+    @Value("${matzip.auth.cache.max-size:10000}")
+    private int maxSize = 10000;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() <= maxSize) return false;
+            unindex(eldest.getKey(), eldest.getValue());
+            return true;
+        }
+    };
+
+    private final Map<Long, Set<String>> tokensByUserId = new HashMap<>();
+
+    private record Entry(Long userId, String username, long expiresAt) {
+        boolean isAlive() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+
+    public AuthenticationCache(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public Optional<UserPrincipal> get(String token) {
+        synchronized (entries) {
+            Entry entry = entries.get(token);
+            if (entry == null) return Optional.empty();
+            if (!entry.isAlive()) {
+                entries.remove(token);
+                unindex(token, entry);
+                return Optional.empty();
+            }
+            return Optional.of(new UserPrincipal(entry.userId(), entry.username()));
+        }
+    }
+
+    public void put(String token, Long userId, String username, long tokenExpiresAt, long loadedAtGeneration) {
+        long expiresAt = Math.min(System.currentTimeMillis() + ttlMillis, tokenExpiresAt);
+        synchronized (entries) {
+            if (generation.get() != loadedAtGeneration) return;
+            Entry previous = entries.put(token, new Entry(userId, username, expiresAt));
+            if (previous != null) unindex(token, previous);
+            tokensByUserId.computeIfAbsent(userId, id -> new HashSet<>()).add(token);
+        }
+    }
+
+    /**
+     * Drops the user's tokens locally and on every other instance.
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(userId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast token invalidation of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evict(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignored malformed token invalidation message: {}", e.getMessage());
+        }
+    }
+
+    private void evict(Long userId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            Set<String> tokens = tokensByUserId.remove(userId);
+            if (tokens != null) tokens.forEach(entries::remove);
+        }
+    }
+
+    private void unindex(String token, Entry entry) {
+        Set<String> tokens = tokensByUserId.get(entry.userId());
+        if (tokens == null) return;
+        tokens.remove(token);
+        if (tokens.isEmpty()) tokensByUserId.remove(entry.userId());
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    int indexedUsers() {
+        synchronized (entries) {
+            return tokensByUserId.size();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -21,6 +22,7 @@ import java.util.Date;
 public class JwtProvider {
     private final UserPrincipalDetailsService userPrincipalDetailsService;
     private final LoginRecordRepository loginRecordRepository;
+    private final AuthenticationCache authenticationCache;
 
     @Value("${jwt.secret}")
     private String SECRET;
@@ -37,11 +39,17 @@ public class JwtProvider {
         return PREFIX + Jwts.builder().setClaims(claims).signWith(SignatureAlgorithm.HS256, SECRET).compact();
     }
 
+    /**
+     * Verified tokens are served from {@link AuthenticationCache}; only a miss reads the user and its login record.
+     */
     public Authentication getAuthentication(String token) {
         if (token == null || token.isBlank() || !token.startsWith(PREFIX)) {
             throw new InvalidJwtException();
         }
 
+        Optional<UserPrincipal> cached = authenticationCache.get(token);
+        if (cached.isPresent()) return new MatzipAuthenticationToken(cached.get());
+
         Claims claims;
         try {
             claims = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token.replace(PREFIX, "")).getBody();
@@ -50,15 +58,22 @@ public class JwtProvider {
         }
 
         String username = claims.getSubject();
+        long generation = authenticationCache.generation();
 
         UserPrincipal userDetails = (UserPrincipal) userPrincipalDetailsService.loadUserByUsername(username);
-        loginRecordRepository.findById(userDetails.getUserId()).ifPresentOrElse( loginRecord -> {
-            if (!loginRecord.getToken().equals(token)) throw new InvalidJwtException();
+        loginRecordRepository.findToken(userDetails.getUserId()).ifPresentOrElse(loginToken -> {
+            if (!token.equals(loginToken)) throw new InvalidJwtException();
         }, () -> {
             log.error("LoginRecord not found for user: " + userDetails.getUsername());
             throw new InvalidJwtException();
         });
 
+        authenticationCache.put(token, userDetails.getUserId(), userDetails.getUsername(),
+                                claims.getExpiration().getTime(), generation);
         return new MatzipAuthenticationToken(userDetails);
     }
+
+    public void invalidate(Long userId) {
+        authenticationCache.invalidate(userId);
+    }
 }
@@ -0,0 +1,135 @@
+package com.matzip.server.global.auth.service;
+
+import com.matzip.server.global.auth.model.RateLimitPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Token-bucket rate limiter shared by all instances through Redis. Each (policy, client) bucket is a Redis hash that
+ * {@link #TAKE} refills lazily, on the Redis clock, and takes from atomically. To keep well-behaved clients off
+ * Redis, an instance takes up to {@code matzip.rate-limit.lease} tokens at once and spends them locally until they
+ * run out or {@code matzip.rate-limit.lease-millis} passes. A lease never exceeds what the policy refills within
+ * that window, so slow policies lease one token at a time, and tokens left in an expired lease are handed back with
+ * the next take. Leased tokens are already deducted from the shared bucket, so the limit holds across instances.
+ * A rejected client is also rejected locally until its retry time, and requests are let through when Redis is
+ * unavailable.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    private static final String KEY_PREFIX = "rate:";
+
+    private static final RedisScript<Long> TAKE = RedisScript.of("""
+            redis.replicate_commands()
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'at')
+            local tokens = tonumber(bucket[1]) or capacity
+            local elapsed = math.max(0, now - (tonumber(bucket[2]) or now))
+            tokens = math.min(capacity, tokens + elapsed * rate + tonumber(ARGV[4]))
+            local taken = math.min(tonumber(ARGV[3]), math.floor(tokens))
+            local result
+            if taken >= 1 then
+                tokens = tokens - taken
+                result = taken
+            else
+                result = -math.ceil((1 - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tokens, 'at', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate))
+            return result
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${matzip.rate-limit.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${matzip.rate-limit.lease:5}")
+    private int lease = 5;
+
+    @Value("${matzip.rate-limit.lease-millis:1000}")
+    private long leaseMillis = 1000;
+
+    @Value("${matzip.rate-limit.max-clients:100000}")
+    private int maxClients = 100000;
+
+    private final Map<String, Lease> leases = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Lease> eldest) {
+                    return size() > maxClients;
+                }
+            });
+
+    private static final class Lease {
+        private long tokens;
+        private long expiresAt;
+        private long blockedUntil;
+    }
+
+    public RateLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Takes one token from the client's bucket of the policy. Returns 0 when the request may proceed, otherwise the
+     * milliseconds until the client may retry.
+     */
+    public long acquire(RateLimitPolicy policy, String client) {
+        if (!enabled) return 0;
+        String key = KEY_PREFIX + policy.name().toLowerCase(Locale.ROOT) + ":" + client;
+        Lease lease = leases.computeIfAbsent(key, k -> new Lease());
+
+        synchronized (lease) {
+            long now = System.currentTimeMillis();
+            if (now < lease.blockedUntil) return lease.blockedUntil - now;
+            if (lease.tokens > 0 && now < lease.expiresAt) {
+                lease.tokens--;
+                return 0;
+            }
+
+            Long taken;
+            try {
+                taken = redisTemplate.execute(TAKE, List.of(key),
+                                              String.valueOf(policy.getCapacity()),
+                                              String.valueOf(policy.getRefillPerSecond() / 1000),
+                                              String.valueOf(leaseSizeOf(policy)),
+                                              String.valueOf(lease.tokens));
+            } catch (DataAccessException e) {
+                log.warn("Failed to check rate limit of {}: {}", key, e.getMessage());
+                return 0;
+            }
+            if (taken == null) return 0;
+            lease.tokens = 0;
+
+            if (taken > 0) {
+                lease.tokens = taken - 1;
+                lease.expiresAt = now + leaseMillis;
+                return 0;
+            }
+            lease.blockedUntil = now - taken;
+            return -taken;
+        }
+    }
+
+    /**
+     * Tokens to lease at once: at most what the policy refills within one lease, and at least one.
+     */
+    long leaseSizeOf(RateLimitPolicy policy) {
+        long refilledPerLease = (long) (policy.getRefillPerSecond() * leaseMillis / 1000);
+        return Math.max(1, Math.min(Math.min(lease, policy.getCapacity()), refilledPerLease));
+    }
+}
@@ -0,0 +1,112 @@
+package com.matzip.server.global.common.datasource;
+
+import com.matzip.server.global.auth.filter.MatzipFilter;
+import com.matzip.server.global.auth.model.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Keeps a client's reads on the primary for {@code matzip.datasource.read-your-writes-millis} after one of its
+ * read-write transactions commits, so a lagging replica never hides the client's own changes. A client is both the
+ * authenticated user and the client IP, so anonymous writes such as sign up and login are covered too. Pins are
+ * broadcast over Redis pub/sub so that every instance honors them.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("matzip.datasource.replicas")
+public class ReadYourWritesTracker implements MessageListener {
+    public static final String CHANNEL = "datasource:writes";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${matzip.datasource.read-your-writes-millis:5000}")
+    private long windowMillis = 5000;
+
+    @Value("${matzip.datasource.read-your-writes-max-clients:100000}")
+    private int maxClients = 100000;
+
+    private final Map<String, Long> pinnedUntil = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > maxClients;
+                }
+            });
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean isPinned() {
+        long now = System.currentTimeMillis();
+        for (String client : currentClients()) {
+            Long until = pinnedUntil.get(client);
+            if (until != null && now < until) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Pins the current clients on every instance once the surrounding transaction commits.
+     */
+    public void pinAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        List<String> clients = currentClients();
+        if (clients.isEmpty()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clients.forEach(ReadYourWritesTracker.this::pin);
+                try {
+                    redisTemplate.convertAndSend(CHANNEL, String.join("\n", clients));
+                } catch (DataAccessException e) {
+                    log.warn("Failed to broadcast writes of {}: {}", clients, e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        new String(message.getBody(), StandardCharsets.UTF_8).lines().forEach(this::pin);
+    }
+
+    private void pin(String client) {
+        pinnedUntil.put(client, System.currentTimeMillis() + windowMillis);
+    }
+
+    /**
+     * The request's user and IP. Before the security context is set, as while the token is verified, the IP is read
+     * from the request itself.
+     */
+    private static List<String> currentClients() {
+        List<String> clients = new ArrayList<>(2);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            if (principal.getUserId() != null) clients.add("user:" + principal.getUserId());
+            if (principal.getUserIp() != null) clients.add("ip:" + principal.getUserIp());
+        } else if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            clients.add("ip:" + MatzipFilter.clientIpOf(attributes.getRequest()));
+        }
+        return clients;
+    }
+}
@@ -0,0 +1,85 @@
+package com.matzip.server.global.common.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A read replica and its replication state as of the last {@link #check()}. Until the first check it is considered
+ * not replicating, so it receives no reads, and a state older than the caller's limit is not trusted either.
+ */
+@Slf4j
+@Getter
+public class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean legacyStatus;
+    private volatile boolean replicating;
+    private volatile long lagSeconds = -1;
+    private volatile long checkedAt;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setQueryTimeout(1);
+    }
+
+    public boolean isAvailable(long maxLagSeconds, long maxAgeMillis) {
+        return replicating && lagSeconds <= maxLagSeconds && System.currentTimeMillis() - checkedAt <= maxAgeMillis;
+    }
+
+    /**
+     * Reads the lag from {@code SHOW REPLICA STATUS}, or {@code SHOW SLAVE STATUS} before MySQL 8.0.22. A server
+     * without replication status, like a managed reader endpoint, is taken as not lagging.
+     */
+    public void check() {
+        try {
+            update(jdbcTemplate.query(legacyStatus ? "SHOW SLAVE STATUS" : "SHOW REPLICA STATUS", rs -> {
+                if (!rs.next()) return 0L;
+                long lag = rs.getLong(legacyStatus ? "Seconds_Behind_Master" : "Seconds_Behind_Source");
+                return rs.wasNull() ? null : lag;
+            }));
+        } catch (BadSqlGrammarException e) {
+            if (legacyStatus) {
+                log.warn("Failed to read replication status of {}: {}", name, e.getMessage());
+                update(null);
+            } else {
+                legacyStatus = true;
+                check();
+            }
+        } catch (DataAccessException e) {
+            log.debug("Failed to check replica {}: {}", name, e.getMessage());
+            update(null);
+        }
+    }
+
+    /**
+     * A {@code null} lag means the replica is unreachable or not replicating.
+     */
+    void update(Long lagSeconds) {
+        boolean wasReplicating = replicating;
+        this.lagSeconds = lagSeconds == null ? -1 : lagSeconds;
+        this.replicating = lagSeconds != null;
+        this.checkedAt = System.currentTimeMillis();
+
+        if (wasReplicating && !replicating) log.warn("Replica {} stopped replicating, reads go elsewhere", name);
+        else if (!wasReplicating && replicating) log.info("Replica {} is replicating, {}s behind", name, lagSeconds);
+    }
+
+    void close() {
+        if (!(dataSource instanceof Closeable closeable)) return;
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.warn("Failed to close replica {}: {}", name, e.getMessage());
+        }
+    }
+}
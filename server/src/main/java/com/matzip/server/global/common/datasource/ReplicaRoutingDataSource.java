@@ -0,0 +1,152 @@
+package com.matzip.server.global.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to the replicas, round-robin, and everything else to the primary. It must be wrapped
+ * in a {@link LazyConnectionDataSourceProxy}, so that the connection is chosen after the transaction's read-only flag
+ * is set. Replicas are checked every {@code checkMillis} on a thread of their own, so a slow check never waits
+ * behind, or holds up, other scheduled tasks; only those replicating at most {@code maxLagSeconds} behind, as of a
+ * check no older than {@value #STALE_AFTER_CHECKS} intervals, receive reads. Reads fall back to the primary when no
+ * replica qualifies and for clients inside their {@link ReadYourWritesTracker read-your-writes} window. Every route
+ * is counted by target and reason, and each replica's lag and availability are exposed as gauges.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    private static final int STALE_AFTER_CHECKS = 3;
+    private static final Object REPLICA_READ = new Object();
+
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final long maxLagSeconds;
+    private final long checkMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> routes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            List<Replica> replicas,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry,
+            long maxLagSeconds,
+            long checkMillis
+    ) {
+        this.replicas = replicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkMillis = checkMillis;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+            Gauge.builder("matzip.datasource.replica.lag", replica, Replica::getLagSeconds)
+                    .tag("replica", replica.getName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("matzip.datasource.replica.available", replica, r -> isAvailable(r) ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.pinAfterCommit();
+            return route(PRIMARY, "write");
+        }
+        if (readYourWritesTracker.isPinned()) return route(PRIMARY, "read_your_writes");
+
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (isAvailable(replica)) {
+                markReplicaRead();
+                return route(replica.getName(), "read");
+            }
+        }
+        return route(PRIMARY, "no_replica");
+    }
+
+    /**
+     * Whether the current transaction reads from a replica, so what it reads may lag behind the primary. Caches that
+     * outlive the transaction should not be filled from such reads.
+     */
+    public static boolean isReadingFromReplica() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checker.scheduleWithFixedDelay(this::checkReplicas, 0, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try {
+                replica.check();
+            } catch (RuntimeException e) {
+                log.warn("Failed to check replica {}: {}", replica.getName(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        checker.shutdownNow();
+        replicas.forEach(Replica::close);
+    }
+
+    private boolean isAvailable(Replica replica) {
+        return replica.isAvailable(maxLagSeconds, checkMillis * STALE_AFTER_CHECKS);
+    }
+
+    private void markReplicaRead() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isReadingFromReplica()) return;
+        TransactionSynchronizationManager.bindResource(REPLICA_READ, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            }
+        });
+    }
+
+    private String route(String target, String reason) {
+        routes.computeIfAbsent(target + ":" + reason, k -> Counter.builder("matzip.datasource.routes")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry)).increment();
+        return target;
+    }
+}
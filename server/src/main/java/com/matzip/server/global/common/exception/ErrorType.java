@@ -9,6 +9,7 @@ public interface ErrorType {
         INVALID_PARAMETER(2),
         FILE_SIZE_LIMIT_EXCEEDED(3),
         INVALID_JWT_TOKEN(4),
+        INVALID_CURSOR(5),
 
         FOLLOW_ME(102),
         HEART_MY_REVIEW(103),
@@ -102,6 +103,22 @@ public interface ErrorType {
         }
     }
 
+    enum TooManyRequests implements ErrorType {
+        TOO_MANY_REQUESTS_DEFAULT(29000),
+        ;
+
+        private final int errorCode;
+
+        TooManyRequests(int errorCode) {
+            this.errorCode = errorCode;
+        }
+
+        @Override
+        public int getCode() {
+            return this.errorCode;
+        }
+    }
+
     enum ServerError implements ErrorType {
         SERVER_ERROR_DEFAULT(10000),
         FILE_UPLOAD_FAIL(10100),
@@ -0,0 +1,7 @@
+package com.matzip.server.global.common.exception;
+
+public class InvalidCursorException extends MatzipException.InvalidRequestException {
+    public InvalidCursorException() {
+        super(ErrorType.BadRequest.INVALID_CURSOR, "Cursor is malformed or does not match the requested sort.");
+    }
+}
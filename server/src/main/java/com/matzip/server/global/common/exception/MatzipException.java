@@ -44,6 +44,12 @@ public abstract class MatzipException extends RuntimeException {
         }
     }
 
+    public abstract static class TooManyRequestsException extends MatzipException {
+        public TooManyRequestsException(ErrorType.TooManyRequests errorType, String detail) {
+            super(errorType, detail);
+        }
+    }
+
     public abstract static class ServerErrorException extends MatzipException {
         public ServerErrorException(ErrorType.ServerError errorType, String detail) {
             super(errorType, detail);
@@ -12,4 +12,9 @@ public @interface Logging {
     String endpoint();
     boolean pathVariable() default false;
     boolean hideRequestBody() default false;
+
+    /**
+     * Most SQL statements one call should send; exceeding it is logged as a warning. Negative means unbounded.
+     */
+    int queryBudget() default -1;
 }
@@ -0,0 +1,112 @@
+package com.matzip.server.global.common.logger;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Counts the SQL statements a thread sends between {@link #start} and {@link #stop}, and the time spent executing
+ * them. Hibernate reports every statement through {@link Inspector} and every execution through {@link Timing}; both
+ * are registered in {@code application.yaml} and cost a thread-local lookup when no count is running.
+ */
+public final class QueryCounter {
+    private static final int MAX_STATEMENTS = 50;
+    private static final ThreadLocal<Count> current = new ThreadLocal<>();
+
+    private QueryCounter() {}
+
+    public static final class Count {
+        private final List<String> statements;
+        private int queries;
+        private long nanos;
+        private long executionStart;
+
+        private Count(boolean captureStatements) {
+            this.statements = captureStatements ? new ArrayList<>() : null;
+        }
+
+        public int getQueries() {
+            return queries;
+        }
+
+        public long getMillis() {
+            return nanos / 1_000_000;
+        }
+
+        /**
+         * The first statements sent, when started with {@code captureStatements}.
+         */
+        public List<String> getStatements() {
+            return statements == null ? List.of() : Collections.unmodifiableList(statements);
+        }
+
+        @Override
+        public String toString() {
+            return queries + " queries in " + getMillis() + "ms";
+        }
+    }
+
+    /**
+     * Starts counting on the current thread, replacing any running count, and returns the count to be passed to
+     * {@link #stop}.
+     */
+    public static Count start(boolean captureStatements) {
+        Count count = new Count(captureStatements);
+        current.set(count);
+        return count;
+    }
+
+    public static void stop(Count count) {
+        if (current.get() == count) current.remove();
+    }
+
+    public static final class Inspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            Count count = current.get();
+            if (count != null) {
+                count.queries++;
+                if (count.statements != null && count.statements.size() < MAX_STATEMENTS) count.statements.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    public static final class Timing extends BaseSessionEventListener {
+        @Override
+        public void jdbcExecuteStatementStart() {
+            executionStart();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            executionEnd();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            executionStart();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            executionEnd();
+        }
+
+        private static void executionStart() {
+            Count count = current.get();
+            if (count != null) count.executionStart = System.nanoTime();
+        }
+
+        private static void executionEnd() {
+            Count count = current.get();
+            if (count != null && count.executionStart != 0) {
+                count.nanos += System.nanoTime() - count.executionStart;
+                count.executionStart = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.matzip.server.global.common.model;
+
+import com.matzip.server.global.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Opaque keyset position: the (sort key, createdAt, id) tuple of the last row of a page.
+ */
+public record Cursor(String sort, boolean asc, String key, LocalDateTime createdAt, Long id) {
+    private static final String DELIMITER = "|";
+
+    public static Cursor of(Enum<?> sort, boolean asc, Object key, LocalDateTime createdAt, Long id) {
+        return new Cursor(sort == null ? "" : sort.name(), asc, String.valueOf(key), createdAt, id);
+    }
+
+    public static Cursor decode(String token, Enum<?> sort, boolean asc) {
+        if (token == null) return null;
+
+        Cursor cursor;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + DELIMITER, 5);
+            cursor = new Cursor(
+                    parts[0], Boolean.parseBoolean(parts[1]), parts[4], LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+
+        if (!Objects.equals(cursor.sort, sort == null ? "" : sort.name()) || cursor.asc != asc)
+            throw new InvalidCursorException();
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sort, String.valueOf(asc), createdAt.toString(), id.toString(), key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Object key(Class<?> type) {
+        try {
+            if (type == String.class) return key;
+            if (type == Integer.class) return Integer.valueOf(key);
+            if (type == Long.class) return Long.valueOf(key);
+            if (type == Float.class) return Float.valueOf(key);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(key);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+        throw new InvalidCursorException();
+    }
+}
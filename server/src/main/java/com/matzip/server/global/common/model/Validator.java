@@ -0,0 +1,30 @@
+package com.matzip.server.global.common.model;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Conditional request validators of a rendered resource: a strong ETag hashed from every value the response is
+ * built from, and the latest modification time among them.
+ */
+public record Validator(String etag, LocalDateTime lastModified) {
+    public static Validator of(LocalDateTime lastModified, Object... parts) {
+        String joined = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|"));
+        return new Validator(
+                "\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"", lastModified);
+    }
+
+    public static LocalDateTime latest(LocalDateTime... times) {
+        return Arrays.stream(times).filter(Objects::nonNull).max(LocalDateTime::compareTo).orElse(null);
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,84 @@
+package com.matzip.server.global.config;
+
+import com.matzip.server.global.common.datasource.ReadYourWritesTracker;
+import com.matzip.server.global.common.datasource.Replica;
+import com.matzip.server.global.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Only active when {@code matzip.datasource.replicas} lists replica JDBC URLs; otherwise Spring Boot's single
+ * datasource is used. The primary keeps the {@code spring.datasource} settings and each replica gets its own Hikari
+ * pool named {@code replica-<n>} with the primary's credentials, and all pools publish their metrics.
+ */
+@Configuration
+@ConditionalOnProperty("matzip.datasource.replicas")
+public class DataSourceConfig {
+    @Value("${matzip.datasource.replicas}")
+    private List<String> replicaUrls;
+
+    @Value("${matzip.datasource.replica.pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${matzip.datasource.replica.connection-timeout-millis:1000}")
+    private long replicaConnectionTimeoutMillis;
+
+    @Value("${matzip.datasource.replica.max-lag-seconds:1}")
+    private long maxLagSeconds;
+
+    @Value("${matzip.datasource.replica.check-millis:1000}")
+    private long checkMillis;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(replicaUrls.get(i));
+            config.setUsername(properties.determineUsername());
+            config.setPassword(properties.determinePassword());
+            config.setDriverClassName(properties.determineDriverClassName());
+            config.setMaximumPoolSize(replicaPoolSize);
+            config.setConnectionTimeout(replicaConnectionTimeoutMillis);
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);
+            config.setMetricRegistry(meterRegistry);
+            replicas.add(new Replica(config.getPoolName(), new HikariDataSource(config)));
+        }
+        return new ReplicaRoutingDataSource(
+                primaryDataSource, replicas, readYourWritesTracker, meterRegistry, maxLagSeconds, checkMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
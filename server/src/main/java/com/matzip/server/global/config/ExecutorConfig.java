@@ -0,0 +1,65 @@
+package com.matzip.server.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+    @Value("${matzip.image.upload.pool-size:8}")
+    private int imageUploadPoolSize;
+
+    @Value("${matzip.image.upload.queue-capacity:64}")
+    private int imageUploadQueueCapacity;
+
+    @Value("${matzip.image.processing.pool-size:2}")
+    private int imageProcessingPoolSize;
+
+    @Value("${matzip.image.processing.queue-capacity:256}")
+    private int imageProcessingQueueCapacity;
+
+    @Value("${matzip.feed.fan-out.pool-size:2}")
+    private int feedFanOutPoolSize;
+
+    @Value("${matzip.feed.fan-out.queue-capacity:1024}")
+    private int feedFanOutQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageUploadPoolSize);
+        executor.setMaxPoolSize(imageUploadPoolSize);
+        executor.setQueueCapacity(imageUploadQueueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageProcessingPoolSize);
+        executor.setMaxPoolSize(imageProcessingPoolSize);
+        executor.setQueueCapacity(imageProcessingQueueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor feedFanOutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(feedFanOutPoolSize);
+        executor.setMaxPoolSize(feedFanOutPoolSize);
+        executor.setQueueCapacity(feedFanOutQueueCapacity);
+        executor.setThreadNamePrefix("feed-fan-out-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -3,39 +3,154 @@ package com.matzip.server.global.config;
 import com.matzip.server.global.auth.model.UserPrincipal;
 import com.matzip.server.global.common.exception.MatzipException;
 import com.matzip.server.global.common.logger.Logging;
+import com.matzip.server.global.common.logger.QueryCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+/**
+ * Instruments every {@link Logging} endpoint with a latency timer (p50/p95/p99 and a percentile histogram) per
+ * outcome, an error counter per error type, an in-flight gauge and a summary of the SQL statements per call, all
+ * tagged with the endpoint template and exposed on {@code /actuator/prometheus}. Calls are only written to the log,
+ * with their arguments rendered and their query count and DB time, when they fail, take longer than
+ * {@code matzip.logging.slow-millis}, are sampled at {@code matzip.logging.sample-rate}, or exceed their
+ * {@link Logging#queryBudget()}.
+ */
 @Slf4j
 @Aspect
 @Configuration
 public class LoggerConfig {
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${matzip.logging.slow-millis:1000}")
+    private long slowMillis = 1000;
+
+    @Value("${matzip.logging.sample-rate:0.01}")
+    private double sampleRate = 0.01;
+
+    public LoggerConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private final class Endpoint {
+        private final String name;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final DistributionSummary queries;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+        private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+
+        private Endpoint(String name) {
+            this.name = name;
+            Gauge.builder("matzip.endpoint.in.flight", inFlight, AtomicInteger::get)
+                    .tag("endpoint", name)
+                    .register(meterRegistry);
+            queries = DistributionSummary.builder("matzip.endpoint.queries")
+                    .tag("endpoint", name)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String outcome) {
+            return timers.computeIfAbsent(outcome, o -> Timer.builder("matzip.endpoint.latency")
+                    .tag("endpoint", name)
+                    .tag("outcome", o)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry));
+        }
+
+        private Counter errors(String errorType) {
+            return errors.computeIfAbsent(errorType, t -> Counter.builder("matzip.endpoint.errors")
+                    .tag("endpoint", name)
+                    .tag("error_type", t)
+                    .register(meterRegistry));
+        }
+    }
+
     @Around("execution(* com.matzip.server..*Controller.*(..)) && @annotation(logging)")
     public Object logMethod(ProceedingJoinPoint joinPoint, Logging logging) throws Throwable {
-        Signature signature = joinPoint.getSignature();
-        MethodSignature methodSignature = (MethodSignature) signature;
+        Endpoint endpoint = endpoints.computeIfAbsent(logging.endpoint(), Endpoint::new);
+        endpoint.inFlight.incrementAndGet();
+        QueryCounter.Count queries = QueryCounter.start(false);
+        long start = System.nanoTime();
+
+        try {
+            Object result = joinPoint.proceed();
+            long elapsed = System.nanoTime() - start;
+            endpoint.timer("success").record(elapsed, TimeUnit.NANOSECONDS);
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+            if (logging.queryBudget() >= 0 && queries.getQueries() > logging.queryBudget()) {
+                log.warn("{} took {}ms with {}, over its budget of {}",
+                         describe(joinPoint, logging), elapsedMillis, queries, logging.queryBudget());
+            } else if (elapsedMillis >= slowMillis || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("{} took {}ms with {}", describe(joinPoint, logging), elapsedMillis, queries);
+            }
+            return result;
+        } catch (Exception e) {
+            long elapsed = System.nanoTime() - start;
+            boolean serverError = !(e instanceof MatzipException) || e instanceof MatzipException.ServerErrorException;
+            endpoint.timer(serverError ? "server_error" : "client_error").record(elapsed, TimeUnit.NANOSECONDS);
+            endpoint.errors(e instanceof MatzipException me ? me.getErrorType().toString() : e.getClass().getSimpleName())
+                    .increment();
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+            if (e instanceof MatzipException) {
+                log.info("{} failed with {} took {}ms with {}",
+                         describe(joinPoint, logging), e.getMessage(), elapsedMillis, queries);
+            } else {
+                log.error("{} failed took {}ms with {}", describe(joinPoint, logging), elapsedMillis, queries, e);
+            }
+            throw e;
+        } finally {
+            QueryCounter.stop(queries);
+            endpoint.queries.record(queries.getQueries());
+            endpoint.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Renders {@code [username(id=...)] endpoint {arguments}}. The first two controller parameters are always the
+     * current user id and username.
+     */
+    private String describe(ProceedingJoinPoint joinPoint, Logging logging) {
+        MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
         String[] parameterNames = methodSignature.getParameterNames();
         Object[] parameterValues = joinPoint.getArgs();
 
         String endpoint = logging.endpoint();
         int pathVariableIndex = -1;
         if (logging.pathVariable()) {
-            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            Method method = methodSignature.getMethod();
             Annotation[][] parameterAnnotations = method.getParameterAnnotations();
 
-            for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (int i = 0; i < parameterAnnotations.length && pathVariableIndex < 0; i++) {
                 for (Annotation annotation : parameterAnnotations[i]) {
                     if (annotation.annotationType() == PathVariable.class) {
                         pathVariableIndex = i;
@@ -43,41 +158,22 @@ public class LoggerConfig {
                     }
                 }
             }
-
-            String pathVariable = parameterValues[pathVariableIndex].toString();
-            endpoint = endpoint.replace("{pathVariable}", pathVariable);
+            if (pathVariableIndex >= 0)
+                endpoint = endpoint.replace("{pathVariable}", String.valueOf(parameterValues[pathVariableIndex]));
         }
 
         int finalPathVariableIndex = pathVariableIndex;
-        String parameters = logging.hideRequestBody() ? "\t requestBody = [hidden]" :
+        String parameters = logging.hideRequestBody() ? "requestBody = [hidden]" :
                             IntStream.range(2, parameterNames.length)
                                     .filter(i -> i != finalPathVariableIndex)
-                                    .mapToObj(i -> "\t " + parameterNames[i] + " = " + parameterValues[i])
-                                    .collect(Collectors.joining("\n"));
-        String endpointWithParameters = endpoint + (parameters.isEmpty() ? "" : "\n" + parameters);
+                                    .mapToObj(i -> parameterNames[i] + " = " + parameterValues[i])
+                                    .collect(Collectors.joining(", "));
 
-        String ip = ((UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUserIp();
-        String userId = (Long) parameterValues[0] == 0 ? ip : parameterValues[0].toString();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String ip = authentication == null ? null : ((UserPrincipal) authentication.getPrincipal()).getUserIp();
+        String userId = Long.valueOf(0).equals(parameterValues[0]) ? ip : String.valueOf(parameterValues[0]);
 
-        long start = System.currentTimeMillis();
-
-        try {
-            Object result = joinPoint.proceed();
-            long end = System.currentTimeMillis();
-            log.info("[{}(id={})] {}\n took {}ms", parameterValues[1], userId, endpointWithParameters, end - start);
-            return result;
-        } catch (Exception e) {
-            long end = System.currentTimeMillis();
-            log.info("[{}(id={})] {}\n\t failed with {}\n took {}ms",
-                     parameterValues[1], userId,
-                     endpointWithParameters,
-                     e.getMessage(), end - start);
-
-            if (!(e instanceof MatzipException)) {
-                e.printStackTrace();
-            }
-
-            throw e;
-        }
+        return "[" + parameterValues[1] + "(id=" + userId + ")] " + endpoint +
+               (parameters.isEmpty() ? "" : " {" + parameters + "}");
     }
 }
@@ -3,6 +3,7 @@ package com.matzip.server.global.config;
 import com.matzip.server.global.auth.filter.MatzipExceptionHandler;
 import com.matzip.server.global.auth.filter.MatzipFilter;
 import com.matzip.server.global.auth.service.JwtProvider;
+import com.matzip.server.global.auth.service.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +27,7 @@ import java.util.Arrays;
 public class SecurityConfig {
     private final MatzipExceptionHandler matzipExceptionHandler;
     private final JwtProvider jwtProvider;
+    private final RateLimiter rateLimiter;
 
     private final String[] GET_WHITELIST = new String[]{
             "/api/v1/reviews",
@@ -33,6 +35,8 @@ public class SecurityConfig {
             "/api/v1/users",
             "/api/v1/users/**",
             "/api/v1/search/**",
+            "/actuator/health",
+            "/actuator/prometheus",
     };
 
     private final String[] POST_WHITELIST = new String[]{"/api/v1/auth/signup", "/api/v1/auth/login"};
@@ -53,7 +57,7 @@ public class SecurityConfig {
                 .authenticationEntryPoint(matzipExceptionHandler)
                 .accessDeniedHandler(matzipExceptionHandler)
                 .and()
-                .addFilter(new MatzipFilter(noAuthenticationManager(), jwtProvider))
+                .addFilter(new MatzipFilter(noAuthenticationManager(), jwtProvider, rateLimiter))
                 .authorizeRequests()
                 .antMatchers(HttpMethod.GET, GET_WHITELIST).hasAnyAuthority("USER", "ANONYMOUS")
                 .antMatchers(HttpMethod.POST, POST_WHITELIST).hasAnyAuthority("USER", "ANONYMOUS")
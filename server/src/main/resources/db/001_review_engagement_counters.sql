@@ -0,0 +1,30 @@
+-- Engagement counters on review (user-001).
+-- Production runs with ddl-auto validate, so apply this once before deploying the counter columns.
+-- The backfill is idempotent and can be re-run; ReviewCounterService repairs any drift afterwards.
+
+ALTER TABLE review
+    ADD COLUMN number_of_hearts   INT      NULL,
+    ADD COLUMN number_of_scraps   INT      NULL,
+    ADD COLUMN number_of_comments INT      NULL,
+    ADD COLUMN engagement_version BIGINT   NULL,
+    ADD COLUMN engaged_at         DATETIME(6) NULL;
+
+UPDATE review r
+SET r.number_of_hearts   = (SELECT COUNT(*) FROM heart h WHERE h.review_id = r.id),
+    r.number_of_scraps   = (SELECT COUNT(*) FROM scrap s WHERE s.review_id = r.id),
+    r.number_of_comments = (SELECT COUNT(*) FROM comment c WHERE c.review_id = r.id),
+    r.engagement_version = COALESCE(r.engagement_version, 0)
+WHERE r.number_of_hearts IS NULL
+   OR r.number_of_scraps IS NULL
+   OR r.number_of_comments IS NULL
+   OR r.engagement_version IS NULL;
+
+ALTER TABLE review
+    MODIFY number_of_hearts   INT    NOT NULL DEFAULT 0,
+    MODIFY number_of_scraps   INT    NOT NULL DEFAULT 0,
+    MODIFY number_of_comments INT    NOT NULL DEFAULT 0,
+    MODIFY engagement_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_review_number_of_hearts ON review (number_of_hearts, created_at);
+CREATE INDEX idx_review_number_of_scraps ON review (number_of_scraps, created_at);
+CREATE INDEX idx_review_number_of_comments ON review (number_of_comments, created_at);
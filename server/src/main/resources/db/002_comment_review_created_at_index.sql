@@ -0,0 +1,4 @@
+-- Keyset index for review comment pages and the newest-comments query (user-017).
+-- Production runs with ddl-auto validate, which does not create indexes, so apply this once before deploying.
+
+CREATE INDEX idx_comment_review_created_at ON comment (review_id, created_at, id);
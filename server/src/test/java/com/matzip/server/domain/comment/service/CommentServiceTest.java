@@ -1,5 +1,6 @@
 package com.matzip.server.domain.comment.service;
 
+import com.matzip.server.domain.comment.dto.CommentDto;
 import com.matzip.server.domain.comment.dto.CommentDto.PatchRequest;
 import com.matzip.server.domain.comment.dto.CommentDto.PostRequest;
 import com.matzip.server.domain.comment.exception.CommentAccessDeniedException;
@@ -7,13 +8,17 @@ import com.matzip.server.domain.comment.exception.CommentNotFoundException;
 import com.matzip.server.domain.comment.model.Comment;
 import com.matzip.server.domain.comment.repository.CommentRepository;
 import com.matzip.server.domain.record.service.RecordService;
+import com.matzip.server.domain.review.dto.ReviewDto;
 import com.matzip.server.domain.review.dto.ReviewDto.Response;
 import com.matzip.server.domain.review.exception.ReviewNotFoundException;
 import com.matzip.server.domain.review.model.Review;
 import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.dto.CursorSlice;
 import com.matzip.server.global.config.TestQueryDslConfig;
+import com.matzip.server.global.config.TestRelationConfig;
 import com.matzip.server.global.utils.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +27,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import javax.annotation.PostConstruct;
@@ -32,7 +39,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import(TestQueryDslConfig.class)
+@Import({TestQueryDslConfig.class, TestRelationConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
 @DisplayName("CommentService 테스트")
@@ -43,6 +50,10 @@ class CommentServiceTest {
     private ReviewRepository reviewRepository;
     @Autowired
     private CommentRepository commentRepository;
+    @Autowired
+    private ReviewResponseAssembler reviewResponseAssembler;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     @MockBean
     private RecordService recordService;
 
@@ -52,7 +63,8 @@ class CommentServiceTest {
     @PostConstruct
     void init() {
         users = TestDataUtils.testData();
-        commentService = new CommentService(userRepository, reviewRepository, commentRepository, recordService);
+        commentService = new CommentService(
+                userRepository, reviewRepository, commentRepository, recordService, reviewResponseAssembler, eventPublisher);
     }
 
     @BeforeEach
@@ -77,6 +89,50 @@ class CommentServiceTest {
         assertThat(response.getComments()).extracting("content").contains(content);
     }
 
+    @Test
+    @DisplayName("댓글 생성 테스트: 리뷰에는 최신 댓글 몇 개와 댓글 수만 포함")
+    void postCommentTest_LatestComments() {
+        // given
+        User user = users.get(0);
+        Review review = user.getReviews().get(0);
+        int beforeCount = review.getNumberOfComments();
+        for (int i = 0; i < ReviewDto.Response.LATEST_COMMENTS; i++)
+            commentService.postComment(user.getId(), new PostRequest(review.getId(), "old comment " + i));
+
+        // when
+        Response response = commentService.postComment(user.getId(), new PostRequest(review.getId(), "newest comment"));
+
+        // then
+        assertThat(response.getNumberOfComments()).isEqualTo(beforeCount + ReviewDto.Response.LATEST_COMMENTS + 1);
+        assertThat(response.getComments()).hasSize(ReviewDto.Response.LATEST_COMMENTS);
+        assertThat(response.getComments()).last().extracting("content").isEqualTo("newest comment");
+    }
+
+    @Test
+    @DisplayName("댓글 조회 테스트: 커서로 오래된 순서대로 페이지 조회")
+    void fetchCommentsTest() {
+        // given
+        User user = users.get(0);
+        Review review = user.getReviews().get(0);
+        for (int i = 0; i < 5; i++)
+            commentService.postComment(user.getId(), new PostRequest(review.getId(), "comment " + i));
+        List<Long> commentIds = commentRepository.findAll().stream()
+                .filter(c -> c.getReview().getId().equals(review.getId()))
+                .map(Comment::getId).sorted().toList();
+
+        // when
+        CursorSlice<CommentDto.Response> first = commentService.fetchComments(user.getId(), review.getId(), 2, null);
+        Slice<CommentDto.Response> rest = commentService.fetchComments(
+                user.getId(), review.getId(), commentIds.size(), first.getNextCursor());
+
+        // then
+        assertThat(first.getContent()).extracting("id").containsExactlyElementsOf(commentIds.subList(0, 2));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(rest.getContent()).extracting("id")
+                .containsExactlyElementsOf(commentIds.subList(2, commentIds.size()));
+        assertThat(rest.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("댓글 생성 테스트: 리뷰가 존재하지 않는 경우")
     void postCommentTest_NoReview() {
@@ -102,11 +158,13 @@ class CommentServiceTest {
         PatchRequest request = new PatchRequest(newContent);
 
         // when
-        Response response = commentService.patchComment(user.getId(), comment.getId(), request);
+        commentService.patchComment(user.getId(), comment.getId(), request);
+        Slice<CommentDto.Response> comments = commentService.fetchComments(
+                user.getId(), comment.getReview().getId(), 100, null);
 
         // then
-        assertThat(response.getComments()).extracting("content").contains(newContent);
-        assertThat(response.getComments()).extracting("content").doesNotContain(oldContent);
+        assertThat(comments.getContent()).extracting("content").contains(newContent);
+        assertThat(comments.getContent()).extracting("content").doesNotContain(oldContent);
     }
 
     @Test
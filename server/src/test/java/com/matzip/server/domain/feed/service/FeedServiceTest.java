@@ -0,0 +1,333 @@
+package com.matzip.server.domain.feed.service;
+
+import com.matzip.server.domain.feed.model.FeedEvent;
+import com.matzip.server.domain.feed.model.FollowEvent;
+import com.matzip.server.domain.relation.model.RelationType;
+import com.matzip.server.domain.relation.service.RelationService;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.dto.ReviewDto.PostRequest;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
+import com.matzip.server.domain.user.model.Follow;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.domain.user.repository.FollowRepository;
+import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.datasource.ReadYourWritesTracker;
+import com.matzip.server.global.common.datasource.Replica;
+import com.matzip.server.global.common.datasource.ReplicaRoutingDataSource;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.config.TestQueryDslConfig;
+import com.matzip.server.global.config.TestRedisConfig;
+import com.matzip.server.global.config.TestRelationConfig;
+import com.matzip.server.global.utils.TestDataUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import({TestQueryDslConfig.class, TestRelationConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("FeedService 테스트")
+class FeedServiceTest {
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private RelationService relationService;
+    @Autowired
+    private ReviewResponseAssembler reviewResponseAssembler;
+
+    private LettuceConnectionFactory redisConnectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private FeedService feedService;
+    private List<User> users;
+
+    @PostConstruct
+    void init() {
+        users = TestDataUtils.testData();
+        redisConnectionFactory = (LettuceConnectionFactory) new TestRedisConfig().redisConnectionFactory();
+        redisConnectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        feedService = newFeedService(redisTemplate);
+    }
+
+    @PreDestroy
+    void destroy() {
+        redisConnectionFactory.destroy();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.saveAll(users);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.flushDb();
+            return null;
+        });
+    }
+
+    private FeedService newFeedService(StringRedisTemplate redisTemplate) {
+        return newFeedService(reviewRepository, redisTemplate);
+    }
+
+    private FeedService newFeedService(ReviewRepository reviewRepository, StringRedisTemplate redisTemplate) {
+        return new FeedService(userRepository, reviewRepository, followRepository, relationService,
+                               reviewResponseAssembler, redisTemplate, Runnable::run);
+    }
+
+    private static List<Long> reviewIdsFollowedBy(User user) {
+        return user.getFollowings().stream()
+                .map(Follow::getFollowee)
+                .flatMap(u -> u.getReviews().stream())
+                .map(Review::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+    }
+
+    private List<Long> readAll(User user, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSlice<ReviewDto.Response> slice = feedService.getFeed(user.getId(), size, cursor);
+            slice.getContent().forEach(r -> ids.add(r.getId()));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private Review post(User author) {
+        Review review = reviewRepository.save(new Review(author, new PostRequest("content", List.of(), 3, "restaurant")));
+        feedService.fanOut(FeedEvent.posted(review.getId(), author.getId()));
+        return review;
+    }
+
+    @Test
+    @DisplayName("피드 조회 테스트: 레디스 장애 시 팔로잉 리뷰를 DB에서 최신순으로 조회")
+    void getFeedTest_PullFromDatabase() {
+        // given
+        User user = users.get(0);
+        List<Long> expected = reviewIdsFollowedBy(user);
+        StringRedisTemplate brokenRedisTemplate = mock(StringRedisTemplate.class);
+        RedisConnectionFailureException failure = new RedisConnectionFailureException("redis is down");
+        given(brokenRedisTemplate.hasKey(any())).willThrow(failure);
+        given(brokenRedisTemplate.opsForZSet()).willThrow(failure);
+        given(brokenRedisTemplate.opsForSet()).willThrow(failure);
+        FeedService feedService = newFeedService(brokenRedisTemplate);
+
+        // when
+        CursorSlice<ReviewDto.Response> first = feedService.getFeed(user.getId(), 2, null);
+        CursorSlice<ReviewDto.Response> second = feedService.getFeed(user.getId(), 2, first.getNextCursor());
+
+        // then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isFalse();
+        assertThat(Stream.concat(first.getContent().stream(), second.getContent().stream()).map(ReviewDto.Response::getId))
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("피드 조회 테스트: 첫 페이지에서 타임라인을 만들고 이후 페이지도 타임라인에서 조회")
+    void getFeedTest_Timeline() {
+        // given
+        User user = users.get(1);
+        List<Long> expected = reviewIdsFollowedBy(user);
+
+        // when
+        List<Long> ids = readAll(user, 4);
+
+        // then
+        assertThat(ids).containsExactlyElementsOf(expected);
+        assertThat(redisTemplate.opsForZSet().size("feed:" + user.getId())).isEqualTo(expected.size() + 1L);
+    }
+
+    @Test
+    @DisplayName("피드 조회 테스트: 복제본에서 읽는 중이면 타임라인을 만들지 않고 DB에서 조회")
+    void getFeedTest_ReadFromReplica() throws SQLException {
+        // given
+        User user = users.get(1);
+        List<Long> expected = reviewIdsFollowedBy(user);
+        Replica replica = mock(Replica.class);
+        given(replica.getName()).willReturn("replica-0");
+        given(replica.getDataSource()).willReturn(mock(DataSource.class));
+        given(replica.isAvailable(anyLong(), anyLong())).willReturn(true);
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                mock(DataSource.class), List.of(replica), mock(ReadYourWritesTracker.class), new SimpleMeterRegistry(), 1, 1000);
+        routingDataSource.afterPropertiesSet();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            routingDataSource.getConnection();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            routingDataSource.close();
+        }
+
+        // when
+        List<Long> ids = readAll(user, 4);
+
+        // then
+        assertThat(ReplicaRoutingDataSource.isReadingFromReplica()).isTrue();
+        assertThat(ids).containsExactlyElementsOf(expected);
+        assertThat(redisTemplate.hasKey("feed:" + user.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("피드 조회 테스트: 용량만큼 잘린 타임라인을 넘어가면 DB에서 이어서 조회")
+    void getFeedTest_TruncatedTimeline() {
+        // given
+        User user = users.get(1);
+        List<Long> expected = reviewIdsFollowedBy(user);
+        ReflectionTestUtils.setField(feedService, "capacity", 2);
+
+        // when
+        List<Long> ids = readAll(user, 2);
+
+        // then
+        assertThat(ids).containsExactlyElementsOf(expected);
+        assertThat(redisTemplate.opsForZSet().range("feed:" + user.getId(), 0, -1))
+                .containsExactly(String.valueOf(expected.get(1)), String.valueOf(expected.get(0)));
+    }
+
+    @Test
+    @DisplayName("피드 전파 테스트: 있는 타임라인에만 새 리뷰를 넣고 용량을 넘으면 오래된 리뷰부터 제거")
+    void fanOutTest() {
+        // given
+        User author = users.get(0);
+        User follower = users.get(1);
+        User idleFollower = users.get(3);
+        List<Long> before = reviewIdsFollowedBy(follower);
+        ReflectionTestUtils.setField(feedService, "capacity", before.size());
+        feedService.getFeed(follower.getId(), 1, null);
+
+        // when
+        Review first = post(author);
+        Review second = post(author);
+
+        // then
+        String key = "feed:" + follower.getId();
+        assertThat(redisTemplate.opsForZSet().size(key)).isEqualTo(before.size() + 1L);
+        assertThat(redisTemplate.opsForZSet().reverseRange(key, 0, 1))
+                .containsExactly(String.valueOf(second.getId()), String.valueOf(first.getId()));
+        assertThat(redisTemplate.opsForZSet().score(key, "0")).isNull();
+        assertThat(redisTemplate.hasKey("feed:" + idleFollower.getId())).isFalse();
+        List<Long> expected = new ArrayList<>(List.of(second.getId(), first.getId()));
+        expected.addAll(before);
+        assertThat(readAll(follower, 3)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("피드 전파 테스트: 타임라인을 만드는 사이에 전파가 건너뛴 리뷰도 타임라인에 들어감")
+    void fanOutTest_DuringRebuild() {
+        // given
+        User author = users.get(0);
+        User follower = users.get(1);
+        List<Long> before = reviewIdsFollowedBy(follower);
+        List<Review> posted = new ArrayList<>();
+        ReviewRepository racingRepository = mock(ReviewRepository.class, AdditionalAnswers.delegatesTo(reviewRepository));
+        willAnswer(invocation -> {
+            List<Long> ids = reviewRepository.findIdsByUserIdsBefore(
+                    invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            if (posted.isEmpty()) posted.add(post(author));
+            return ids;
+        }).given(racingRepository).findIdsByUserIdsBefore(anyCollection(), anyLong(), any());
+
+        // when
+        newFeedService(racingRepository, redisTemplate).getFeed(follower.getId(), 1, null);
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score("feed:" + follower.getId(), String.valueOf(posted.get(0).getId())))
+                .isNotNull();
+        List<Long> expected = new ArrayList<>(List.of(posted.get(0).getId()));
+        expected.addAll(before);
+        assertThat(readAll(follower, 3)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("피드 전파 테스트: 팔로워가 많은 작성자의 리뷰는 읽을 때 DB에서 가져와 합침")
+    void fanOutTest_PullAuthor() {
+        // given
+        User author = users.get(4);
+        User follower = users.get(1);
+        List<Long> before = reviewIdsFollowedBy(follower);
+        ReflectionTestUtils.setField(feedService, "fanOutLimit", 1L);
+        feedService.getFeed(follower.getId(), 1, null);
+
+        // when
+        Review review = post(author);
+
+        // then
+        assertThat(redisTemplate.opsForSet().isMember("feed:pull-authors", String.valueOf(author.getId()))).isTrue();
+        assertThat(redisTemplate.opsForZSet().score("feed:" + follower.getId(), String.valueOf(review.getId()))).isNull();
+        List<Long> expected = new ArrayList<>(List.of(review.getId()));
+        expected.addAll(before);
+        assertThat(readAll(follower, 2)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("피드 무효화 테스트: 팔로우하면 타임라인을 지우고 다음 조회에서 새 팔로잉의 리뷰까지 포함해 다시 만듦")
+    void invalidateTest_Follow() {
+        // given
+        User follower = users.get(1);
+        feedService.getFeed(follower.getId(), 1, null);
+        User followee = users.stream()
+                .filter(u -> u != follower && !u.getReviews().isEmpty())
+                .filter(u -> follower.getFollowings().stream().noneMatch(f -> f.getFollowee() == u))
+                .findFirst().orElseThrow();
+        followRepository.save(new Follow(follower, followee));
+        relationService.invalidate(follower.getId(), RelationType.FOLLOWING);
+
+        // when
+        feedService.invalidate(FollowEvent.changed(follower.getId(), followee.getId()));
+
+        // then
+        assertThat(redisTemplate.hasKey("feed:" + follower.getId())).isFalse();
+        assertThat(readAll(follower, 4)).containsExactlyElementsOf(reviewIdsFollowedBy(follower));
+    }
+
+    @Test
+    @DisplayName("피드 조회 테스트: 팔로잉이 없으면 빈 피드")
+    void getFeedTest_NoFollowings() {
+        // given
+        User user = userRepository.save(new User("lonely-user", "password"));
+
+        // when
+        CursorSlice<ReviewDto.Response> feed = feedService.getFeed(user.getId(), 20, null);
+
+        // then
+        assertThat(feed.getContent()).isEmpty();
+        assertThat(feed.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,33 @@
+package com.matzip.server.domain.image.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageVariant 테스트")
+class ImageVariantTest {
+    @Test
+    @DisplayName("변형 URL 테스트: 변형이 보장된 이미지는 변형 URL")
+    void urlOfTest() {
+        // given
+        String url = "https://bucket.s3.amazonaws.com/" + ImageVariant.markedKeyOf("user_01", "202401011200000000-abcd1234-a.png");
+
+        // then
+        assertThat(ImageVariant.THUMBNAIL.urlOf(url))
+                .isEqualTo("https://bucket.s3.amazonaws.com/user_01-v-202401011200000000-abcd1234-a.png_w320.jpg");
+    }
+
+    @Test
+    @DisplayName("변형 URL 테스트: 변형이 없던 이전 이미지는 원본 URL")
+    void urlOfTest_Legacy() {
+        // given
+        List<String> urls = List.of("https://bucket.s3.amazonaws.com/v-202401011200000000-abcd1234-a.png",
+                                    "https://bucket.s3.amazonaws.com/user_01-202401011200000000-abcd1234-v-a.png");
+
+        // then
+        assertThat(ImageVariant.PREVIEW.urlsOf(urls)).isEqualTo(urls);
+    }
+}
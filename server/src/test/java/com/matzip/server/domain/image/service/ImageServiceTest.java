@@ -0,0 +1,197 @@
+package com.matzip.server.domain.image.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.matzip.server.domain.image.model.ImageVariant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig(ImageServiceTest.Config.class)
+@TestPropertySource(properties = "cloud.aws.s3.bucket=test-bucket")
+@DisplayName("ImageService 테스트")
+class ImageServiceTest {
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+
+        @Bean
+        AmazonS3 amazonS3() {
+            return mock(AmazonS3.class);
+        }
+
+        @Bean
+        Executor imageUploadExecutor() {
+            return new SyncTaskExecutor();
+        }
+
+        @Bean
+        Executor imageProcessingExecutor() {
+            return new SyncTaskExecutor();
+        }
+
+        @Bean
+        ImageTranscoder imageTranscoder() {
+            return new ImageTranscoder();
+        }
+
+        @Bean
+        ImageService imageService(AmazonS3 amazonS3, ImageTranscoder imageTranscoder) {
+            return new ImageService(amazonS3, imageUploadExecutor(), imageProcessingExecutor(), imageTranscoder);
+        }
+    }
+
+    @Autowired
+    private AmazonS3 amazonS3;
+    @Autowired
+    private ImageService imageService;
+
+    private final List<Boolean> transactionActiveOnPut = new ArrayList<>();
+    private final List<String> putKeys = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        reset(amazonS3);
+        transactionActiveOnPut.clear();
+        putKeys.clear();
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(imageService), "maxQueuedBytes", 67108864L);
+        given(amazonS3.getUrl(anyString(), anyString()))
+                .willAnswer(invocation -> new URL("https://test-bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+        given(amazonS3.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+            transactionActiveOnPut.add(TransactionSynchronizationManager.isActualTransactionActive());
+            putKeys.add(invocation.<PutObjectRequest>getArgument(0).getKey());
+            return null;
+        });
+    }
+
+    private static MockMultipartFile png(String name) throws IOException {
+        return image(name, "png");
+    }
+
+    private static MockMultipartFile image(String name, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB), format, out);
+        return new MockMultipartFile("images", name + "." + format, "image/" + format, out.toByteArray());
+    }
+
+    private static String keyOf(String url) {
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+
+    private List<String> copiedKeys() {
+        ArgumentCaptor<CopyObjectRequest> captor = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        verify(amazonS3, atLeastOnce()).copyObject(captor.capture());
+        return captor.getAllValues().stream().map(CopyObjectRequest::getDestinationKey).toList();
+    }
+
+    private static List<String> variantKeysOf(String key) {
+        return Stream.of(ImageVariant.values()).map(v -> v.keyOf(key)).toList();
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 테스트: 업로드하는 동안 트랜잭션을 열지 않음")
+    void uploadImagesTest_NoTransaction() throws IOException {
+        // when
+        List<String> urls = imageService.uploadImages("user-01", List.of(png("first"), png("second")));
+
+        // then
+        assertThat(urls).hasSize(2);
+        assertThat(transactionActiveOnPut).isNotEmpty().containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 테스트: 변형은 원본 사본으로 먼저 만들고 축소본으로 덮어씀")
+    void uploadImageTest_Variants() throws IOException {
+        // when
+        String url = imageService.uploadImage("user-01", png("image"));
+
+        // then
+        String key = keyOf(url);
+        assertThat(ImageVariant.hasVariants(key)).isTrue();
+        assertThat(copiedKeys()).containsExactlyElementsOf(variantKeysOf(key));
+        assertThat(putKeys).containsExactlyElementsOf(Stream.concat(Stream.of(key), variantKeysOf(key).stream()).toList());
+        assertThat(ImageVariant.THUMBNAIL.urlOf(url)).endsWith(ImageVariant.THUMBNAIL.keyOf(key));
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 테스트: GIF는 축소본을 만들지 않고 원본 사본을 유지")
+    void uploadImageTest_Gif() throws IOException {
+        // when
+        String url = imageService.uploadImage("user-01", image("image", "gif"));
+
+        // then
+        assertThat(copiedKeys()).containsExactlyElementsOf(variantKeysOf(keyOf(url)));
+        assertThat(putKeys).containsExactly(keyOf(url));
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 테스트: 대기 중인 바이트가 상한을 넘으면 축소본 생성을 건너뜀")
+    void uploadImageTest_QueueFull() throws IOException {
+        // given
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(imageService), "maxQueuedBytes", 1L);
+
+        // when
+        String url = imageService.uploadImage("user-01", png("image"));
+
+        // then
+        assertThat(copiedKeys()).containsExactlyElementsOf(variantKeysOf(keyOf(url)));
+        assertThat(putKeys).containsExactly(keyOf(url));
+    }
+}
@@ -0,0 +1,95 @@
+package com.matzip.server.domain.image.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageTranscoder 테스트")
+class ImageTranscoderTest {
+    private ImageTranscoder imageTranscoder;
+
+    @BeforeEach
+    void setUp() {
+        imageTranscoder = new ImageTranscoder();
+        ReflectionTestUtils.setField(imageTranscoder, "maxPixels", 10_000L);
+    }
+
+    private static byte[] encode(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Inserts a big-endian EXIF APP1 segment holding only the orientation tag right after SOI.
+     */
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        ByteBuffer app1 = ByteBuffer.allocate(36);
+        app1.putShort((short) 0xFFE1).putShort((short) 34);
+        app1.put(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        app1.put(new byte[]{'M', 'M', 0, 42}).putInt(8);
+        app1.putShort((short) 1);
+        app1.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        app1.putInt(0);
+
+        ByteBuffer result = ByteBuffer.allocate(jpeg.length + app1.capacity());
+        result.put(jpeg, 0, 2).put(app1.array()).put(jpeg, 2, jpeg.length - 2);
+        return result.array();
+    }
+
+    @Test
+    @DisplayName("디코딩 테스트: 픽셀 수가 상한을 넘으면 축소해서 디코딩")
+    void decodeTest_Subsampled() throws IOException {
+        // given
+        byte[] bytes = encode(400, 300, "png");
+
+        // when
+        Optional<BufferedImage> decoded = imageTranscoder.decode(bytes);
+
+        // then
+        assertThat(decoded).isPresent();
+        assertThat((long) decoded.get().getWidth() * decoded.get().getHeight()).isLessThanOrEqualTo(10_000L);
+        assertThat(decoded.get().getWidth()).isGreaterThan(decoded.get().getHeight());
+    }
+
+    @Test
+    @DisplayName("디코딩 테스트: 이미지가 아니면 비어있음")
+    void decodeTest_NotAnImage() {
+        // then
+        assertThat(imageTranscoder.decode("not an image".getBytes())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("디코딩 테스트: EXIF 방향을 픽셀에 반영")
+    void decodeTest_Orientation() throws IOException {
+        // given
+        byte[] bytes = withOrientation(encode(80, 40, "jpeg"), 6);
+
+        // when
+        BufferedImage decoded = imageTranscoder.decode(bytes).orElseThrow();
+
+        // then
+        assertThat(ImageTranscoder.orientationOf(bytes)).isEqualTo(6);
+        assertThat(decoded.getWidth()).isEqualTo(40);
+        assertThat(decoded.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("방향 테스트: JPEG가 아니거나 EXIF가 없으면 1")
+    void orientationOfTest_Default() throws IOException {
+        // then
+        assertThat(ImageTranscoder.orientationOf(encode(8, 8, "png"))).isEqualTo(1);
+        assertThat(ImageTranscoder.orientationOf(encode(8, 8, "jpeg"))).isEqualTo(1);
+        assertThat(ImageTranscoder.orientationOf(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})).isEqualTo(1);
+    }
+}
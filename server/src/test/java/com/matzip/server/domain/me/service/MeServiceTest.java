@@ -1,22 +1,34 @@
 package com.matzip.server.domain.me.service;
 
+import com.matzip.server.domain.comment.model.Comment;
 import com.matzip.server.domain.comment.repository.CommentRepository;
 import com.matzip.server.domain.image.service.ImageService;
 import com.matzip.server.domain.me.dto.MeDto.PasswordChangeRequest;
+import com.matzip.server.domain.me.dto.MeDto;
 import com.matzip.server.domain.me.dto.MeDto.PatchRequest;
 import com.matzip.server.domain.me.dto.MeDto.UsernameChangeRequest;
 import com.matzip.server.domain.me.dto.MeDto.UsernameResponse;
+import com.matzip.server.domain.record.repository.PointLedgerRepository;
+import com.matzip.server.domain.record.service.PointLedgerService;
 import com.matzip.server.domain.record.service.RecordService;
+import com.matzip.server.domain.relation.service.RelationService;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.model.Heart;
 import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.Scrap;
 import com.matzip.server.domain.review.repository.HeartRepository;
 import com.matzip.server.domain.review.repository.ReviewRepository;
 import com.matzip.server.domain.review.repository.ScrapRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
 import com.matzip.server.domain.user.dto.UserDto.Response;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.FollowRepository;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.domain.user.service.UserService;
 import com.matzip.server.global.auth.service.JwtProvider;
 import com.matzip.server.global.config.TestQueryDslConfig;
+import com.matzip.server.global.config.TestRelationConfig;
 import com.matzip.server.global.utils.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,23 +37,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.annotation.PostConstruct;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
 @DataJpaTest
-@Import(TestQueryDslConfig.class)
+@Import({TestQueryDslConfig.class, TestRelationConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
+@RecordApplicationEvents
 @DisplayName("MeService 테스트")
 class MeServiceTest {
     @Autowired
@@ -56,6 +75,16 @@ class MeServiceTest {
     private HeartRepository heartRepository;
     @Autowired
     private FollowRepository followRepository;
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+    @Autowired
+    private ReviewResponseAssembler reviewResponseAssembler;
+    @Autowired
+    private RelationService relationService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private ApplicationEvents applicationEvents;
     private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
     @MockBean
     private ImageService imageService;
@@ -64,14 +93,20 @@ class MeServiceTest {
     @MockBean
     private JwtProvider jwtProvider;
 
+    private PointLedgerService pointLedgerService;
+    private UserService userService;
     private MeService meService;
     private List<User> users;
 
     @PostConstruct
     void init() {
         users = TestDataUtils.testData();
+        pointLedgerService = new PointLedgerService(pointLedgerRepository, userRepository, reviewRepository, eventPublisher);
+        userService = new UserService(userRepository, followRepository, recordService, reviewRepository,
+                                      reviewResponseAssembler, relationService, eventPublisher);
         meService = new MeService(userRepository, reviewRepository, commentRepository, scrapRepository,
-                                  heartRepository, followRepository, passwordEncoder, imageService, recordService, jwtProvider);
+                                  heartRepository, followRepository, passwordEncoder, imageService, recordService,
+                                  pointLedgerService, jwtProvider, userService, reviewResponseAssembler, eventPublisher);
 
         given(imageService.uploadImage(any(), any())).willReturn("https://" + UUID.randomUUID() + ".url");
         given(imageService.deleteImage(any())).willReturn("https://" + UUID.randomUUID() + ".url");
@@ -114,6 +149,8 @@ class MeServiceTest {
         // then
         assertThat(response.response().getUsername()).isEqualTo(newUsername);
         assertThat(response.response().getUsername()).isNotEqualTo(oldUsername);
+        assertThat(applicationEvents.stream(ReviewIndexEvent.class).map(ReviewIndexEvent::reviewId))
+                .containsExactlyInAnyOrderElementsOf(user.getReviews().stream().map(Review::getId).toList());
     }
 
     @Test
@@ -147,6 +184,70 @@ class MeServiceTest {
         assertThat(followRepository.count()).isEqualTo(expectedFollowCount);
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 테스트: 좋아요, 스크랩, 댓글을 남긴 리뷰는 재색인")
+    void deleteMeTest_ReindexEngagedReviews() {
+        // given
+        User user = users.get(0);
+        List<Long> reviewIds = user.getReviews().stream().map(Review::getId).toList();
+        List<Long> engagedReviewIds = Stream.of(
+                user.getHearts().stream().map(Heart::getReview),
+                user.getScraps().stream().map(Scrap::getReview),
+                user.getComments().stream().map(Comment::getReview)
+        ).flatMap(s -> s).map(Review::getId).filter(id -> !reviewIds.contains(id)).distinct().toList();
+
+        // when
+        meService.deleteMe(user.getId());
+
+        // then
+        assertThat(engagedReviewIds).isNotEmpty();
+        assertThat(applicationEvents.stream(ReviewIndexEvent.class).filter(e -> !e.deleted())
+                           .map(ReviewIndexEvent::reviewId).toList())
+                .containsAll(engagedReviewIds);
+        assertThat(applicationEvents.stream(ReviewIndexEvent.class).filter(ReviewIndexEvent::deleted)
+                           .map(ReviewIndexEvent::reviewId).toList())
+                .containsExactlyInAnyOrderElementsOf(reviewIds);
+    }
+
+    @Test
+    @DisplayName("내 정보 조회 테스트: 리뷰는 최신순으로 첫 페이지만 조회")
+    void getMeTest_PagedReviews() {
+        // given
+        User user = users.get(0);
+        List<Long> reviewIds = user.getReviews().stream().map(Review::getId).sorted(Comparator.reverseOrder()).toList();
+        ReflectionTestUtils.setField(userService, "profileReviewSize", 1);
+
+        // when
+        MeDto.Response response = meService.getMe(user.getId());
+
+        // then
+        assertThat(response.getReviews().getData()).extracting(ReviewDto.Response::getId)
+                .containsExactly(reviewIds.get(0));
+        assertThat(response.getNextReviewsCursor()).isNotNull();
+        assertThat(userService.fetchUserReviews(user.getId(), user.getUsername(), 1, response.getNextReviewsCursor())
+                           .getContent()).extracting(ReviewDto.Response::getId)
+                .containsExactly(reviewIds.get(1));
+    }
+
+    @Test
+    @DisplayName("내 정보 조회 테스트: 스크랩한 리뷰는 스크랩 설명과 함께 조회")
+    void getMeTest_Scraps() {
+        // given
+        User user = users.get(0);
+        List<Long> scrapedReviewIds = user.getScraps().stream().map(s -> s.getReview().getId()).toList();
+
+        // when
+        MeDto.Response response = meService.getMe(user.getId());
+
+        // then
+        assertThat(response.getScraps().getData()).extracting(ReviewDto.Response::getId)
+                .containsExactlyElementsOf(scrapedReviewIds);
+        assertThat(response.getScraps().getData()).allSatisfy(r -> {
+            assertThat(r.getIsScraped()).isTrue();
+            assertThat(r.getScrapDescription()).isEqualTo("description");
+        });
+    }
+
     @Test
     @DisplayName("회원 정보 수정 테스트")
     void patchMeTest() {
@@ -163,4 +264,36 @@ class MeServiceTest {
         assertThat(response.getProfileString()).isEqualTo(newProfile);
         assertThat(response.getProfileString()).isNotEqualTo(oldProfile);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("포인트 원장 테스트: 집계 전에도 본인 레벨에 반영하고 레벨이 바뀌면 리뷰 재색인")
+    void pointLedgerTest() {
+        // given
+        User user = users.get(0);
+        int points = user.getMatzipPoint() + 30;
+        boolean releveled = !Integer.valueOf(PointLedgerService.levelOf(points)).equals(user.getMatzipLevel());
+        pointLedgerService.append(user, 20);
+        pointLedgerService.append(user, 15);
+        pointLedgerService.append(user, -5);
+
+        // when
+        Response pending = meService.getMe(user.getId());
+
+        // then
+        assertThat(pending.getMatzipLevel()).isEqualTo(PointLedgerService.levelOf(points));
+
+        // when
+        pointLedgerService.aggregate();
+        pointLedgerService.aggregate();
+
+        // then
+        User aggregated = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(aggregated.getMatzipPoint()).isEqualTo(points);
+        assertThat(aggregated.getMatzipLevel()).isEqualTo(PointLedgerService.levelOf(points));
+        assertThat(applicationEvents.stream(ReviewIndexEvent.class).filter(e -> !e.deleted()).map(ReviewIndexEvent::reviewId))
+                .containsExactlyInAnyOrderElementsOf(
+                        releveled ? aggregated.getReviews().stream().map(Review::getId).toList() : List.of());
+        assertThat(pointLedgerRepository.sumPendingPointsByUserId(user.getId())).isEqualTo(0L);
+        assertThat(meService.getMe(user.getId()).getMatzipLevel()).isEqualTo(PointLedgerService.levelOf(points));
+    }
+}
@@ -0,0 +1,115 @@
+package com.matzip.server.domain.record.repository;
+
+import com.matzip.server.global.config.TestRedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig(TestRedisConfig.class)
+@ActiveProfiles("test")
+@DisplayName("LoginRecordRepository 테스트")
+class LoginRecordRepositoryTest {
+    private static final String KEY = "loginRecord:1";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private LoginRecordRepository loginRecordRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.flushDb();
+            return null;
+        });
+        loginRecordRepository = new LoginRecordRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("가입 테스트: 토큰을 저장하고 만료 시간 설정")
+    void signUpTest() {
+        // when
+        loginRecordRepository.signUp(1L, "token");
+
+        // then
+        assertThat(loginRecordRepository.findToken(1L)).hasValue("token");
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("로그인 테스트: 하루에 한 번만 로그인 포인트 지급")
+    void loginTest() {
+        // when
+        boolean first = loginRecordRepository.login(1L, "token-1");
+        boolean second = loginRecordRepository.login(1L, "token-2");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(loginRecordRepository.findToken(1L)).hasValue("token-2");
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("로그인 테스트: 가입 직후에는 로그인 포인트를 주지 않고 하루가 지나면 지급")
+    void loginTest_AfterSignUp() {
+        // given
+        loginRecordRepository.signUp(1L, "token-1");
+
+        // when
+        boolean sameDay = loginRecordRepository.login(1L, "token-2");
+        long dayAgo = System.currentTimeMillis() - Duration.ofDays(1).toMillis() - 1;
+        redisTemplate.opsForHash().put(KEY, "lastLoginPointMillis", String.valueOf(dayAgo));
+        boolean nextDay = loginRecordRepository.login(1L, "token-3");
+
+        // then
+        assertThat(sameDay).isFalse();
+        assertThat(nextDay).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 교체 테스트: 기록이 있을 때만 교체하고 로그아웃하면 토큰 삭제")
+    void replaceTokenTest() {
+        // when
+        loginRecordRepository.replaceToken(2L, "token");
+        loginRecordRepository.signUp(1L, "token-1");
+        loginRecordRepository.replaceToken(1L, "token-2");
+
+        // then
+        assertThat(redisTemplate.hasKey("loginRecord:2")).isFalse();
+        assertThat(loginRecordRepository.findToken(1L)).hasValue("token-2");
+
+        // when
+        loginRecordRepository.clearToken(1L);
+
+        // then
+        assertThat(loginRecordRepository.findToken(1L)).isEmpty();
+        assertThat(redisTemplate.opsForHash().hasKey(KEY, "lastLoginPointMillis")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 인덱스 삭제 테스트: @RedisHash의 id 집합만 삭제")
+    void deleteLegacyIndexTest() {
+        // given
+        redisTemplate.opsForSet().add("loginRecord", "1", "2");
+        loginRecordRepository.signUp(1L, "token");
+
+        // when
+        boolean deleted = loginRecordRepository.deleteLegacyIndex();
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(redisTemplate.hasKey("loginRecord")).isFalse();
+        assertThat(loginRecordRepository.findToken(1L)).hasValue("token");
+        assertThat(loginRecordRepository.deleteLegacyIndex()).isFalse();
+    }
+}
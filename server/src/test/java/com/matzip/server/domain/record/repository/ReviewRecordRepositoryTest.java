@@ -0,0 +1,104 @@
+package com.matzip.server.domain.record.repository;
+
+import com.matzip.server.global.config.TestRedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig(TestRedisConfig.class)
+@ActiveProfiles("test")
+@DisplayName("ReviewRecordRepository 테스트")
+class ReviewRecordRepositoryTest {
+    private static final String KEY = "viewRecord:1:2";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private ReviewRecordRepository reviewRecordRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.flushDb();
+            return null;
+        });
+        reviewRecordRepository = new ReviewRecordRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("댓글 수 테스트: 이전까지 센 댓글 수를 반환하고 만료 시간 설정")
+    void incrementCommentCountTest() {
+        // when
+        long first = reviewRecordRepository.incrementCommentCount(1L, 2L);
+        long second = reviewRecordRepository.incrementCommentCount(1L, 2L);
+
+        // then
+        assertThat(first).isEqualTo(0L);
+        assertThat(second).isEqualTo(1L);
+        assertThat(redisTemplate.opsForHash().get(KEY, "commentCount")).isEqualTo("2");
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("댓글 수 테스트: 기록이 없으면 비어있고 0 아래로 내려가지 않음")
+    void decrementCommentCountTest() {
+        // given
+        OptionalLong missing = reviewRecordRepository.decrementCommentCount(1L, 2L);
+        reviewRecordRepository.incrementCommentCount(1L, 2L);
+
+        // when
+        OptionalLong first = reviewRecordRepository.decrementCommentCount(1L, 2L);
+        OptionalLong second = reviewRecordRepository.decrementCommentCount(1L, 2L);
+
+        // then
+        assertThat(missing).isEmpty();
+        assertThat(redisTemplate.hasKey(KEY)).isTrue();
+        assertThat(first).hasValue(1L);
+        assertThat(second).hasValue(0L);
+        assertThat(redisTemplate.opsForHash().get(KEY, "commentCount")).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("기록 갱신 테스트: touch는 댓글 수를 유지하고 refresh는 있는 기록만 갱신")
+    void touchTest() {
+        // given
+        reviewRecordRepository.incrementCommentCount(1L, 2L);
+        redisTemplate.persist(KEY);
+
+        // when
+        boolean missing = reviewRecordRepository.refresh(1L, 3L);
+        reviewRecordRepository.touch(1L, 2L);
+
+        // then
+        assertThat(missing).isFalse();
+        assertThat(redisTemplate.hasKey("viewRecord:1:3")).isFalse();
+        assertThat(redisTemplate.opsForHash().get(KEY, "commentCount")).isEqualTo("1");
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+        assertThat(reviewRecordRepository.refresh(1L, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 인덱스 삭제 테스트: @RedisHash의 id 집합만 삭제")
+    void deleteLegacyIndexTest() {
+        // given
+        redisTemplate.opsForSet().add("viewRecord", "1:2", "1:3");
+        reviewRecordRepository.touch(1L, 2L);
+
+        // when
+        boolean deleted = reviewRecordRepository.deleteLegacyIndex();
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(redisTemplate.hasKey("viewRecord")).isFalse();
+        assertThat(redisTemplate.hasKey(KEY)).isTrue();
+    }
+}
@@ -0,0 +1,151 @@
+package com.matzip.server.domain.relation.service;
+
+import com.matzip.server.domain.relation.model.RelationIndex;
+import com.matzip.server.domain.relation.model.RelationType;
+import com.matzip.server.domain.review.repository.HeartRepository;
+import com.matzip.server.domain.review.repository.ScrapRepository;
+import com.matzip.server.domain.user.repository.FollowRepository;
+import com.matzip.server.global.common.datasource.ReadYourWritesTracker;
+import com.matzip.server.global.common.datasource.Replica;
+import com.matzip.server.global.common.datasource.ReplicaRoutingDataSource;
+import com.matzip.server.global.config.TestRedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+
+@SpringJUnitConfig(TestRedisConfig.class)
+@ActiveProfiles("test")
+@DisplayName("RelationService 테스트")
+class RelationServiceTest {
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    private HeartRepository heartRepository;
+    private RelationService relationService;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.flushDb();
+            return null;
+        });
+        heartRepository = mock(HeartRepository.class);
+        relationService = newRelationService();
+    }
+
+    private RelationService newRelationService() {
+        return new RelationService(heartRepository, mock(ScrapRepository.class), mock(FollowRepository.class),
+                                   redisTemplate, listenerContainer);
+    }
+
+    @Test
+    @DisplayName("인덱스 캐시 테스트: 한 번 읽은 인덱스는 Redis에 저장")
+    void indexOfTest() {
+        // given
+        given(heartRepository.findReviewIdsByUserId(1L)).willReturn(List.of(3L, 1L, 2L));
+
+        // when
+        RelationIndex index = relationService.indexOf(1L, RelationType.HEART);
+
+        // then
+        assertThat(index.toList()).containsExactly(1L, 2L, 3L);
+        String cached = redisTemplate.opsForValue().get(RelationType.HEART.keyOf(1L));
+        assertThat(cached).isNotNull();
+        assertThat(RelationIndex.decode(cached).toList()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("인덱스 캐시 테스트: 읽는 도중 무효화되면 오래된 인덱스를 저장하지 않음")
+    void indexOfTest_InvalidatedWhileLoading() {
+        // given
+        given(heartRepository.findReviewIdsByUserId(1L)).willAnswer(invocation -> {
+            relationService.invalidate(1L, RelationType.HEART);
+            return List.of(1L);
+        }).willReturn(List.of(1L, 2L));
+
+        // when
+        RelationIndex stale = relationService.indexOf(1L, RelationType.HEART);
+        RelationIndex fresh = relationService.indexOf(1L, RelationType.HEART);
+
+        // then
+        assertThat(stale.toList()).containsExactly(1L);
+        assertThat(fresh.toList()).containsExactly(1L, 2L);
+        verify(heartRepository, times(2)).findReviewIdsByUserId(1L);
+        assertThat(RelationIndex.decode(redisTemplate.opsForValue().get(RelationType.HEART.keyOf(1L))).toList())
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("인덱스 캐시 테스트: 복제본에서 읽은 인덱스는 Redis에 저장하지 않음")
+    void indexOfTest_ReadFromReplica() {
+        // given
+        Replica replica = mock(Replica.class);
+        given(replica.getName()).willReturn("replica-0");
+        given(replica.getDataSource()).willReturn(mock(DataSource.class));
+        given(replica.isAvailable(anyLong(), anyLong())).willReturn(true);
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                mock(DataSource.class), List.of(replica), mock(ReadYourWritesTracker.class), new SimpleMeterRegistry(), 1, 1000);
+        routingDataSource.afterPropertiesSet();
+        given(heartRepository.findReviewIdsByUserId(1L)).willAnswer(invocation -> {
+            routingDataSource.getConnection();
+            return List.of(1L);
+        });
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        RelationIndex index;
+        try {
+            index = relationService.indexOf(1L, RelationType.HEART);
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(STATUS_COMMITTED));
+            TransactionSynchronizationManager.clear();
+            routingDataSource.close();
+        }
+
+        // then
+        assertThat(index.toList()).containsExactly(1L);
+        assertThat(redisTemplate.hasKey(RelationType.HEART.keyOf(1L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("인덱스 캐시 테스트: 다른 인스턴스의 무효화가 near cache에 전파")
+    void invalidateTest_OtherInstance() throws InterruptedException {
+        // given
+        given(heartRepository.findReviewIdsByUserId(1L)).willReturn(List.of(1L)).willReturn(List.of(1L, 2L));
+        relationService.indexOf(1L, RelationType.HEART);
+        RelationService otherInstance = newRelationService();
+
+        // when
+        otherInstance.invalidate(1L, RelationType.HEART);
+
+        // then
+        RelationIndex index = relationService.indexOf(1L, RelationType.HEART);
+        for (int i = 0; i < 50 && index.size() == 1; i++) {
+            Thread.sleep(20);
+            index = relationService.indexOf(1L, RelationType.HEART);
+        }
+        assertThat(index.toList()).containsExactly(1L, 2L);
+    }
+}
@@ -3,6 +3,7 @@ package com.matzip.server.domain.review.api;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.matzip.server.domain.review.service.ReviewService;
+import com.matzip.server.global.common.model.Validator;
 import com.matzip.server.global.utils.ControllerParameters.Common;
 import com.matzip.server.global.utils.ControllerParameters.PatchReview;
 import com.matzip.server.global.utils.ControllerParameters.PostReview;
@@ -14,12 +15,14 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,8 +34,13 @@ import static com.matzip.server.global.common.exception.ErrorType.BadRequest.INV
 import static com.matzip.server.global.common.exception.ErrorType.BadRequest.INVALID_REQUEST_BODY;
 import static com.matzip.server.global.utils.TestParameterUtils.makeFieldList;
 import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -92,6 +100,7 @@ class ReviewControllerTest {
     @Test
     @DisplayName("리뷰 조회 파라미터 검증")
     void fetchReviewValidation() throws Exception {
+        given(reviewService.fetchReviewValidator(any(), any())).willReturn(Validator.of(null, "review"));
         List<Pair<Object, Integer>> ids = Stream.of(
                 Stream.of(Common.validIds).map(u -> new Pair<Object, Integer>(u, null)),
                 Stream.of(Common.invalidIds).map(u -> new Pair<Object, Integer>(u, INVALID_PARAMETER.getCode()))
@@ -109,6 +118,20 @@ class ReviewControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("리뷰 조회 조건부 요청: ETag가 일치하면 본문 없이 304")
+    void fetchReviewNotModified() throws Exception {
+        Validator validator = Validator.of(LocalDateTime.of(2023, 1, 1, 0, 0), "review");
+        given(reviewService.fetchReviewValidator(any(), any())).willReturn(validator);
+
+        mockMvc.perform(get("/api/v1/reviews/{id}", 1).header(HttpHeaders.IF_NONE_MATCH, validator.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, validator.etag()));
+        mockMvc.perform(get("/api/v1/reviews/{id}", 1).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+        verify(reviewService, times(1)).fetchReview(any(), any());
+    }
+
     @Test
     @DisplayName("리뷰 수정 파라미터 검증")
     void patchReviewValidation() throws Exception {
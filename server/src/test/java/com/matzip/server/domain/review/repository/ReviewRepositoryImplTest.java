@@ -3,6 +3,8 @@ package com.matzip.server.domain.review.repository;
 import com.matzip.server.domain.review.model.Review;
 import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.exception.InvalidCursorException;
 import com.matzip.server.global.config.TestQueryDslConfig;
 import com.matzip.server.global.utils.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,12 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import static com.matzip.server.domain.review.model.ReviewProperty.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Import(TestQueryDslConfig.class)
@@ -28,6 +32,8 @@ class ReviewRepositoryImplTest {
     private UserRepository userRepository;
     @Autowired
     private ReviewRepository reviewRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
 
     @BeforeEach
     public void setUp() {
@@ -194,4 +200,64 @@ class ReviewRepositoryImplTest {
         assertThat(reviews.getContent()).extracting("content")
                 .containsExactly("review-01", "review-02", "review-03", "review-06", "review-04", "review-05");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카운터 복구 테스트")
+    void synchronizeDriftedCountersTest() {
+        // given
+        Review review = reviewRepository.searchReviewsByKeyword(new ReviewSearch("review-01", 0, 1, null, false))
+                .getContent().get(0);
+        int numberOfHearts = review.getNumberOfHearts();
+        int numberOfComments = review.getNumberOfComments();
+        testEntityManager.flush();
+        testEntityManager.getEntityManager()
+                .createQuery("UPDATE Review r SET r.numberOfHearts = :hearts, r.numberOfComments = NULL WHERE r.id = :id")
+                .setParameter("hearts", numberOfHearts + 10)
+                .setParameter("id", review.getId())
+                .executeUpdate();
+
+        // when
+        int repaired = reviewRepository.synchronizeDriftedCountersBetween(1L, reviewRepository.findMaxId());
+        testEntityManager.clear();
+
+        // then
+        Review repairedReview = reviewRepository.findById(review.getId()).orElseThrow();
+        assertThat(repaired).isEqualTo(1);
+        assertThat(repairedReview.getNumberOfHearts()).isEqualTo(numberOfHearts);
+        assertThat(repairedReview.getNumberOfComments()).isEqualTo(numberOfComments);
+    }
+
+    @Test
+    @DisplayName("커서 페이징 테스트: 좋아요 수 기준")
+    void cursorPagingTest() {
+        // given
+        ReviewSearch first = new ReviewSearch("review", 0, 4, NUMBER_OF_HEARTS, false);
+
+        // when
+        CursorSlice<Review> firstPage = (CursorSlice<Review>) reviewRepository.searchReviewsByKeyword(first);
+        ReviewSearch second = new ReviewSearch("review", 0, 4, NUMBER_OF_HEARTS, false, firstPage.getNextCursor());
+        CursorSlice<Review> secondPage = (CursorSlice<Review>) reviewRepository.searchReviewsByKeyword(second);
+
+        // then
+        assertThat(firstPage.hasNext()).isEqualTo(true);
+        assertThat(firstPage.getContent()).extracting("content")
+                .containsExactly("review-05", "review-06", "review-01", "review-02");
+        assertThat(secondPage.hasNext()).isEqualTo(false);
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getContent()).extracting("content")
+                .containsExactly("review-04", "review-03");
+    }
+
+    @Test
+    @DisplayName("커서 페이징 테스트: 정렬 조건이 다른 커서")
+    void cursorPagingTest_SortMismatch() {
+        // given
+        ReviewSearch first = new ReviewSearch("review", 0, 4, NUMBER_OF_HEARTS, false);
+        String cursor = ((CursorSlice<Review>) reviewRepository.searchReviewsByKeyword(first)).getNextCursor();
+
+        // then
+        assertThatThrownBy(() -> reviewRepository.searchReviewsByKeyword(
+                new ReviewSearch("review", 0, 4, RATING, false, cursor)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
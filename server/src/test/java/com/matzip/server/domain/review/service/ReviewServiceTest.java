@@ -3,6 +3,9 @@ package com.matzip.server.domain.review.service;
 import com.matzip.server.domain.comment.repository.CommentRepository;
 import com.matzip.server.domain.image.service.ImageService;
 import com.matzip.server.domain.record.service.RecordService;
+import com.matzip.server.domain.record.service.ViewCountService;
+import com.matzip.server.domain.review.api.ReviewController;
+import com.matzip.server.domain.relation.service.RelationService;
 import com.matzip.server.domain.review.dto.ReviewDto.PatchRequest;
 import com.matzip.server.domain.review.dto.ReviewDto.PostRequest;
 import com.matzip.server.domain.review.dto.ReviewDto.Response;
@@ -14,7 +17,10 @@ import com.matzip.server.domain.review.repository.ReviewRepository;
 import com.matzip.server.domain.review.repository.ScrapRepository;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.model.Validator;
 import com.matzip.server.global.config.TestQueryDslConfig;
+import com.matzip.server.global.config.TestRelationConfig;
+import com.matzip.server.global.utils.QueryBudget;
 import com.matzip.server.global.utils.TestDataUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,11 +29,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -36,10 +48,15 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DataJpaTest
-@Import(TestQueryDslConfig.class)
+@Import({TestQueryDslConfig.class, TestRelationConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
 @DisplayName("ReviewService 테스트")
@@ -54,19 +71,36 @@ class ReviewServiceTest {
     private ScrapRepository scrapRepository;
     @Autowired
     private HeartRepository heartRepository;
+    @Autowired
+    private RelationService relationService;
+    @Autowired
+    private ReviewResponseAssembler reviewResponseAssembler;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private TestEntityManager testEntityManager;
     @MockBean
     private ImageService imageService;
     @MockBean
     private RecordService recordService;
 
+    private ViewCountService viewCountService;
     private ReviewService reviewService;
     private List<User> users;
 
     @PostConstruct
     void init() {
         users = TestDataUtils.testData();
+        viewCountService = new ViewCountService(stringRedisTemplate, reviewRepository, recordService,
+                                                new TransactionTemplate(transactionManager), eventPublisher);
         reviewService = new ReviewService(userRepository, reviewRepository, commentRepository,
-                                          scrapRepository, heartRepository, imageService, recordService);
+                                          scrapRepository, heartRepository, imageService, recordService,
+                                          viewCountService, relationService, reviewResponseAssembler, eventPublisher,
+                                          new TransactionTemplate(transactionManager));
 
         given(imageService.uploadImages(any(), any())).willReturn(List.of("https://" + UUID.randomUUID() + ".url"));
         given(imageService.deleteImages(any())).willReturn(List.of("https://" + UUID.randomUUID() + ".url"));
@@ -98,6 +132,23 @@ class ReviewServiceTest {
     }
 
     @Test
+    @DisplayName("리뷰 작성 테스트: 저장 실패 시 업로드한 이미지 삭제")
+    void postReviewTest_RollbackUploadedImages() {
+        // given
+        User user = users.get(0);
+        List<String> uploadedUrls = List.of("https://" + UUID.randomUUID() + ".url");
+        PostRequest request = new PostRequest("some content", null, 5, "restaurant");
+        given(imageService.uploadImages(any(), any())).willReturn(uploadedUrls);
+        willThrow(new IllegalStateException()).given(recordService).postReview(any());
+
+        // then
+        assertThatThrownBy(() -> reviewService.postReview(user.getId(), request))
+                .isInstanceOf(IllegalStateException.class);
+        verify(imageService).deleteImages(uploadedUrls);
+    }
+
+    @Test
+    @QueryBudget(endpoint = ReviewController.class, method = "fetchReview")
     @DisplayName("리뷰 조회 테스트: 정상")
     void fetchReviewTest() {
         // given
@@ -105,13 +156,65 @@ class ReviewServiceTest {
         Review review = user.getReviews().get(0);
 
         // when
+        Validator validator = reviewService.fetchReviewValidator(user.getId(), review.getId());
         Response response = reviewService.fetchReview(user.getId(), review.getId());
 
         // then
+        assertThat(validator.etag()).isNotBlank();
         assertThat(response.getId()).isEqualTo(review.getId());
         assertThat(response.getContent()).isEqualTo(review.getContent());
     }
 
+    @Test
+    @DisplayName("리뷰 조회 테스트: 같은 사용자의 조회는 한 번만 세고 모아서 반영")
+    void fetchReviewTest_WriteBehindViews() {
+        // given
+        User user = users.get(0);
+        User author = users.get(2);
+        Review review = author.getReviews().get(0);
+        long beforeViews = review.getViews();
+        clearInvocations(stringRedisTemplate.opsForValue());
+        given(stringRedisTemplate.opsForValue().setIfAbsent(any(), any(), any(Duration.class))).willReturn(true, false);
+
+        // when
+        reviewService.fetchReview(user.getId(), review.getId());
+        reviewService.fetchReview(user.getId(), review.getId());
+
+        // then
+        verify(stringRedisTemplate.opsForValue(), times(2))
+                .setIfAbsent(eq("view:" + user.getId() + ":" + review.getId()), any(), any(Duration.class));
+        assertThat(viewCountService.pendingViews(review.getId())).isEqualTo(1L);
+        assertThat(reviewRepository.findById(review.getId()).orElseThrow().getViews()).isEqualTo(beforeViews);
+
+        // when
+        viewCountService.flush();
+
+        // then
+        assertThat(viewCountService.pendingViews(review.getId())).isEqualTo(0L);
+        assertThat(reviewRepository.findById(review.getId()).orElseThrow().getViews()).isEqualTo(beforeViews + 1);
+        verify(recordService).viewReviews(any(), eq(1));
+    }
+
+    @Test
+    @DisplayName("리뷰 조회 테스트: 좋아요가 바뀌면 ETag 변경")
+    void fetchReviewValidatorTest() {
+        // given
+        User user = users.get(0);
+        Review review = users.get(2).getReviews().get(0);
+        Validator before = reviewService.fetchReviewValidator(user.getId(), review.getId());
+
+        // when
+        Validator unchanged = reviewService.fetchReviewValidator(user.getId(), review.getId());
+        reviewService.heartReview(user.getId(), review.getId());
+        Validator after = reviewService.fetchReviewValidator(user.getId(), review.getId());
+
+        // then
+        assertThat(unchanged.etag()).isEqualTo(before.etag());
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(reviewService.fetchReviewValidator(users.get(1).getId(), review.getId()).etag())
+                .isNotEqualTo(after.etag());
+    }
+
     @Test
     @DisplayName("리뷰 수정 테스트: 정상")
     void patchReviewTest() {
@@ -252,6 +355,25 @@ class ReviewServiceTest {
         assertThat(response.getViews()).isEqualTo(beforeView);
     }
 
+    @Test
+    @DisplayName("리뷰 좋아요 테스트: 엔티티의 카운터 값은 저장하지 않고 DB에서 원자적으로 증가")
+    void heartReviewTest_AtomicCounter() {
+        // given
+        User user = users.get(0);
+        Review review = users.get(2).getReviews().get(0);
+        int beforeHeartCount = review.getNumberOfHearts();
+        review.setNumberOfHearts(beforeHeartCount + 100);
+
+        // when
+        reviewService.heartReview(user.getId(), review.getId());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        Review fetched = reviewRepository.findById(review.getId()).orElseThrow();
+        assertThat(fetched.getNumberOfHearts()).isEqualTo(beforeHeartCount + 1);
+    }
+
     @Test
     @DisplayName("리뷰 좋아요 테스트: 리뷰가 존재하지 않을 때")
     void heartReviewTest_NoReview() {
@@ -0,0 +1,49 @@
+package com.matzip.server.domain.search.benchmark;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records latencies in nanoseconds and summarizes them with nearest-rank percentiles.
+ */
+class LatencyRecorder {
+    record Summary(int count, double meanMillis, double p50Millis, double p90Millis, double p95Millis,
+                   double p99Millis, double maxMillis, double throughputPerSecond) {}
+
+    private long[] nanos = new long[1024];
+    private int count;
+
+    void record(long elapsedNanos) {
+        if (count == nanos.length) nanos = Arrays.copyOf(nanos, count * 2);
+        nanos[count++] = elapsedNanos;
+    }
+
+    Summary summarize() {
+        if (count == 0) return new Summary(0, 0, 0, 0, 0, 0, 0, 0);
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        long total = Arrays.stream(sorted).sum();
+        return new Summary(
+                count, millis(total / (double) count),
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 90)), millis(percentile(sorted, 95)),
+                millis(percentile(sorted, 99)), millis(sorted[count - 1]),
+                count / (total / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    static Map<String, Summary> summarize(Map<String, LatencyRecorder> recorders) {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> summaries.put(name, recorder.summarize()));
+        return summaries;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 1_000) / 1_000.0;
+    }
+}
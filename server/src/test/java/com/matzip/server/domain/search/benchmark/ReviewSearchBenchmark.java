@@ -0,0 +1,243 @@
+package com.matzip.server.domain.search.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.model.ReviewProperty;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.search.benchmark.LatencyRecorder.Summary;
+import com.matzip.server.domain.search.benchmark.SearchWorkload.Query;
+import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
+import com.matzip.server.domain.search.service.LuceneReviewIndex;
+import com.matzip.server.domain.search.service.ReviewIndexService;
+import com.matzip.server.domain.search.service.ReviewSearchEngine;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent.Activity;
+import com.matzip.server.domain.trending.service.TrendingService;
+import com.matzip.server.global.common.dto.CursorSlice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads a {@link SyntheticReviewCorpus} of {@code matzip.benchmark.reviews} reviews and runs the
+ * {@link SearchWorkload} against each engine in {@code matzip.benchmark.engines}: {@code LIKE} through the
+ * repository, the others through {@link ReviewSearchEngine} including hydration. Each engine runs
+ * {@code matzip.benchmark.warmup-rounds} unmeasured rounds, then {@code matzip.benchmark.rounds} measured ones, and
+ * writes {@code <engine>.json} with latency percentiles overall, per page and per sort to
+ * {@code matzip.benchmark.report-dir}. Before measuring, the generated views and hearts are replayed through
+ * {@link TrendingService} at seeded times within {@code matzip.benchmark.trending-hours}, so the {@code trending}
+ * sort reads a populated ranking. {@code LIKE} cannot rank by trending or relevance; those sorts are left out of its
+ * run and listed under {@code skippedSorts}. An engine whose index cannot be built is reported as skipped.
+ * <p>
+ * Run with {@code ./gradlew searchBenchmark -Dmatzip.benchmark.reviews=1000000} after starting MySQL, Redis and
+ * {@code docker-compose -f src/test/resources/elastic/elk.yaml up -d}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:mysql://localhost:3306/matzip_test_db?rewriteBatchedStatements=true",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=false",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.org.springframework.transaction=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.hibernate.sql=WARN",
+        "logging.level.org.hibernate.stat=WARN",
+        "matzip.search.engine=LUCENE",
+        "matzip.search.lucene.path=build/search-benchmark/lucene"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("리뷰 검색 벤치마크")
+class ReviewSearchBenchmark {
+    enum Engine {
+        LIKE, FULLTEXT, ELASTICSEARCH, LUCENE
+    }
+
+    record Report(String engine, String status, String startedAt, Map<String, Object> corpus,
+                  Map<String, Object> settings, long indexMillis, boolean fellBackToFullText,
+                  List<String> skippedSorts, Map<String, Summary> latencies) {}
+
+    private static final Set<ReviewProperty> UNSUPPORTED_BY_LIKE = EnumSet.of(ReviewProperty.TRENDING, ReviewProperty.RELEVANCE);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private ReviewSearchEngine reviewSearchEngine;
+    @Autowired
+    private ReviewIndexService reviewIndexService;
+    @Autowired
+    private LuceneReviewIndex luceneReviewIndex;
+    @Autowired
+    private TrendingService trendingService;
+
+    @Value("${matzip.benchmark.reviews:100000}")
+    private int reviews;
+    @Value("${matzip.benchmark.seed:42}")
+    private long seed;
+    @Value("${matzip.benchmark.warmup-rounds:1}")
+    private int warmupRounds;
+    @Value("${matzip.benchmark.rounds:5}")
+    private int rounds;
+    @Value("${matzip.benchmark.page-size:20}")
+    private int pageSize;
+    @Value("${matzip.benchmark.engines:LIKE,FULLTEXT,ELASTICSEARCH,LUCENE}")
+    private List<Engine> engines;
+    @Value("${matzip.benchmark.trending-hours:72}")
+    private long trendingHours;
+    @Value("${matzip.benchmark.report-dir:build/reports/search-benchmark}")
+    private File reportDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("리뷰 검색 벤치마크: 엔진별 지연 시간 백분위 보고서 작성")
+    void searchBenchmark() throws IOException {
+        // given
+        SyntheticReviewCorpus corpus = new SyntheticReviewCorpus(jdbcTemplate, seed, reviews);
+        long start = System.nanoTime();
+        long rows = corpus.load();
+        System.out.printf("Loaded %d rows (%d users, %d reviews) in %ds%n",
+                          rows, corpus.getNumberOfUsers(), corpus.getNumberOfReviews(),
+                          (System.nanoTime() - start) / 1_000_000_000);
+
+        start = System.nanoTime();
+        long activities = seedTrending(corpus);
+        System.out.printf("Recorded %d trending activities in %ds%n", activities, (System.nanoTime() - start) / 1_000_000_000);
+
+        SearchWorkload workload = new SearchWorkload(corpus.keywords(), seed);
+        Map<String, Object> corpusInfo = new LinkedHashMap<>();
+        corpusInfo.put("seed", seed);
+        corpusInfo.put("generatedReviews", corpus.getNumberOfReviews());
+        corpusInfo.put("generatedUsers", corpus.getNumberOfUsers());
+        corpusInfo.put("totalReviews", reviewRepository.count());
+        corpusInfo.put("trendingActivities", activities);
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("warmupRounds", warmupRounds);
+        settings.put("rounds", rounds);
+        settings.put("pageSize", pageSize);
+        settings.put("queriesPerRound", workload.queries().size());
+
+        // when
+        List<File> written = new ArrayList<>();
+        for (Engine engine : engines) {
+            Report report = run(engine, workload, corpusInfo, settings);
+            File file = new File(reportDir, engine.name().toLowerCase(Locale.ROOT) + ".json");
+            reportDir.mkdirs();
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+            written.add(file);
+
+            Summary all = report.latencies().get("all");
+            System.out.printf("%-13s %-8s p50 %8.3fms  p95 %8.3fms  p99 %8.3fms  %8.1f/s  -> %s%n",
+                              engine, report.status(),
+                              all == null ? 0 : all.p50Millis(), all == null ? 0 : all.p95Millis(),
+                              all == null ? 0 : all.p99Millis(), all == null ? 0 : all.throughputPerSecond(), file);
+        }
+
+        // then
+        assertThat(written).hasSize(engines.size()).allMatch(File::isFile);
+    }
+
+    /**
+     * Records each generated review's views and hearts as activities that happened at a seeded time within the last
+     * {@code matzip.benchmark.trending-hours}, then rebases so the ranking is trimmed to its capacity as in production.
+     */
+    private long seedTrending(SyntheticReviewCorpus corpus) {
+        Random random = new Random(seed);
+        long now = System.currentTimeMillis();
+        long window = Duration.ofHours(trendingHours).toMillis();
+        long[] activities = {0};
+        jdbcTemplate.query("SELECT id, views, number_of_hearts FROM review WHERE id >= ?", rs -> {
+            long reviewId = rs.getLong("id");
+            long views = rs.getLong("views");
+            long hearts = rs.getLong("number_of_hearts");
+            long occurredAt = now - (long) (random.nextDouble() * window);
+            if (views > 0) {
+                trendingService.record(new ReviewActivityEvent(reviewId, Activity.VIEW, views, occurredAt));
+                activities[0]++;
+            }
+            if (hearts > 0) {
+                trendingService.record(new ReviewActivityEvent(reviewId, Activity.HEART, hearts, occurredAt));
+                activities[0]++;
+            }
+        }, corpus.getFirstReviewId());
+        trendingService.rebase();
+        return activities[0];
+    }
+
+    private Report run(Engine engine, SearchWorkload workload, Map<String, Object> corpus, Map<String, Object> settings) {
+        String startedAt = LocalDateTime.now().toString();
+        long start = System.nanoTime();
+        try {
+            switch (engine) {
+                case ELASTICSEARCH -> reviewIndexService.reindexAll();
+                case LUCENE -> luceneReviewIndex.rebuild();
+                default -> {}
+            }
+        } catch (RuntimeException e) {
+            return new Report(engine.name(), "skipped: " + e.getMessage(), startedAt, corpus, settings, 0, false,
+                              List.of(), Map.of());
+        }
+        long indexMillis = (System.nanoTime() - start) / 1_000_000;
+
+        if (engine != Engine.LIKE) {
+            ReflectionTestUtils.setField(reviewSearchEngine, "engine", ReviewSearchEngine.Engine.valueOf(engine.name()));
+            ReflectionTestUtils.setField(reviewSearchEngine, "unavailableUntil", 0L);
+        }
+
+        for (int round = 0; round < warmupRounds; round++) runRound(engine, workload, null);
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        for (int round = 0; round < rounds; round++) runRound(engine, workload, recorders);
+
+        boolean fellBack = engine != Engine.LIKE &&
+                           (long) Objects.requireNonNull(ReflectionTestUtils.getField(reviewSearchEngine, "unavailableUntil")) > 0;
+        List<String> skippedSorts = engine == Engine.LIKE ? UNSUPPORTED_BY_LIKE.stream().map(Enum::name).toList() : List.of();
+        return new Report(engine.name(), "ok", startedAt, corpus, settings, indexMillis, fellBack, skippedSorts,
+                          LatencyRecorder.summarize(recorders));
+    }
+
+    /**
+     * Runs every query the engine supports for its first page and the page after it. Latencies are only recorded
+     * when recorders are given.
+     */
+    private void runRound(Engine engine, SearchWorkload workload, Map<String, LatencyRecorder> recorders) {
+        for (Query query : workload.queries()) {
+            if (engine == Engine.LIKE && UNSUPPORTED_BY_LIKE.contains(query.sort())) continue;
+            Slice<Review> firstPage = measure(engine, query.firstPage(pageSize), query, "first_page", recorders);
+            if (firstPage instanceof CursorSlice<Review> slice && slice.hasNext() && slice.getNextCursor() != null)
+                measure(engine, query.nextPage(pageSize, slice.getNextCursor()), query, "next_page", recorders);
+        }
+    }
+
+    private Slice<Review> measure(
+            Engine engine, ReviewSearch request, Query query, String page, Map<String, LatencyRecorder> recorders) {
+        long start = System.nanoTime();
+        Slice<Review> result = engine == Engine.LIKE ?
+                               reviewRepository.searchReviewsByKeyword(request) :
+                               reviewSearchEngine.search(request);
+        long elapsed = System.nanoTime() - start;
+
+        if (recorders != null) {
+            for (String name : List.of("all", page, "sort:" + query.sortName())) {
+                recorders.computeIfAbsent(name, n -> new LatencyRecorder()).record(elapsed);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.matzip.server.domain.search.benchmark;
+
+import com.matzip.server.domain.review.model.ReviewProperty;
+import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Every keyword combined with the default order and every {@link ReviewProperty}, ascending and descending where the
+ * direction matters, in a seeded shuffled order. Each query is run for its first page and, when there is one, for the
+ * page after it.
+ */
+class SearchWorkload {
+    record Query(String keyword, ReviewProperty sort, boolean asc) {
+        ReviewSearch firstPage(int size) {
+            return new ReviewSearch(keyword, 0, size, sort, asc);
+        }
+
+        ReviewSearch nextPage(int size, String cursor) {
+            return new ReviewSearch(keyword, 0, size, sort, asc, cursor);
+        }
+
+        String sortName() {
+            return sort == null ? "DEFAULT" : sort.name();
+        }
+    }
+
+    private final List<Query> queries = new ArrayList<>();
+
+    SearchWorkload(List<String> keywords, long seed) {
+        List<ReviewProperty> sorts = new ArrayList<>();
+        sorts.add(null);
+        sorts.addAll(List.of(ReviewProperty.values()));
+
+        for (String keyword : keywords) {
+            for (ReviewProperty sort : sorts) {
+                queries.add(new Query(keyword, sort, false));
+                if (sort != ReviewProperty.TRENDING && sort != ReviewProperty.RELEVANCE)
+                    queries.add(new Query(keyword, sort, true));
+            }
+        }
+        Collections.shuffle(queries, new Random(seed));
+    }
+
+    List<Query> queries() {
+        return queries;
+    }
+}
@@ -0,0 +1,185 @@
+package com.matzip.server.domain.search.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Seeded generator of Korean restaurant reviews, their authors and follows, bulk loaded with JDBC batches so that it
+ * scales to millions of rows. Words are drawn from a Zipf distribution, so a few keywords match a large share of the
+ * corpus and most match little, like real review text. Engagement counters are written to the denormalized review
+ * columns directly; no comment, heart or scrap rows are generated.
+ */
+class SyntheticReviewCorpus {
+    static final String[] PLACES = {
+            "강남", "홍대", "성수", "연남동", "을지로", "이태원", "잠실", "합정", "망원", "종로", "신촌", "여의도", "판교", "해운대", "서면"
+    };
+    static final String[] DISHES = {
+            "김치찌개", "된장찌개", "국밥", "냉면", "삼겹살", "갈비", "파스타", "피자", "초밥", "라멘", "떡볶이", "칼국수", "짜장면",
+            "치킨", "햄버거", "쌀국수", "마라탕", "곱창", "족발", "보쌈", "비빔밥", "순대국", "돈까스", "우동", "스테이크", "타코"
+    };
+    static final String[] ADJECTIVES = {
+            "맛있는", "친절한", "깔끔한", "푸짐한", "조용한", "분위기 좋은", "가성비 좋은", "비싼", "짭짤한", "매콤한", "담백한",
+            "고소한", "느끼한", "달달한", "싱거운", "유명한", "오래된", "새로 생긴", "붐비는", "아늑한"
+    };
+    static final String[] PHRASES = {
+            "맛있어요", "또 올게요", "재방문 의사 있어요", "웨이팅이 길어요", "주차가 불편해요", "양이 많아요", "사장님이 친절해요",
+            "추천합니다", "별로였어요", "기대 이하였어요", "인생 맛집입니다", "데이트하기 좋아요", "혼밥하기 좋아요",
+            "회식 장소로 좋아요", "가격이 착해요", "서비스가 좋아요", "국물이 진해요", "면이 쫄깃해요", "고기가 부드러워요"
+    };
+
+    private static final int BATCH_SIZE = 5000;
+
+    private final Random random;
+    private final JdbcTemplate jdbcTemplate;
+    private final int numberOfUsers;
+    private final int numberOfReviews;
+    private final int followsPerUser;
+    private long firstReviewId;
+
+    SyntheticReviewCorpus(JdbcTemplate jdbcTemplate, long seed, int numberOfReviews) {
+        this.random = new Random(seed);
+        this.jdbcTemplate = jdbcTemplate;
+        this.numberOfReviews = numberOfReviews;
+        this.numberOfUsers = Math.max(10, numberOfReviews / 10);
+        this.followsPerUser = Math.min(20, numberOfUsers - 1);
+    }
+
+    int getNumberOfUsers() {
+        return numberOfUsers;
+    }
+
+    int getNumberOfReviews() {
+        return numberOfReviews;
+    }
+
+    long getFirstReviewId() {
+        return firstReviewId;
+    }
+
+    /**
+     * Appends the corpus after the rows already in the database and returns the number of rows written.
+     */
+    long load() {
+        long firstUserId = nextIdOf("user");
+        firstReviewId = nextIdOf("review");
+        long followId = nextIdOf("follow");
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        Batch users = new Batch("""
+                INSERT INTO user (id, created_at, modified_at, username, password,
+                                  user_image, profile_string, matzip_level, matzip_point)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""");
+        for (int i = 0; i < numberOfUsers; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 365 * 3)));
+            users.add(firstUserId + i, createdAt, createdAt, "bench-%d-%08d".formatted(firstUserId, i), "password",
+                      null, pick(ADJECTIVES) + " " + pick(DISHES) + " 좋아해요", zipf(40) + 1, random.nextInt(10000));
+        }
+        long rows = users.finish();
+
+        Batch follows = new Batch("""
+                INSERT INTO follow (id, created_at, modified_at, follower_id, followee_id)
+                VALUES (?, ?, ?, ?, ?)""");
+        for (int i = 0; i < numberOfUsers; i++) {
+            Set<Integer> followees = new HashSet<>();
+            int numberOfFollowees = random.nextInt(followsPerUser + 1);
+            while (followees.size() < numberOfFollowees) {
+                int followee = zipf(numberOfUsers);
+                if (followee != i) followees.add(followee);
+            }
+            for (int followee : followees) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 365)));
+                follows.add(followId++, createdAt, createdAt, firstUserId + i, firstUserId + followee);
+            }
+        }
+        rows += follows.finish();
+
+        Batch reviews = new Batch("""
+                INSERT INTO review (id, created_at, modified_at, user_id, content, rating, restaurant, views,
+                                    number_of_hearts, number_of_scraps, number_of_comments, engagement_version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""");
+        for (int i = 0; i < numberOfReviews; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds((long) (numberOfReviews - i) * 30));
+            reviews.add(firstReviewId + i, createdAt, createdAt, firstUserId + zipf(numberOfUsers), content(),
+                        random.nextInt(6), pick(PLACES) + " " + pick(DISHES) + "집", (long) zipf(5000),
+                        zipf(200), zipf(50), zipf(100), 0L);
+        }
+
+        return rows + reviews.finish();
+    }
+
+    /**
+     * Keywords for the workload: frequent and rare dishes, places, adjectives and phrase fragments.
+     */
+    List<String> keywords() {
+        List<String> keywords = new ArrayList<>();
+        keywords.add("맛있");
+        keywords.addAll(List.of(DISHES).subList(0, 3));
+        keywords.addAll(List.of(DISHES).subList(DISHES.length - 3, DISHES.length));
+        keywords.addAll(List.of(PLACES).subList(0, 2));
+        keywords.add(PLACES[PLACES.length - 1]);
+        keywords.addAll(List.of("친절", "웨이팅", "가성비", "재방문", "인생 맛집"));
+        return keywords;
+    }
+
+    private String content() {
+        StringBuilder content = new StringBuilder()
+                .append(pick(PLACES)).append("에 있는 ").append(pick(ADJECTIVES)).append(' ').append(pick(DISHES))
+                .append("집입니다. ");
+        int sentences = 1 + random.nextInt(4);
+        for (int i = 0; i < sentences; i++) {
+            String sentence = pick(ADJECTIVES) + " " + pick(DISHES) + ", " + pick(PHRASES) + ". ";
+            if (content.length() + sentence.length() > 250) break;
+            content.append(sentence);
+        }
+        return content.toString().trim();
+    }
+
+    private String pick(String[] words) {
+        return words[zipf(words.length)];
+    }
+
+    /**
+     * Approximately Zipf-distributed index in {@code [0, n)} with exponent 1, by inverting {@code H(k) ~ ln k + γ}.
+     */
+    private int zipf(int n) {
+        double harmonic = Math.log(n) + 0.5772156649;
+        double target = random.nextDouble() * harmonic;
+        int index = (int) Math.min(n - 1, Math.floor(Math.exp(target - 0.5772156649)));
+        return Math.max(0, index);
+    }
+
+    private long nextIdOf(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    private final class Batch {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        private long written;
+
+        Batch(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) flush();
+        }
+
+        long finish() {
+            flush();
+            return written;
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) return;
+            jdbcTemplate.batchUpdate(sql, rows);
+            written += rows.size();
+            rows.clear();
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.matzip.server.domain.search.repository;
 import com.matzip.server.domain.review.model.Review;
 import com.matzip.server.domain.review.repository.ReviewRepository;
 import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
-import com.matzip.server.domain.search.model.ReviewDocument;
+import com.matzip.server.domain.search.service.ReviewIndexService;
 import com.matzip.server.domain.user.repository.UserRepository;
 import com.matzip.server.global.utils.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,16 +29,15 @@ class ReviewSearchPerformanceTest {
     @Autowired
     private ReviewRepository reviewRepository;
     @Autowired
-    private ReviewSearchRepository reviewSearchRepository;
-    @Autowired
     private ReviewSearchQueryRepository reviewSearchQueryRepository;
+    @Autowired
+    private ReviewIndexService reviewIndexService;
 
     @BeforeEach
     public void setUp() {
         userRepository.saveAllAndFlush(TestDataUtils.searchTestData());
         reviewRepository.flush();
-        reviewSearchRepository.deleteAll();
-        reviewRepository.findAll().forEach(review -> reviewSearchRepository.save(new ReviewDocument(review)));
+        reviewIndexService.reindexAll();
     }
 
     /** <h1>결과</h1>
@@ -80,7 +79,7 @@ class ReviewSearchPerformanceTest {
         // Elasticsearch
         System.out.println("========= ELASTICSEARCH =========");
         start = System.currentTimeMillis();
-        List<ReviewDocument> byContent = reviewSearchQueryRepository.findByContent(request);
+        List<Long> byContent = reviewSearchQueryRepository.searchReviewIds(request).getContent();
         end = System.currentTimeMillis();
         long elasticsearchTime = end - start;
         int elasticsearchRow = byContent.size();
@@ -91,7 +90,7 @@ class ReviewSearchPerformanceTest {
         System.out.println("========= FULL TEXT SYNTAX RESULT =========");
         fullTextReviews.getContent().forEach(r -> System.out.println(r.getContent()));
         System.out.println("========= ELASTICSEARCH RESULT =========");
-        byContent.forEach(r -> System.out.println(r.getContent()));
+        reviewRepository.findAllById(byContent).forEach(r -> System.out.println(r.getContent()));
 
         System.out.printf("TESTED WITH %d USERS, %d REVIEWS%n", userRepository.count(), reviewRepository.count());
         System.out.printf(
@@ -0,0 +1,236 @@
+package com.matzip.server.domain.search.service;
+
+import com.matzip.server.domain.review.dto.ReviewDto.PostRequest;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.search.model.ReviewDocument;
+import com.matzip.server.domain.search.model.ReviewIndexEvent;
+import com.matzip.server.domain.search.model.ReviewIndexOutbox;
+import com.matzip.server.domain.search.repository.ReviewIndexOutboxRepository;
+import com.matzip.server.domain.search.repository.ReviewSearchRepository;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.domain.user.repository.FollowRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("ReviewIndexService 테스트")
+class ReviewIndexServiceTest {
+    private ReviewRepository reviewRepository;
+    private FollowRepository followRepository;
+    private ReviewSearchRepository reviewSearchRepository;
+    private ReviewIndexOutboxRepository reviewIndexOutboxRepository;
+    private ReviewSearchEngine reviewSearchEngine;
+    private ElasticsearchOperations operations;
+    private ReviewIndexService reviewIndexService;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        followRepository = mock(FollowRepository.class);
+        reviewSearchRepository = mock(ReviewSearchRepository.class);
+        reviewIndexOutboxRepository = mock(ReviewIndexOutboxRepository.class);
+        reviewSearchEngine = mock(ReviewSearchEngine.class);
+        operations = mock(ElasticsearchOperations.class);
+        reviewIndexService = new ReviewIndexService(reviewRepository, new ReviewDocumentAssembler(followRepository),
+                                                    reviewSearchRepository, reviewIndexOutboxRepository, operations,
+                                                    reviewSearchEngine, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(reviewIndexService, "batchSize", 500);
+        ReflectionTestUtils.setField(reviewIndexService, "maxBackoffSeconds", 300L);
+        ReflectionTestUtils.setField(reviewIndexService, "chunkSize", 1000L);
+        given(reviewSearchEngine.getEngine()).willReturn(ReviewSearchEngine.Engine.ELASTICSEARCH);
+    }
+
+    private static Review review(Long id) {
+        User user = new User("user-01", "password");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Review review = new Review(user, new PostRequest("content", List.of(), 3, "restaurant"));
+        ReflectionTestUtils.setField(review, "id", id);
+        return review;
+    }
+
+    private static ReviewIndexOutbox outbox(Long id, Long reviewId) {
+        ReviewIndexOutbox outbox = new ReviewIndexOutbox(reviewId);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+    @Test
+    @DisplayName("아웃박스 기록 테스트: 이벤트마다 아웃박스 행 저장")
+    void enqueueTest() {
+        // when
+        reviewIndexService.enqueue(ReviewIndexEvent.saved(1L));
+
+        // then
+        ArgumentCaptor<ReviewIndexOutbox> captor = ArgumentCaptor.forClass(ReviewIndexOutbox.class);
+        verify(reviewIndexOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getReviewId()).isEqualTo(1L);
+        assertThat(captor.getValue().getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("아웃박스 기록 테스트: Elasticsearch를 쓰지 않으면 기록하지 않음")
+    void enqueueTest_Disabled() {
+        // given
+        given(reviewSearchEngine.getEngine()).willReturn(ReviewSearchEngine.Engine.FULLTEXT);
+
+        // when
+        reviewIndexService.enqueue(ReviewIndexEvent.saved(1L));
+        reviewIndexService.relay();
+
+        // then
+        verifyNoInteractions(reviewIndexOutboxRepository, reviewSearchRepository);
+    }
+
+    @Test
+    @DisplayName("아웃박스 전달 테스트: 남아있는 리뷰는 색인하고 삭제된 리뷰는 색인에서 제거")
+    @SuppressWarnings("unchecked")
+    void relayTest() {
+        // given
+        List<ReviewIndexOutbox> batch = List.of(outbox(1L, 10L), outbox(2L, 11L), outbox(3L, 10L));
+        given(reviewIndexOutboxRepository.findReadyForUpdate(any(), any())).willReturn(batch);
+        given(reviewRepository.findAllByIdInFetchJoinUser(anyCollection())).willReturn(List.of(review(10L)));
+
+        // when
+        reviewIndexService.relay();
+
+        // then
+        ArgumentCaptor<Iterable<ReviewDocument>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(reviewSearchRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(ReviewDocument::getId).containsExactly(10L);
+        verify(reviewSearchRepository).deleteAllById(Set.of(11L));
+        verify(reviewIndexOutboxRepository).deleteAllInBatch(batch);
+    }
+
+    @Test
+    @DisplayName("아웃박스 전달 테스트: 색인에 실패하면 행을 남기고 지수적으로 재시도를 미룸")
+    void relayTest_Failure() {
+        // given
+        List<ReviewIndexOutbox> batch = List.of(outbox(1L, 10L));
+        given(reviewIndexOutboxRepository.findReadyForUpdate(any(), any())).willReturn(batch);
+        given(reviewRepository.findAllByIdInFetchJoinUser(anyCollection())).willReturn(List.of(review(10L)));
+        willThrow(new DataAccessResourceFailureException("cluster unavailable"))
+                .given(reviewSearchRepository).saveAll(any());
+
+        // when
+        reviewIndexService.relay();
+        LocalDateTime firstRetry = batch.get(0).getNextAttemptAt();
+        reviewIndexService.relay();
+
+        // then
+        verify(reviewIndexOutboxRepository, never()).deleteAllInBatch(any());
+        assertThat(batch.get(0).getAttempts()).isEqualTo(2);
+        assertThat(firstRetry).isAfter(LocalDateTime.now());
+        assertThat(batch.get(0).getNextAttemptAt()).isAfter(firstRetry);
+    }
+
+    @Test
+    @DisplayName("아웃박스 전달 테스트: 전달할 행이 없으면 아무것도 하지 않음")
+    void relayTest_Empty() {
+        // given
+        given(reviewIndexOutboxRepository.findReadyForUpdate(any(), any())).willReturn(List.of());
+
+        // when
+        reviewIndexService.relay();
+
+        // then
+        verifyNoInteractions(reviewRepository, reviewSearchRepository);
+    }
+
+    @Test
+    @DisplayName("전체 재색인 테스트: 새 버전 색인을 채운 뒤 별칭을 옮기고 이전 색인을 제거")
+    @SuppressWarnings("unchecked")
+    void reindexAllTest() {
+        // given
+        IndexOperations newIndexOperations = mock(IndexOperations.class);
+        IndexOperations aliasOperations = mock(IndexOperations.class);
+        given(operations.indexOps(any(IndexCoordinates.class))).willAnswer(invocation -> {
+            IndexCoordinates index = invocation.getArgument(0);
+            return index.getIndexName().equals("review") ? aliasOperations : newIndexOperations;
+        });
+        given(aliasOperations.getAliases("review")).willReturn(Map.of("review-1", Set.of()));
+        given(reviewRepository.findMaxId()).willReturn(2L);
+        given(reviewRepository.findAllByIdBetweenFetchJoinUser(1L, 1000L)).willReturn(List.of(review(1L), review(2L)));
+
+        // when
+        long indexed = reviewIndexService.reindexAll();
+
+        // then
+        assertThat(indexed).isEqualTo(2);
+        ArgumentCaptor<Iterable<ReviewDocument>> saved = ArgumentCaptor.forClass(Iterable.class);
+        ArgumentCaptor<IndexCoordinates> index = ArgumentCaptor.forClass(IndexCoordinates.class);
+        verify(operations).save(saved.capture(), index.capture());
+        assertThat(saved.getValue()).extracting(ReviewDocument::getId).containsExactly(1L, 2L);
+        assertThat(index.getValue().getIndexName()).startsWith("review-").isNotEqualTo("review-1");
+        verify(reviewSearchRepository, never()).saveAll(any());
+
+        ArgumentCaptor<AliasActions> actions = ArgumentCaptor.forClass(AliasActions.class);
+        verify(aliasOperations).alias(actions.capture());
+        assertThat(actions.getValue().getActions()).hasSize(2);
+        assertThat(actions.getValue().getActions().get(0)).isInstanceOf(AliasAction.Add.class);
+        assertThat(actions.getValue().getActions().get(0).getParameters().getIndices())
+                .containsExactly(index.getValue().getIndexName());
+        assertThat(actions.getValue().getActions().get(1)).isInstanceOf(AliasAction.RemoveIndex.class);
+        assertThat(actions.getValue().getActions().get(1).getParameters().getIndices()).containsExactly("review-1");
+        verify(newIndexOperations, never()).delete();
+    }
+
+    @Test
+    @DisplayName("전체 재색인 테스트: 실패하면 새 색인을 지우고 별칭은 그대로 둠")
+    void reindexAllTest_Failure() {
+        // given
+        IndexOperations newIndexOperations = mock(IndexOperations.class);
+        given(operations.indexOps(any(IndexCoordinates.class))).willReturn(newIndexOperations);
+        given(reviewRepository.findMaxId()).willReturn(2L);
+        given(reviewRepository.findAllByIdBetweenFetchJoinUser(1L, 1000L)).willReturn(List.of(review(1L)));
+        willThrow(new DataAccessResourceFailureException("cluster unavailable"))
+                .given(operations).save(anyIterable(), any(IndexCoordinates.class));
+
+        // when
+        assertThatThrownBy(() -> reviewIndexService.reindexAll()).isInstanceOf(DataAccessResourceFailureException.class);
+
+        // then
+        verify(newIndexOperations).delete();
+        verify(newIndexOperations, never()).alias(any());
+    }
+
+    @Test
+    @DisplayName("전체 재색인 테스트: 재색인 중에는 아웃박스를 전달하지 않음")
+    void relayTest_Reindexing() {
+        // given
+        ((AtomicBoolean) ReflectionTestUtils.getField(reviewIndexService, "reindexing")).set(true);
+
+        // when
+        reviewIndexService.relay();
+
+        // then
+        verifyNoInteractions(reviewIndexOutboxRepository, reviewSearchRepository);
+    }
+}
@@ -1,29 +1,67 @@
 package com.matzip.server.domain.search.service;
 
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.dto.ReviewDto.PostRequest;
+import com.matzip.server.domain.review.model.Review;
 import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
+import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
 import com.matzip.server.domain.search.dto.SearchDto.UserSearch;
+import com.matzip.server.domain.search.model.UsernameIndexEvent;
+import com.matzip.server.domain.search.repository.ReviewSearchQueryRepository;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent;
+import com.matzip.server.domain.trending.service.TrendingService;
 import com.matzip.server.domain.user.dto.UserDto;
 import com.matzip.server.domain.user.model.User;
+import com.matzip.server.domain.user.repository.FollowRepository;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.dto.CursorSlice;
 import com.matzip.server.global.config.TestQueryDslConfig;
+import com.matzip.server.global.config.TestRedisConfig;
+import com.matzip.server.global.config.TestRelationConfig;
 import com.matzip.server.global.utils.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 
+import static com.matzip.server.domain.review.model.ReviewProperty.RATING;
+import static com.matzip.server.domain.review.model.ReviewProperty.RELEVANCE;
+import static com.matzip.server.domain.review.model.ReviewProperty.TRENDING;
 import static com.matzip.server.domain.user.model.UserProperty.USERNAME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DataJpaTest
-@Import(TestQueryDslConfig.class)
+@Import({TestQueryDslConfig.class, TestRelationConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
 @DisplayName("SearchService 테스트")
@@ -32,17 +70,50 @@ public class SearchServiceTest {
     private UserRepository userRepository;
     @Autowired
     private ReviewRepository reviewRepository;
+    @Autowired
+    private ReviewResponseAssembler reviewResponseAssembler;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @MockBean
+    private ReviewSearchQueryRepository reviewSearchQueryRepository;
 
+    private LettuceConnectionFactory trendingConnectionFactory;
+    private TrendingService trendingService;
+    private ReviewSearchEngine reviewSearchEngine;
+    private LuceneReviewIndex luceneReviewIndex;
+    private UsernameIndex usernameIndex;
     private SearchService searchService;
 
     @PostConstruct
     void init() {
-        searchService = new SearchService(userRepository, reviewRepository);
+        luceneReviewIndex = new LuceneReviewIndex(reviewRepository, new ReviewDocumentAssembler(followRepository),
+                                                  redisTemplate, mock(RedisMessageListenerContainer.class));
+        trendingConnectionFactory = (LettuceConnectionFactory) new TestRedisConfig().redisConnectionFactory();
+        trendingConnectionFactory.afterPropertiesSet();
+        trendingService = new TrendingService(reviewRepository, new StringRedisTemplate(trendingConnectionFactory));
+        reviewSearchEngine = new ReviewSearchEngine(
+                reviewRepository, reviewSearchQueryRepository, trendingService, luceneReviewIndex);
+        usernameIndex = new UsernameIndex(
+                userRepository, redisTemplate, transactionTemplate, mock(RedisMessageListenerContainer.class));
+        searchService = new SearchService(userRepository, reviewSearchEngine, reviewResponseAssembler, usernameIndex);
+    }
+
+    @PreDestroy
+    void destroy() {
+        trendingConnectionFactory.destroy();
     }
 
     @BeforeEach
     public void setUp() {
         userRepository.saveAll(TestDataUtils.testData());
+        new StringRedisTemplate(trendingConnectionFactory).execute((RedisCallback<Object>) connection -> {
+            connection.flushDb();
+            return null;
+        });
     }
 
 
@@ -62,4 +133,168 @@ public class SearchServiceTest {
         assertThat(responses.getContent()).extracting("username")
                 .containsExactlyInAnyOrder("user-01", "user-02", "user-03", "user-04", "user-05");
     }
+
+    @Test
+    @DisplayName("회원 검색 테스트: 메모리 인덱스에서 대소문자 구분 없이 검색")
+    void searchUserTest_UsernameIndex() {
+        // given
+        User user = userRepository.findByUsername("user-01").orElseThrow();
+        User deleted = userRepository.findByUsername("user-05").orElseThrow();
+        usernameIndex.rebuild();
+        usernameIndex.publish(UsernameIndexEvent.deleted(deleted.getId()));
+
+        // when
+        Slice<UserDto.Response> responses =
+                searchService.searchUsers(user.getId(), new UserSearch("USER-0", 0, 5, USERNAME, true));
+        Slice<UserDto.Response> exact =
+                searchService.searchUsers(user.getId(), new UserSearch("r-03", 0, 5, USERNAME, true));
+        Slice<UserDto.Response> none =
+                searchService.searchUsers(user.getId(), new UserSearch("zzz", 0, 5, USERNAME, true));
+
+        // then
+        assertThat(responses.getContent()).extracting("username")
+                .containsExactly("user-01", "user-02", "user-03", "user-04");
+        assertThat(exact.getContent()).extracting("username").containsExactly("user-03");
+        assertThat(none.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원 이름 자동완성 테스트: 다른 서버의 이름 변경 반영")
+    void autocompleteUsernamesTest() {
+        // given
+        User user = userRepository.findByUsername("user-02").orElseThrow();
+        usernameIndex.rebuild();
+
+        // when
+        usernameIndex.onMessage(new DefaultMessage(UsernameIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                                                   (user.getId() + ":user-99").getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(searchService.autocompleteUsernames("USER-0", 3)).containsExactly("user-01", "user-03", "user-04");
+        assertThat(searchService.autocompleteUsernames("user-9", 3)).containsExactly("user-99");
+        assertThat(searchService.autocompleteUsernames("admin", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원 이름 자동완성 테스트: 대소문자 구분 없이 찾고 원래 이름을 그대로 돌려줌")
+    void autocompleteUsernamesTest_OriginalCase() {
+        // given
+        User user = userRepository.findByUsername("user-02").orElseThrow();
+        usernameIndex.rebuild();
+
+        // when
+        usernameIndex.publish(UsernameIndexEvent.saved(user.getId(), "Alice_Kim"));
+
+        // then
+        assertThat(searchService.autocompleteUsernames("alice", 3)).containsExactly("Alice_Kim");
+        assertThat(searchService.autocompleteUsernames("ALICE_K", 3)).containsExactly("Alice_Kim");
+        assertThat(usernameIndex.idsContaining("CE_kI")).hasValue(List.of(user.getId()));
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 테스트: 검색 엔진 장애 시 전문 검색으로 대체")
+    void searchReviewTest_FallbackToFullText() {
+        // given
+        User user = userRepository.findByUsername("user-01").orElseThrow();
+        ReviewSearch request = new ReviewSearch(null, 0, 10, null, false);
+        ReflectionTestUtils.setField(reviewSearchEngine, "engine", ReviewSearchEngine.Engine.ELASTICSEARCH);
+        given(reviewSearchQueryRepository.searchReviewIds(any()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        Slice<ReviewDto.Response> responses = searchService.searchReviews(user.getId(), request);
+        searchService.searchReviews(user.getId(), request);
+
+        // then
+        assertThat(responses.getContent()).extracting("id")
+                .containsExactlyElementsOf(reviewRepository.searchReviewsByKeywordUsingFullText(request)
+                                                   .map(Review::getId).getContent());
+        verify(reviewSearchQueryRepository, times(1)).searchReviewIds(any());
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 테스트: 내장 Lucene 색인은 전문 검색과 같은 순서로 커서 페이징")
+    void searchReviewTest_Lucene(@TempDir Path path) throws IOException {
+        // given
+        User user = userRepository.findByUsername("user-01").orElseThrow();
+        ReflectionTestUtils.setField(luceneReviewIndex, "engine", ReviewSearchEngine.Engine.LUCENE);
+        ReflectionTestUtils.setField(luceneReviewIndex, "path", path.toString());
+        ReflectionTestUtils.setField(reviewSearchEngine, "engine", ReviewSearchEngine.Engine.LUCENE);
+        luceneReviewIndex.open();
+        luceneReviewIndex.rebuild();
+        ReviewSearch request = new ReviewSearch("review", 0, 4, RATING, false);
+
+        // when
+        Slice<ReviewDto.Response> first = searchService.searchReviews(user.getId(), request);
+        Slice<ReviewDto.Response> second = searchService.searchReviews(
+                user.getId(), new ReviewSearch("review", 0, 4, RATING, false, ((CursorSlice<?>) first).getNextCursor()));
+        Slice<ReviewDto.Response> relevance = searchService.searchReviews(
+                user.getId(), new ReviewSearch("review-03", 0, 10, RELEVANCE, false));
+        Slice<ReviewDto.Response> none = searchService.searchReviews(
+                user.getId(), new ReviewSearch("없는단어", 0, 10, null, false));
+        luceneReviewIndex.close();
+
+        // then
+        List<Long> expected = reviewRepository.searchReviewsByKeyword(new ReviewSearch("review", 0, 10, RATING, false))
+                .map(Review::getId).getContent();
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isFalse();
+        assertThat(Stream.concat(first.getContent().stream(), second.getContent().stream()))
+                .extracting("id").containsExactlyElementsOf(expected);
+        assertThat(relevance.getContent()).isNotEmpty();
+        assertThat(relevance.getContent().get(0).getContent()).isEqualTo("review-03");
+        assertThat(none.getContent()).isEmpty();
+        verify(reviewSearchQueryRepository, times(0)).searchReviewIds(any());
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 테스트: 내장 Lucene 색인은 놓친 변경을 재구성하며 DB와 맞춤")
+    void searchReviewTest_LuceneReconcile(@TempDir Path path) throws IOException {
+        // given
+        User user = userRepository.findByUsername("user-01").orElseThrow();
+        ReflectionTestUtils.setField(luceneReviewIndex, "engine", ReviewSearchEngine.Engine.LUCENE);
+        ReflectionTestUtils.setField(luceneReviewIndex, "path", path.toString());
+        luceneReviewIndex.open();
+        Review removed = reviewRepository.save(new Review(user, new PostRequest("removed", List.of(), 3, "restaurant")));
+        luceneReviewIndex.build();
+        Review missed = reviewRepository.save(new Review(user, new PostRequest("missed", List.of(), 3, "restaurant")));
+        reviewRepository.deleteAllByUserIdOrReviewIds(-1L, List.of(removed.getId()));
+        ReviewSearch request = new ReviewSearch(null, 0, 100, null, false);
+
+        // when
+        List<Long> before = luceneReviewIndex.searchReviewIds(request).getContent();
+        luceneReviewIndex.reconcile();
+        List<Long> after = luceneReviewIndex.searchReviewIds(request).getContent();
+        luceneReviewIndex.close();
+
+        // then
+        assertThat(before).contains(removed.getId()).doesNotContain(missed.getId());
+        assertThat(after).containsExactlyInAnyOrderElementsOf(
+                reviewRepository.findAll().stream().map(Review::getId).toList());
+        assertThat(after).contains(missed.getId()).doesNotContain(removed.getId());
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 테스트: 인기순 정렬은 랭킹 순서대로 반환")
+    void searchReviewTest_Trending() {
+        // given
+        User user = userRepository.findByUsername("user-01").orElseThrow();
+        List<Long> ranked = reviewRepository.findAll().stream().map(Review::getId)
+                .sorted(Comparator.reverseOrder()).limit(4).toList();
+        for (int i = 0; i < ranked.size(); i++)
+            trendingService.record(ReviewActivityEvent.views(ranked.get(i), 10L * (ranked.size() - i)));
+        ReviewSearch request = new ReviewSearch(null, 0, 3, TRENDING, false);
+
+        // when
+        Slice<ReviewDto.Response> first = searchService.searchReviews(user.getId(), request);
+        Slice<ReviewDto.Response> second = searchService.searchReviews(
+                user.getId(), new ReviewSearch(null, 0, 3, TRENDING, false, ((CursorSlice<?>) first).getNextCursor()));
+
+        // then
+        assertThat(first.getContent()).extracting("id").containsExactlyElementsOf(ranked.subList(0, 3));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting("id").containsExactly(ranked.get(3));
+        assertThat(second.hasNext()).isFalse();
+        verify(reviewSearchQueryRepository, times(0)).searchReviewIds(any());
+    }
 }
@@ -0,0 +1,191 @@
+package com.matzip.server.domain.trending.service;
+
+import com.matzip.server.domain.review.dto.ReviewDto.PostRequest;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.search.dto.SearchDto.ReviewSearch;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent;
+import com.matzip.server.domain.trending.model.ReviewActivityEvent.Activity;
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.global.common.dto.CursorSlice;
+import com.matzip.server.global.common.exception.InvalidCursorException;
+import com.matzip.server.global.common.model.Cursor;
+import com.matzip.server.global.config.TestRedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static com.matzip.server.domain.review.model.ReviewProperty.TRENDING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@SpringJUnitConfig(TestRedisConfig.class)
+@ActiveProfiles("test")
+@DisplayName("TrendingService 테스트")
+class TrendingServiceTest {
+    private static final String KEY = "trending:reviews";
+    private static final long HALF_LIFE_MILLIS = Duration.ofHours(24).toMillis();
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.flushDb();
+            return null;
+        });
+        ReviewRepository reviewRepository = mock(ReviewRepository.class);
+        given(reviewRepository.findAllById(any())).willAnswer(invocation -> StreamSupport
+                .stream(((Iterable<Long>) invocation.getArgument(0)).spliterator(), false)
+                .map(TrendingServiceTest::review)
+                .toList());
+        trendingService = new TrendingService(reviewRepository, redisTemplate);
+    }
+
+    private static Review review(Long id) {
+        User user = new User("user-01", "password");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Review review = new Review(user, new PostRequest("content", List.of(), 3, "restaurant"));
+        ReflectionTestUtils.setField(review, "id", id);
+        ReflectionTestUtils.setField(review, "createdAt", LocalDateTime.now());
+        return review;
+    }
+
+    private static long millisOf(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Double scoreOf(Long reviewId) {
+        return redisTemplate.opsForZSet().score(KEY, String.valueOf(reviewId));
+    }
+
+    private CursorSlice<Review> search(int size, String cursor) {
+        return trendingService.search(new ReviewSearch(null, 0, size, TRENDING, false, cursor));
+    }
+
+    private static List<Long> idsOf(CursorSlice<Review> slice) {
+        return slice.getContent().stream().map(Review::getId).toList();
+    }
+
+    @Test
+    @DisplayName("취소 테스트: 원래 활동 시점의 가중치만큼만 되돌림")
+    void undoTest() {
+        // given
+        LocalDateTime heartedAt = LocalDateTime.now().minusDays(2).withNano(0);
+        trendingService.record(ReviewActivityEvent.views(1L, 1));
+        Double viewsOnly = scoreOf(1L);
+        trendingService.record(new ReviewActivityEvent(1L, Activity.HEART, 1, millisOf(heartedAt)));
+        trendingService.record(new ReviewActivityEvent(2L, Activity.HEART, 1, millisOf(heartedAt)));
+
+        // when
+        trendingService.record(ReviewActivityEvent.undo(1L, Activity.HEART, heartedAt));
+        trendingService.record(ReviewActivityEvent.undo(2L, Activity.HEART, heartedAt));
+
+        // then
+        assertThat(scoreOf(1L)).isCloseTo(viewsOnly, within(viewsOnly * 1e-9));
+        assertThat(scoreOf(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("취소 테스트: 기준 시점을 옮긴 뒤에도 원래 가중치만큼 되돌림")
+    void undoTest_AfterRebase() {
+        // given
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForValue().set("trending:reviews:epoch", String.valueOf(now - 3 * HALF_LIFE_MILLIS));
+        LocalDateTime commentedAt = LocalDateTime.now().withNano(0);
+        trendingService.record(new ReviewActivityEvent(1L, Activity.COMMENT, 1, millisOf(commentedAt)));
+        trendingService.record(new ReviewActivityEvent(2L, Activity.COMMENT, 1, millisOf(commentedAt)));
+        trendingService.record(ReviewActivityEvent.views(2L, 1));
+        double before = scoreOf(2L);
+
+        // when
+        trendingService.rebase();
+        trendingService.record(ReviewActivityEvent.undo(1L, Activity.COMMENT, commentedAt));
+
+        // then
+        assertThat(Long.parseLong(redisTemplate.opsForValue().get("trending:reviews:epoch"))).isEqualTo(now);
+        assertThat(scoreOf(1L)).isNull();
+        assertThat(scoreOf(2L)).isEqualTo(before / 8);
+    }
+
+    @Test
+    @DisplayName("커서 테스트: 페이지 사이에 다른 리뷰의 순위가 바뀌어도 이어서 조회")
+    void searchTest_OtherScoresChanged() {
+        // given
+        for (long id = 1; id <= 5; id++) trendingService.record(ReviewActivityEvent.views(id, 60 - id * 10));
+        CursorSlice<Review> first = search(2, null);
+
+        // when
+        trendingService.record(ReviewActivityEvent.views(5L, 100));
+        CursorSlice<Review> second = search(2, first.getNextCursor());
+
+        // then
+        assertThat(idsOf(first)).containsExactly(1L, 2L);
+        assertThat(idsOf(second)).containsExactly(3L, 4L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 테스트: 마지막 리뷰의 점수가 바뀌면 이전 점수 다음부터 조회")
+    void searchTest_AnchorChanged() {
+        // given
+        for (long id = 1; id <= 5; id++) trendingService.record(ReviewActivityEvent.views(id, 60 - id * 10));
+        CursorSlice<Review> first = search(2, null);
+
+        // when
+        trendingService.record(ReviewActivityEvent.views(2L, 100));
+        CursorSlice<Review> second = search(2, first.getNextCursor());
+
+        // then
+        assertThat(idsOf(second)).containsExactly(3L, 4L);
+        assertThat(second.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 테스트: 점수가 같은 리뷰도 빠짐없이 한 번씩 조회")
+    void searchTest_Ties() {
+        // given
+        long now = System.currentTimeMillis();
+        for (long id = 1; id <= 5; id++) trendingService.record(new ReviewActivityEvent(id, Activity.VIEW, 10, now));
+
+        // when
+        CursorSlice<Review> first = search(2, null);
+        CursorSlice<Review> second = search(2, first.getNextCursor());
+        CursorSlice<Review> third = search(2, second.getNextCursor());
+
+        // then
+        assertThat(third.hasNext()).isFalse();
+        assertThat(List.of(idsOf(first), idsOf(second), idsOf(third)).stream().flatMap(List::stream))
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("커서 테스트: 순위 커서는 잘못된 커서로 처리")
+    void searchTest_InvalidCursor() {
+        // given
+        String cursor = Cursor.of(TRENDING, false, 2L, LocalDateTime.now(), 1L).encode();
+
+        // then
+        assertThatThrownBy(() -> search(2, cursor)).isInstanceOf(InvalidCursorException.class);
+    }
+}
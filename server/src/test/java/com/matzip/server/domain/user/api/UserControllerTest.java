@@ -1,6 +1,7 @@
 package com.matzip.server.domain.user.api;
 
 import com.matzip.server.domain.user.service.UserService;
+import com.matzip.server.global.common.model.Validator;
 import com.matzip.server.global.utils.ControllerParameters;
 import com.matzip.server.global.utils.ControllerParameters.SearchUser;
 import com.matzip.server.global.utils.TestParameterUtils.Pair;
@@ -22,6 +23,8 @@ import java.util.stream.Stream;
 import static com.matzip.server.global.common.exception.ErrorType.BadRequest.INVALID_PARAMETER;
 import static com.matzip.server.global.utils.TestParameterUtils.makeFieldList;
 import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -61,6 +64,7 @@ class UserControllerTest {
     @Test
     @DisplayName("회원 정보 조회 파라미터 검증")
     void fetchByUsernameValidation() throws Exception {
+        given(userService.fetchUserValidator(any(), any())).willReturn(Validator.of(null, "user"));
         List<Pair<Object, Integer>> usernames = Stream.of(
                 Stream.of(SearchUser.validUsernames).map(u -> new Pair<Object, Integer>(u, null)),
                 Stream.of(SearchUser.invalidUsernames).map(u -> new Pair<Object, Integer>(u, INVALID_PARAMETER.getCode()))
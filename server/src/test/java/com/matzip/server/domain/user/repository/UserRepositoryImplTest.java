@@ -2,6 +2,8 @@ package com.matzip.server.domain.user.repository;
 
 import com.matzip.server.domain.search.dto.SearchDto.UserSearch;
 import com.matzip.server.domain.user.model.User;
+import com.matzip.server.domain.user.model.UserProperty;
+import com.matzip.server.global.common.dto.CursorSlice;
 import com.matzip.server.global.config.TestQueryDslConfig;
 import com.matzip.server.global.utils.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,13 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 import static com.matzip.server.domain.user.model.UserProperty.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -131,4 +140,75 @@ class UserRepositoryImplTest {
         assertThat(users.getContent()).extracting("username")
                 .containsExactly("user-01", "user-02", "user-03", "user-04", "user-05");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 페이징 테스트: 팔로워 수 기준")
+    void cursorPagingTest() {
+        // given
+        UserSearch first = new UserSearch("user", 0, 2, NUMBER_OF_FOLLOWERS, false);
+
+        // when
+        CursorSlice<User> firstPage = (CursorSlice<User>) userRepository.searchUsersByUsername(first);
+        UserSearch second = new UserSearch("user", 0, 2, NUMBER_OF_FOLLOWERS, false, firstPage.getNextCursor());
+        CursorSlice<User> secondPage = (CursorSlice<User>) userRepository.searchUsersByUsername(second);
+
+        // then
+        assertThat(firstPage.getContent()).extracting("username").containsExactly("user-05", "user-02");
+        assertThat(secondPage.getContent()).extracting("username").containsExactly("user-01", "user-03");
+        assertThat(secondPage.hasNext()).isEqualTo(true);
+    }
+
+    private static List<String> readAll(Function<UserSearch, Slice<User>> search, UserProperty sort, boolean asc) {
+        List<String> usernames = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSlice<User> page = (CursorSlice<User>) search.apply(new UserSearch("user", 0, 2, sort, asc, cursor));
+            page.getContent().forEach(u -> usernames.add(u.getUsername()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return usernames;
+    }
+
+    @Test
+    @DisplayName("아이디 목록 검색 테스트: 메모리에서 정렬해도 DB 검색과 같은 순서로 커서 페이징")
+    void searchUsersByIdsTest() {
+        // given
+        List<Long> ids = userRepository.findAll().stream()
+                .filter(u -> u.getUsername().contains("user"))
+                .map(User::getId)
+                .toList();
+
+        for (UserProperty sort : Arrays.asList(null, USERNAME, MATZIP_LEVEL, NUMBER_OF_FOLLOWERS)) {
+            for (boolean asc : List.of(true, false)) {
+                // when
+                List<String> expected = readAll(userRepository::searchUsersByUsername, sort, asc);
+                List<String> actual = readAll(request -> userRepository.searchUsersByIds(request, ids), sort, asc);
+
+                // then
+                assertThat(actual).as("sort=%s asc=%s", sort, asc).hasSize(ids.size()).containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("아이디 목록 검색 테스트: 대소문자와 밑줄이 섞인 이름도 DB 콜레이션과 같은 순서로 정렬")
+    void searchUsersByIdsTest_MixedCaseUsernames() {
+        // given
+        userRepository.saveAll(Stream.of("User_b", "user.a", "USER9", "_user", "a_user", "Zuser", "user_Z", "userA")
+                                       .map(username -> new User(username, "password"))
+                                       .toList());
+        List<Long> ids = userRepository.findAll().stream()
+                .filter(u -> u.getUsername().toLowerCase(Locale.ROOT).contains("user"))
+                .map(User::getId)
+                .toList();
+
+        for (boolean asc : List.of(true, false)) {
+            // when
+            List<String> expected = readAll(userRepository::searchUsersByUsername, USERNAME, asc);
+            List<String> actual = readAll(request -> userRepository.searchUsersByIds(request, ids), USERNAME, asc);
+
+            // then
+            assertThat(actual).as("asc=%s", asc).hasSize(ids.size()).containsExactlyElementsOf(expected);
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.matzip.server.domain.user.service;
 
+import com.matzip.server.domain.feed.model.FollowEvent;
 import com.matzip.server.domain.record.service.RecordService;
+import com.matzip.server.domain.relation.service.RelationService;
+import com.matzip.server.domain.review.dto.ReviewDto;
+import com.matzip.server.domain.review.model.Review;
+import com.matzip.server.domain.review.repository.ReviewRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
+import com.matzip.server.domain.user.api.UserController;
 import com.matzip.server.domain.user.dto.UserDto.DetailedResponse;
 import com.matzip.server.domain.user.dto.UserDto.Response;
 import com.matzip.server.domain.user.exception.FollowMeException;
 import com.matzip.server.domain.user.model.User;
 import com.matzip.server.domain.user.repository.FollowRepository;
 import com.matzip.server.domain.user.repository.UserRepository;
+import com.matzip.server.global.common.model.Validator;
 import com.matzip.server.global.config.TestQueryDslConfig;
+import com.matzip.server.global.config.TestRelationConfig;
+import com.matzip.server.global.utils.QueryBudget;
 import com.matzip.server.global.utils.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,31 +26,50 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.annotation.PostConstruct;
+import java.util.Comparator;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import(TestQueryDslConfig.class)
+@Import({TestQueryDslConfig.class, TestRelationConfig.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
+@RecordApplicationEvents
 @DisplayName("UserService 테스트")
 class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
     @Autowired
     private FollowRepository followRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private ReviewResponseAssembler reviewResponseAssembler;
+    @Autowired
+    private RelationService relationService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private ApplicationEvents applicationEvents;
     @MockBean
     private RecordService recordService;
     private UserService userService;
 
     @PostConstruct
     void init() {
-        userService = new UserService(userRepository, followRepository, recordService);
+        userService = new UserService(userRepository, followRepository, recordService, reviewRepository,
+                                      reviewResponseAssembler, relationService, eventPublisher);
     }
 
     @BeforeEach
@@ -49,17 +78,48 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("회원 조회 테스트")
+    @QueryBudget(endpoint = UserController.class, method = "fetchUserByUsername")
+    @DisplayName("회원 조회 테스트: 검증자 조회를 포함해 엔드포인트의 쿼리 예산 안에서 조회")
     void fetchUserTest() {
         // given
         User user = userRepository.findByUsername("user-01").orElseThrow();
         String username = "user-02";
 
         // when
+        Validator validator = userService.fetchUserValidator(user.getId(), username);
         DetailedResponse response = userService.fetchUser(user.getId(), username);
 
         // then
+        User fetched = userRepository.findByUsername(username).orElseThrow();
+        assertThat(validator.etag()).isNotBlank();
         assertThat(response.getUsername()).isEqualTo(username);
+        assertThat(response.getNumberOfFollowers()).isEqualTo(fetched.getFollowers().size());
+        assertThat(response.getNumberOfFollowings()).isEqualTo(fetched.getFollowings().size());
+        assertThat(response.getIsMyFollowing())
+                .isEqualTo(fetched.getFollowers().stream().anyMatch(f -> f.getFollower() == user));
+        assertThat(response.getReviews().getCount()).isEqualTo(fetched.getReviews().size());
+    }
+
+    @Test
+    @DisplayName("회원 조회 테스트: 리뷰는 첫 페이지만 반환하고 나머지는 커서로 조회")
+    void fetchUserTest_PagedReviews() {
+        // given
+        User user = userRepository.findByUsername("user-01").orElseThrow();
+        User fetched = userRepository.findByUsername("user-01").orElseThrow();
+        List<Long> reviewIds = fetched.getReviews().stream().map(Review::getId)
+                .sorted(Comparator.reverseOrder()).toList();
+        ReflectionTestUtils.setField(userService, "profileReviewSize", 1);
+
+        // when
+        DetailedResponse response = userService.fetchUser(user.getId(), fetched.getUsername());
+        Slice<ReviewDto.Response> rest = userService.fetchUserReviews(
+                user.getId(), fetched.getUsername(), reviewIds.size(), response.getNextReviewsCursor());
+
+        // then
+        assertThat(response.getReviews().getData()).extracting("id").containsExactly(reviewIds.get(0));
+        assertThat(rest.getContent()).extracting("id")
+                .containsExactlyElementsOf(reviewIds.subList(1, reviewIds.size()));
+        assertThat(rest.hasNext()).isFalse();
     }
 
     @Test
@@ -88,6 +148,8 @@ class UserServiceTest {
         // then
         assertThat(response.getIsMyFollowing()).isTrue();
         assertThat(followee.getFollowers().size()).isEqualTo(beforeNumberOfFollowers + 1);
+        assertThat(applicationEvents.stream(FollowEvent.class))
+                .containsExactly(FollowEvent.changed(user.getId(), followee.getId()));
     }
 
     @Test
@@ -104,6 +166,7 @@ class UserServiceTest {
         // then
         assertThat(response.getIsMyFollowing()).isTrue();
         assertThat(followee.getFollowers().size()).isEqualTo(beforeNumberOfFollowers);
+        assertThat(applicationEvents.stream(FollowEvent.class)).isEmpty();
     }
 
     @Test
@@ -120,6 +183,8 @@ class UserServiceTest {
         // then
         assertThat(response.getIsMyFollowing()).isFalse();
         assertThat(followee.getFollowers().size()).isEqualTo(beforeNumberOfFollowers - 1);
+        assertThat(applicationEvents.stream(FollowEvent.class))
+                .containsExactly(FollowEvent.changed(user.getId(), followee.getId()));
     }
 
     @Test
@@ -137,4 +202,20 @@ class UserServiceTest {
         assertThat(response.getIsMyFollowing()).isFalse();
         assertThat(followee.getFollowers().size()).isEqualTo(beforeNumberOfFollowers);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회원 팔로우 테스트: 캐시된 관계가 팔로우 이후 갱신되는지")
+    void followUserTest_InvalidatesRelationCache() {
+        // given
+        User user = userRepository.findByUsername("user-01").orElseThrow();
+        User followee = userRepository.findByUsername("user-04").orElseThrow();
+        assertThat(userService.fetchUser(user.getId(), followee.getUsername()).getIsMyFollowing()).isFalse();
+
+        // when
+        userService.followUser(user.getId(), followee.getUsername());
+
+        // then
+        assertThat(relationService.isFollowing(user, followee)).isTrue();
+        assertThat(userService.fetchUser(user.getId(), followee.getUsername()).getIsMyFollowing()).isTrue();
+    }
+}
@@ -0,0 +1,25 @@
+package com.matzip.server.global.auth.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitPolicy 테스트")
+class RateLimitPolicyTest {
+    @Test
+    @DisplayName("정책 선택 테스트: 먼저 선언된 정책부터 메서드와 경로로 선택")
+    void ofTest() {
+        // then
+        assertThat(RateLimitPolicy.of(new MockHttpServletRequest("GET", "/api/v1/search/users/autocomplete")))
+                .isEqualTo(RateLimitPolicy.AUTOCOMPLETE);
+        assertThat(RateLimitPolicy.of(new MockHttpServletRequest("GET", "/api/v1/search/users")))
+                .isEqualTo(RateLimitPolicy.SEARCH);
+        assertThat(RateLimitPolicy.of(new MockHttpServletRequest("POST", "/api/v1/auth/login")))
+                .isEqualTo(RateLimitPolicy.AUTH);
+        assertThat(RateLimitPolicy.of(new MockHttpServletRequest("GET", "/api/v1/auth/refresh")))
+                .isEqualTo(RateLimitPolicy.DEFAULT);
+        assertThat(RateLimitPolicy.of(new MockHttpServletRequest("GET", "/actuator/health"))).isNull();
+    }
+}
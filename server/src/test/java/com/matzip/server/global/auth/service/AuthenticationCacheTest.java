@@ -0,0 +1,131 @@
+package com.matzip.server.global.auth.service;
+
+import com.matzip.server.global.auth.model.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("AuthenticationCache 테스트")
+class AuthenticationCacheTest {
+    private static final long TOKEN_EXPIRES_AT = Long.MAX_VALUE;
+
+    private StringRedisTemplate redisTemplate;
+    private AuthenticationCache authenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        authenticationCache = new AuthenticationCache(redisTemplate, mock(RedisMessageListenerContainer.class));
+    }
+
+    private void put(String token, Long userId) {
+        authenticationCache.put(token, userId, "user-" + userId, TOKEN_EXPIRES_AT, authenticationCache.generation());
+    }
+
+    @Test
+    @DisplayName("캐시 조회 테스트: 조회할 때마다 새 principal을 만듦")
+    void getTest() {
+        // given
+        put("token-1", 1L);
+
+        // when
+        UserPrincipal first = authenticationCache.get("token-1").orElseThrow();
+        first.setUserIp("10.0.0.1");
+        UserPrincipal second = authenticationCache.get("token-1").orElseThrow();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getUserId()).isEqualTo(1L);
+        assertThat(second.getUsername()).isEqualTo("user-1");
+        assertThat(second.getUserIp()).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 조회 테스트: 만료된 토큰은 제거")
+    void getTest_Expired() {
+        // given
+        authenticationCache.put("token-1", 1L, "user-1", System.currentTimeMillis() - 1, authenticationCache.generation());
+
+        // then
+        assertThat(authenticationCache.get("token-1")).isEmpty();
+        assertThat(authenticationCache.size()).isZero();
+        assertThat(authenticationCache.indexedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 저장 테스트: 검증하는 동안 무효화되면 저장하지 않음")
+    void putTest_InvalidatedWhileLoading() {
+        // given
+        long generation = authenticationCache.generation();
+        authenticationCache.invalidate(1L);
+
+        // when
+        authenticationCache.put("token-1", 1L, "user-1", TOKEN_EXPIRES_AT, generation);
+
+        // then
+        assertThat(authenticationCache.get("token-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화 테스트: 해당 유저의 토큰만 모두 제거하고 다른 인스턴스에 전파")
+    void invalidateTest() {
+        // given
+        put("token-1", 1L);
+        put("token-2", 1L);
+        put("token-3", 2L);
+
+        // when
+        authenticationCache.invalidate(1L);
+
+        // then
+        assertThat(authenticationCache.get("token-1")).isEmpty();
+        assertThat(authenticationCache.get("token-2")).isEmpty();
+        assertThat(authenticationCache.get("token-3")).isPresent();
+        assertThat(authenticationCache.indexedUsers()).isEqualTo(1);
+        verify(redisTemplate).convertAndSend(AuthenticationCache.CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("무효화 테스트: 다른 인스턴스에서 받은 무효화 메시지")
+    void onMessageTest() {
+        // given
+        put("token-1", 1L);
+
+        // when
+        authenticationCache.onMessage(
+                new DefaultMessage(AuthenticationCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                                   "1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(authenticationCache.get("token-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("용량 테스트: 가장 오래 쓰이지 않은 토큰을 밀어내고 유저 색인도 정리")
+    void evictionTest() {
+        // given
+        ReflectionTestUtils.setField(authenticationCache, "maxSize", 2);
+        put("token-1", 1L);
+        put("token-2", 2L);
+        authenticationCache.get("token-1");
+
+        // when
+        put("token-3", 3L);
+
+        // then
+        assertThat(authenticationCache.get("token-2")).isEmpty();
+        assertThat(authenticationCache.get("token-1")).isPresent();
+        assertThat(authenticationCache.size()).isEqualTo(2);
+        assertThat(authenticationCache.indexedUsers()).isEqualTo(2);
+    }
+}
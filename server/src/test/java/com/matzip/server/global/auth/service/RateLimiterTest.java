@@ -0,0 +1,163 @@
+package com.matzip.server.global.auth.service;
+
+import com.matzip.server.global.auth.model.RateLimitPolicy;
+import com.matzip.server.global.config.TestRedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig(TestRedisConfig.class)
+@ActiveProfiles("test")
+@DisplayName("RateLimiter 테스트")
+class RateLimiterTest {
+    @Autowired
+    private StringRedisTemplate sharedRedisTemplate;
+
+    private StringRedisTemplate redisTemplate;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        sharedRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.flushDb();
+            return null;
+        });
+        redisTemplate = mock(StringRedisTemplate.class);
+        rateLimiter = new RateLimiter(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트: 임대한 토큰은 Redis 없이 소비")
+    @SuppressWarnings("unchecked")
+    void acquireTest_Lease() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(5L);
+
+        // when
+        List<Long> waits = IntStream.range(0, 6)
+                .mapToObj(i -> rateLimiter.acquire(RateLimitPolicy.DEFAULT, "user:1")).toList();
+
+        // then
+        assertThat(waits).containsOnly(0L);
+        verify(redisTemplate, times(2))
+                .execute(any(RedisScript.class), eq(List.of("rate:default:user:1")), any(), any(), eq("5"), any());
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트: 임대 시간 동안 채워지는 토큰보다 많이 임대하지 않음")
+    void leaseSizeTest() {
+        // then
+        assertThat(rateLimiter.leaseSizeOf(RateLimitPolicy.DEFAULT)).isEqualTo(5);
+        assertThat(rateLimiter.leaseSizeOf(RateLimitPolicy.AUTOCOMPLETE)).isEqualTo(5);
+        assertThat(rateLimiter.leaseSizeOf(RateLimitPolicy.SEARCH)).isEqualTo(1);
+        assertThat(rateLimiter.leaseSizeOf(RateLimitPolicy.AUTH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트: 만료된 임대의 남은 토큰은 다음 요청 때 반납")
+    @SuppressWarnings("unchecked")
+    void acquireTest_ReturnUnspent() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(rateLimiter, "leaseMillis", 250L);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(5L);
+        rateLimiter.acquire(RateLimitPolicy.DEFAULT, "user:1");
+        rateLimiter.acquire(RateLimitPolicy.DEFAULT, "user:1");
+
+        // when
+        Thread.sleep(300);
+        rateLimiter.acquire(RateLimitPolicy.DEFAULT, "user:1");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(), any(), eq("5"), eq("0"));
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(), any(), eq("5"), eq("3"));
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트: 거절된 클라이언트는 재시도 시각까지 로컬에서 거절")
+    @SuppressWarnings("unchecked")
+    void acquireTest_Rejected() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(-800L);
+
+        // when
+        long first = rateLimiter.acquire(RateLimitPolicy.SEARCH, "ip:127.0.0.1");
+        long second = rateLimiter.acquire(RateLimitPolicy.SEARCH, "ip:127.0.0.1");
+
+        // then
+        assertThat(first).isEqualTo(800L);
+        assertThat(second).isPositive().isLessThanOrEqualTo(800L);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트: Redis 장애 시 요청 허용")
+    @SuppressWarnings("unchecked")
+    void acquireTest_RedisUnavailable() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        long wait = rateLimiter.acquire(RateLimitPolicy.AUTH, "ip:127.0.0.1");
+
+        // then
+        assertThat(wait).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트: Redis 버킷은 용량만큼 허용한 뒤 채워지는 시간만큼 거절")
+    void acquireTest_Redis() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(sharedRedisTemplate);
+        int capacity = RateLimitPolicy.AUTH.getCapacity();
+
+        // when
+        List<Long> allowed = IntStream.range(0, capacity)
+                .mapToObj(i -> rateLimiter.acquire(RateLimitPolicy.AUTH, "ip:127.0.0.1")).toList();
+        long rejected = rateLimiter.acquire(RateLimitPolicy.AUTH, "ip:127.0.0.1");
+
+        // then
+        assertThat(allowed).containsOnly(0L);
+        assertThat(rejected).isPositive().isLessThanOrEqualTo((long) (1000 / RateLimitPolicy.AUTH.getRefillPerSecond()));
+        assertThat(sharedRedisTemplate.getExpire("rate:auth:ip:127.0.0.1")).isPositive();
+        assertThat(rateLimiter.acquire(RateLimitPolicy.AUTH, "ip:127.0.0.2")).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트: 여러 서버가 같은 Redis 버킷을 나눠 씀")
+    void acquireTest_RedisSharedAcrossInstances() {
+        // given
+        RateLimiter first = new RateLimiter(sharedRedisTemplate);
+        RateLimiter second = new RateLimiter(sharedRedisTemplate);
+        int capacity = RateLimitPolicy.AUTH.getCapacity();
+
+        // when
+        List<Long> allowed = IntStream.range(0, capacity)
+                .mapToObj(i -> (i % 2 == 0 ? first : second).acquire(RateLimitPolicy.AUTH, "ip:127.0.0.1")).toList();
+
+        // then
+        assertThat(allowed).containsOnly(0L);
+        assertThat(first.acquire(RateLimitPolicy.AUTH, "ip:127.0.0.1")).isPositive();
+        assertThat(second.acquire(RateLimitPolicy.AUTH, "ip:127.0.0.1")).isPositive();
+    }
+}
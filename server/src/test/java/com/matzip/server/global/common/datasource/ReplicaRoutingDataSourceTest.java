@@ -0,0 +1,149 @@
+package com.matzip.server.global.common.datasource;
+
+import com.matzip.server.domain.user.model.User;
+import com.matzip.server.global.auth.model.MatzipAuthenticationToken;
+import com.matzip.server.global.auth.model.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_UNKNOWN;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+    private StringRedisTemplate redisTemplate;
+    private Replica first;
+    private Replica second;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(redisTemplate, mock(RedisMessageListenerContainer.class));
+        first = new Replica("replica-0", mock(DataSource.class));
+        second = new Replica("replica-1", mock(DataSource.class));
+        routingDataSource = new ReplicaRoutingDataSource(
+                mock(DataSource.class), List.of(first, second), tracker, new SimpleMeterRegistry(), 1, 1000);
+
+        User user = new User("user-01", "password");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        UserPrincipal principal = new UserPrincipal(user);
+        principal.setUserIp("127.0.0.1");
+        SecurityContextHolder.getContext().setAuthentication(new MatzipAuthenticationToken(principal));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(STATUS_UNKNOWN));
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("라우팅 테스트: 읽기 전용 트랜잭션은 복제본에 번갈아 라우팅")
+    void routeTest_ReadOnly() {
+        // given
+        first.update(0L);
+        second.update(1L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        List<Object> targets = IntStream.range(0, 4).mapToObj(i -> routingDataSource.determineCurrentLookupKey()).toList();
+
+        // then
+        assertThat(targets).containsExactlyInAnyOrder("replica-0", "replica-1", "replica-0", "replica-1");
+    }
+
+    @Test
+    @DisplayName("라우팅 테스트: 복제가 멈추거나 지연된 복제본은 제외하고 없으면 primary")
+    void routeTest_Lag() {
+        // given
+        first.update(null);
+        second.update(5L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object lagging = routingDataSource.determineCurrentLookupKey();
+        second.update(0L);
+        Object caughtUp = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(lagging).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(caughtUp).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("라우팅 테스트: 마지막 확인이 오래된 복제본은 제외")
+    void routeTest_StaleStatus() {
+        // given
+        first.update(0L);
+        second.update(0L);
+        ReflectionTestUtils.setField(first, "checkedAt", System.currentTimeMillis() - 10_000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        List<Object> targets = IntStream.range(0, 2).mapToObj(i -> routingDataSource.determineCurrentLookupKey()).toList();
+
+        // then
+        assertThat(targets).containsOnly("replica-1");
+    }
+
+    @Test
+    @DisplayName("라우팅 테스트: 복제본에서 읽은 트랜잭션은 끝날 때까지 표시")
+    void routeTest_ReplicaReadMarked() {
+        // given
+        first.update(0L);
+        second.update(0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        routingDataSource.determineCurrentLookupKey();
+        boolean during = ReplicaRoutingDataSource.isReadingFromReplica();
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(STATUS_COMMITTED));
+        boolean after = ReplicaRoutingDataSource.isReadingFromReplica();
+
+        // then
+        assertThat(during).isTrue();
+        assertThat(after).isFalse();
+    }
+
+    @Test
+    @DisplayName("라우팅 테스트: 쓰기 트랜잭션 커밋 후에는 본인의 읽기를 primary로 라우팅")
+    void routeTest_ReadYourWrites() {
+        // given
+        first.update(0L);
+        second.update(0L);
+
+        // when
+        Object write = routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Object read = routingDataSource.determineCurrentLookupKey();
+        SecurityContextHolder.clearContext();
+        Object othersRead = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(write).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(read).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(othersRead).isIn("replica-0", "replica-1");
+        verify(redisTemplate).convertAndSend(eq(ReadYourWritesTracker.CHANNEL), eq("user:1\nip:127.0.0.1"));
+    }
+}
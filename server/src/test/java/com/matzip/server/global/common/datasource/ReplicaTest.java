@@ -0,0 +1,128 @@
+package com.matzip.server.global.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Replica 테스트")
+class ReplicaTest {
+    private static final long MAX_AGE_MILLIS = 60_000;
+
+    private DataSource dataSource;
+    private Statement statement;
+    private Replica replica;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        replica = new Replica("replica-0", dataSource);
+    }
+
+    private ResultSet status(String column, Long lag) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        given(resultSet.next()).willReturn(true, false);
+        given(resultSet.getLong(column)).willReturn(lag == null ? 0 : lag);
+        given(resultSet.wasNull()).willReturn(lag == null);
+        return resultSet;
+    }
+
+    @Test
+    @DisplayName("복제 상태 확인 테스트: 지연 시간을 읽음")
+    void checkTest() throws SQLException {
+        // given
+        given(statement.executeQuery("SHOW REPLICA STATUS")).willReturn(status("Seconds_Behind_Source", 2L));
+
+        // when
+        replica.check();
+
+        // then
+        assertThat(replica.getLagSeconds()).isEqualTo(2);
+        assertThat(replica.isAvailable(2, MAX_AGE_MILLIS)).isTrue();
+        assertThat(replica.isAvailable(1, MAX_AGE_MILLIS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("복제 상태 확인 테스트: 지연 시간이 NULL이면 복제가 멈춘 것으로 간주")
+    void checkTest_NullLag() throws SQLException {
+        // given
+        given(statement.executeQuery("SHOW REPLICA STATUS")).willReturn(status("Seconds_Behind_Source", null));
+
+        // when
+        replica.check();
+
+        // then
+        assertThat(replica.isReplicating()).isFalse();
+        assertThat(replica.isAvailable(Long.MAX_VALUE, MAX_AGE_MILLIS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("복제 상태 확인 테스트: 상태 행이 없으면 지연 없는 것으로 간주")
+    void checkTest_NoStatusRows() throws SQLException {
+        // given
+        ResultSet empty = mock(ResultSet.class);
+        given(statement.executeQuery("SHOW REPLICA STATUS")).willReturn(empty);
+
+        // when
+        replica.check();
+
+        // then
+        assertThat(replica.getLagSeconds()).isZero();
+        assertThat(replica.isAvailable(0, MAX_AGE_MILLIS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("복제 상태 확인 테스트: 새 명령을 모르는 서버는 이전 명령으로 대체하고 계속 사용")
+    void checkTest_LegacyCommand() throws SQLException {
+        // given
+        given(statement.executeQuery("SHOW REPLICA STATUS"))
+                .willThrow(new SQLSyntaxErrorException("You have an error in your SQL syntax", "42000", 1064));
+        given(statement.executeQuery("SHOW SLAVE STATUS"))
+                .willReturn(status("Seconds_Behind_Master", 3L), status("Seconds_Behind_Master", 0L));
+
+        // when
+        replica.check();
+        long first = replica.getLagSeconds();
+        replica.check();
+
+        // then
+        assertThat(replica.isLegacyStatus()).isTrue();
+        assertThat(first).isEqualTo(3);
+        assertThat(replica.getLagSeconds()).isZero();
+        verify(statement, times(1)).executeQuery("SHOW REPLICA STATUS");
+        verify(statement, times(2)).executeQuery("SHOW SLAVE STATUS");
+    }
+
+    @Test
+    @DisplayName("복제 상태 확인 테스트: 접속할 수 없으면 복제본을 제외")
+    void checkTest_Unreachable() throws SQLException {
+        // given
+        given(statement.executeQuery("SHOW REPLICA STATUS")).willReturn(status("Seconds_Behind_Source", 0L));
+        replica.check();
+        given(dataSource.getConnection()).willThrow(new SQLException("Connection refused"));
+
+        // when
+        replica.check();
+
+        // then
+        assertThat(replica.isAvailable(Long.MAX_VALUE, MAX_AGE_MILLIS)).isFalse();
+        verify(statement, never()).executeQuery("SHOW SLAVE STATUS");
+    }
+}
@@ -0,0 +1,96 @@
+package com.matzip.server.global.config;
+
+import com.matzip.server.domain.user.exception.UserNotFoundException;
+import com.matzip.server.global.common.logger.Logging;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoggerConfig 테스트")
+class LoggerConfigTest {
+    private SimpleMeterRegistry meterRegistry;
+    private LoggerConfigTestController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new LoggerConfigTestController(meterRegistry));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggerConfig(meterRegistry));
+        controller = proxyFactory.getProxy();
+    }
+
+    private Timer latency(String endpoint, String outcome) {
+        return meterRegistry.get("matzip.endpoint.latency").tag("endpoint", endpoint).tag("outcome", outcome).timer();
+    }
+
+    @Test
+    @DisplayName("엔드포인트 지표 테스트: 성공한 호출은 엔드포인트와 결과로 태그한 타이머, 쿼리 수, 처리 중 게이지에 기록")
+    void logMethodTest_Success() {
+        // when
+        double inFlight = controller.fetch(1L, "user-01");
+        controller.fetch(1L, "user-01");
+
+        // then
+        assertThat(inFlight).isEqualTo(1.0);
+        assertThat(latency("GET /test", "success").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("matzip.endpoint.in.flight").tag("endpoint", "GET /test").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("matzip.endpoint.queries").tag("endpoint", "GET /test").summary().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.find("matzip.endpoint.errors").counters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("엔드포인트 지표 테스트: 실패한 호출은 클라이언트와 서버 오류로 나눠 재고 오류 유형별로 셈")
+    void logMethodTest_Failure() {
+        // given
+        UserNotFoundException notFound = new UserNotFoundException("user-99");
+        IllegalStateException crash = new IllegalStateException("boom");
+
+        // when
+        assertThatThrownBy(() -> controller.fail(1L, "user-01", notFound)).isSameAs(notFound);
+        assertThatThrownBy(() -> controller.fail(1L, "user-01", notFound)).isSameAs(notFound);
+        assertThatThrownBy(() -> controller.fail(1L, "user-01", crash)).isSameAs(crash);
+
+        // then
+        assertThat(latency("POST /test", "client_error").count()).isEqualTo(2);
+        assertThat(latency("POST /test", "server_error").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("matzip.endpoint.errors")
+                           .tag("endpoint", "POST /test").tag("error_type", notFound.getErrorType().toString())
+                           .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("matzip.endpoint.errors")
+                           .tag("endpoint", "POST /test").tag("error_type", "IllegalStateException")
+                           .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("matzip.endpoint.latency").tag("endpoint", "GET /test").timers()).isEmpty();
+    }
+}
+
+/**
+ * Matched by the {@code *Controller} pointcut of {@link LoggerConfig}; the first two parameters are the current user
+ * id and username like those of the real controllers.
+ */
+class LoggerConfigTestController {
+    private final MeterRegistry meterRegistry;
+
+    LoggerConfigTestController(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Logging(endpoint = "GET /test")
+    public double fetch(Long myId, String myUsername) {
+        return meterRegistry.get("matzip.endpoint.in.flight").tag("endpoint", "GET /test").gauge().value();
+    }
+
+    @Logging(endpoint = "POST /test")
+    public void fail(Long myId, String myUsername, RuntimeException e) {
+        throw e;
+    }
+}
@@ -0,0 +1,48 @@
+package com.matzip.server.global.config;
+
+import com.matzip.server.domain.comment.repository.CommentRepository;
+import com.matzip.server.domain.relation.service.RelationService;
+import com.matzip.server.domain.review.repository.HeartRepository;
+import com.matzip.server.domain.review.repository.ScrapRepository;
+import com.matzip.server.domain.review.service.ReviewResponseAssembler;
+import com.matzip.server.domain.user.repository.FollowRepository;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@TestConfiguration
+public class TestRelationConfig {
+    @Bean
+    @SuppressWarnings("unchecked")
+    public StringRedisTemplate stringRedisTemplate() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        given(redisTemplate.opsForValue()).willReturn(mock(ValueOperations.class));
+        return redisTemplate;
+    }
+
+    @Bean
+    public RelationService relationService(
+            HeartRepository heartRepository,
+            ScrapRepository scrapRepository,
+            FollowRepository followRepository,
+            StringRedisTemplate stringRedisTemplate
+    ) {
+        return new RelationService(heartRepository, scrapRepository, followRepository, stringRedisTemplate,
+                                   mock(RedisMessageListenerContainer.class));
+    }
+
+    @Bean
+    public ReviewResponseAssembler reviewResponseAssembler(
+            ScrapRepository scrapRepository,
+            CommentRepository commentRepository,
+            FollowRepository followRepository,
+            RelationService relationService
+    ) {
+        return new ReviewResponseAssembler(scrapRepository, commentRepository, followRepository, relationService);
+    }
+}
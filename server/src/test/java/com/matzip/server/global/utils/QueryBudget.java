@@ -0,0 +1,28 @@
+package com.matzip.server.global.utils;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Fails the test when its body sends more SQL statements than its budget. Statements of {@code @BeforeEach}
+ * methods are flushed before counting starts and are not counted.
+ * <p>
+ * Tests that replay an endpoint should name it with {@link #endpoint()} and {@link #method()}, so the budget is
+ * the {@link com.matzip.server.global.common.logger.Logging#queryBudget()} the controller declares rather than a
+ * copy that can drift from it.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+    int value() default -1;
+
+    Class<?> endpoint() default void.class;
+
+    String method() default "";
+}
@@ -0,0 +1,54 @@
+package com.matzip.server.global.utils;
+
+import com.matzip.server.global.common.logger.Logging;
+import com.matzip.server.global.common.logger.QueryCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SpringExtension.getApplicationContext(context).getBeanProvider(TestEntityManager.class).ifAvailable(em -> {
+            em.flush();
+            em.clear();
+        });
+        context.getStore(NAMESPACE).put(QueryCounter.Count.class, QueryCounter.start(true));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter.Count count = context.getStore(NAMESPACE).remove(QueryCounter.Count.class, QueryCounter.Count.class);
+        QueryCounter.stop(count);
+        if (context.getExecutionException().isPresent()) return;
+
+        int budget = budgetOf(context.getRequiredTestMethod().getAnnotation(QueryBudget.class));
+        if (count.getQueries() > budget) {
+            throw new AssertionError(
+                    "Sent " + count.getQueries() + " SQL statements, over the budget of " + budget + ":\n" +
+                    count.getStatements().stream().map(s -> "  " + s).collect(Collectors.joining("\n")));
+        }
+    }
+
+    private static int budgetOf(QueryBudget queryBudget) {
+        if (queryBudget.endpoint() == void.class) {
+            if (queryBudget.value() < 0) throw new IllegalStateException("@QueryBudget needs a value or an endpoint");
+            return queryBudget.value();
+        }
+        return Arrays.stream(queryBudget.endpoint().getDeclaredMethods())
+                .filter(m -> m.getName().equals(queryBudget.method()))
+                .map(m -> m.getAnnotation(Logging.class))
+                .filter(logging -> logging != null && logging.queryBudget() >= 0)
+                .map(Logging::queryBudget)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        queryBudget.endpoint().getSimpleName() + "#" + queryBudget.method() + " declares no query budget"));
+    }
+}